@@ -25,6 +25,15 @@ import static org.assertj.db.util.Descriptions.getColumnValueDescription;
 
 /**
  * Base class for all {@link Column}s assertions.
+ * <p>
+ * On a column of a {@link Table} whose the rows are not loaded, the assertions on the number of rows, on the nullity
+ * and on the content of the values are first checked by the database with an aggregate request, without loading the
+ * rows (see {@link Column#getRowsCount()}, {@link Column#isProvedWithOnlyNullValues()},
+ * {@link Column#isProvedWithOnlyNotNullValues()} and {@link Column#isProvedToContainValues(Object[], ValueType...)}).
+ * Each of these assertions reads the database when it is called : the assertions of a chain can see different states
+ * of the database, and a state different from the rows loaded after. To check all the assertions on the same state,
+ * load the rows before (with {@link AbstractDbData#getRowsList()} for example).
+ * </p>
  *
  * @author Régis Pouiller
  * @author Otoniel Isidoro
@@ -93,6 +102,19 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
     return column.getValuesList();
   }
 
+  /**
+   * Returns the number of rows of the column.
+   * <p>
+   * If the values of the column are not loaded, the rows are counted by the database (see
+   * {@link Column#getRowsCount()}).
+   * </p>
+   *
+   * @return The number of rows.
+   */
+  private int getRowsCount() {
+    return column.getRowsCount();
+  }
+
   /** {@inheritDoc} */
   @Override
   public C isEmpty() {
@@ -102,31 +124,31 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
   /** {@inheritDoc} */
   @Override
   public C hasNumberOfRows(int expected) {
-    return AssertionsOnNumberOfRows.hasNumberOfRows(myself, info, column.getValuesList().size(), expected);
+    return AssertionsOnNumberOfRows.hasNumberOfRows(myself, info, getRowsCount(), expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasNumberOfRowsGreaterThan(int expected) {
-    return AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThan(myself, info, column.getValuesList().size(), expected);
+    return AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThan(myself, info, getRowsCount(), expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasNumberOfRowsLessThan(int expected) {
-    return AssertionsOnNumberOfRows.hasNumberOfRowsLessThan(myself, info, column.getValuesList().size(), expected);
+    return AssertionsOnNumberOfRows.hasNumberOfRowsLessThan(myself, info, getRowsCount(), expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasNumberOfRowsGreaterThanOrEqualTo(int expected) {
-    return AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThanOrEqualTo(myself, info, column.getValuesList().size(), expected);
+    return AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThanOrEqualTo(myself, info, getRowsCount(), expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasNumberOfRowsLessThanOrEqualTo(int expected) {
-    return AssertionsOnNumberOfRows.hasNumberOfRowsLessThanOrEqualTo(myself, info, column.getValuesList().size(), expected);
+    return AssertionsOnNumberOfRows.hasNumberOfRowsLessThanOrEqualTo(myself, info, getRowsCount(), expected);
   }
 
   /** {@inheritDoc} */
@@ -198,12 +220,18 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
   /** {@inheritDoc} */
   @Override
   public C hasOnlyNullValues() {
+    if (column.isProvedWithOnlyNullValues()) {
+      return myself;
+    }
     return AssertionsOnValuesNullity.hasOnlyNullValues(myself, info, getValuesList());
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasOnlyNotNullValues() {
+    if (column.isProvedWithOnlyNotNullValues()) {
+      return myself;
+    }
     return AssertionsOnValuesNullity.hasOnlyNotNullValues(myself, info, getValuesList());
   }
 
@@ -270,63 +298,106 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
   /** {@inheritDoc} */
   @Override
   public C containsValues(Object... expected) {
+    if (isProvedByAggregation(expected)) {
+      return myself;
+    }
     return AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public C containsValues(Boolean... expected) {
+    if (isProvedByAggregation(expected, ValueType.BOOLEAN, ValueType.NOT_IDENTIFIED)) {
+      return myself;
+    }
     return AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public C containsValues(Number... expected) {
+    if (isProvedByAggregation(expected, ValueType.NUMBER, ValueType.NOT_IDENTIFIED)) {
+      return myself;
+    }
     return AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public C containsValues(byte[]... expected) {
+    if (isProvedByAggregation(expected, ValueType.BYTES, ValueType.NOT_IDENTIFIED)) {
+      return myself;
+    }
     return AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public C containsValues(String... expected) {
+    if (isProvedByAggregation(expected, ValueType.TEXT, ValueType.NUMBER, ValueType.DATE, ValueType.TIME,
+                              ValueType.DATE_TIME, ValueType.UUID, ValueType.NOT_IDENTIFIED)) {
+      return myself;
+    }
     return AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public C containsValues(Character... expected) {
+    if (isProvedByAggregation(expected, ValueType.TEXT, ValueType.NOT_IDENTIFIED)) {
+      return myself;
+    }
     return AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public C containsValues(UUID... expected) {
+    if (isProvedByAggregation(expected, ValueType.UUID, ValueType.NOT_IDENTIFIED)) {
+      return myself;
+    }
     return AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public C containsValues(DateValue... expected) {
+    if (isProvedByAggregation(expected, ValueType.DATE, ValueType.DATE_TIME, ValueType.NOT_IDENTIFIED)) {
+      return myself;
+    }
     return AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public C containsValues(TimeValue... expected) {
+    if (isProvedByAggregation(expected, ValueType.TIME, ValueType.NOT_IDENTIFIED)) {
+      return myself;
+    }
     return AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public C containsValues(DateTimeValue... expected) {
+    if (isProvedByAggregation(expected, ValueType.DATE, ValueType.DATE_TIME, ValueType.NOT_IDENTIFIED)) {
+      return myself;
+    }
     return AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected);
   }
 
+  /**
+   * Returns if the database proves that the column contains the expected values (see
+   * {@link Column#isProvedToContainValues(Object[], ValueType...)}).
+   *
+   * @param expected     The expected values.
+   * @param allowedTypes The types allowed for the values (if empty, all the types are allowed).
+   * @return {@code true} if it is proved, {@code false} if the assertion must be done on the values in memory.
+   */
+  private boolean isProvedByAggregation(Object[] expected, ValueType... allowedTypes) {
+    return column.isProvedToContainValues(expected, allowedTypes);
+  }
+
   /** {@inheritDoc} */
   @Override
   public C hasColumnName(String columnName) {
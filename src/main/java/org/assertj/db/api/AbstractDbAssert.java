@@ -12,10 +12,13 @@
  */
 package org.assertj.db.api;
 
+import org.assertj.core.api.Condition;
 import org.assertj.db.api.assertions.AssertOnNumberOfColumns;
 import org.assertj.db.api.assertions.AssertOnNumberOfRows;
+import org.assertj.db.api.assertions.AssertOnRowCondition;
 import org.assertj.db.api.assertions.impl.AssertionsOnNumberOfColumns;
 import org.assertj.db.api.assertions.impl.AssertionsOnNumberOfRows;
+import org.assertj.db.api.assertions.impl.AssertionsOnRowCondition;
 import org.assertj.db.navigation.Position;
 import org.assertj.db.navigation.PositionWithColumns;
 import org.assertj.db.navigation.origin.OriginWithColumnsAndRows;
@@ -23,6 +26,7 @@ import org.assertj.db.type.AbstractDbData;
 import org.assertj.db.type.Column;
 import org.assertj.db.type.Row;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.db.util.Descriptions.getColumnDescription;
@@ -44,7 +48,8 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
         extends AbstractAssert<A>
         implements OriginWithColumnsAndRows<C, R>,
                    AssertOnNumberOfColumns<A>,
-                   AssertOnNumberOfRows<A> {
+                   AssertOnNumberOfRows<A>,
+                   AssertOnRowCondition<A> {
 
   /**
    * The actual value on which the assertion is.
@@ -73,8 +78,7 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
     actual = actualValue;
     columnPosition = new PositionWithColumns<A, C, Column>(selfType.cast(this), columnAssertType) {
       @Override protected String getDescription(int index) {
-        List<String> columnsNameList = actual.getColumnsNameList();
-        String columnName = columnsNameList.get(index);
+        String columnName = actual.getColumnsList().get(index).getName();
         return getColumnDescription(myself.getInfo(), index, columnName);
       }
     };
@@ -112,7 +116,12 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
   /** {@inheritDoc} */
   @Override
   public C column(String columnName) {
-    return columnPosition.getInstance(actual.getColumnsList(), actual.getColumnsNameList(), columnName, actual.getColumnLetterCase());
+    List<Column> columnsList = actual.getColumnsList();
+    List<String> columnsNameList = new ArrayList<>(columnsList.size());
+    for (Column column : columnsList) {
+      columnsNameList.add(column.getName());
+    }
+    return columnPosition.getInstance(columnsList, columnsNameList, columnName, actual.getColumnLetterCase());
   }
 
   /** {@inheritDoc} */
@@ -124,40 +133,35 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfRows(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
+    int size = actual.getRowsCount();
     return AssertionsOnNumberOfRows.hasNumberOfRows(myself, info, size, expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfRowsGreaterThan(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
+    int size = actual.getRowsCount();
     return AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThan(myself, info, size, expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfRowsLessThan(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
+    int size = actual.getRowsCount();
     return AssertionsOnNumberOfRows.hasNumberOfRowsLessThan(myself, info, size, expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfRowsGreaterThanOrEqualTo(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
+    int size = actual.getRowsCount();
     return AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThanOrEqualTo(myself, info, size, expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfRowsLessThanOrEqualTo(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
+    int size = actual.getRowsCount();
     return AssertionsOnNumberOfRows.hasNumberOfRowsLessThanOrEqualTo(myself, info, size, expected);
   }
 
@@ -200,4 +204,22 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
     int size = columnsNameList.size();
     return AssertionsOnNumberOfColumns.hasNumberOfColumnsLessThanOrEqualTo(myself, info, size, expected);
   }
+
+  /** {@inheritDoc} */
+  @Override
+  public A allRowsSatisfy(Condition<? super Row> condition) {
+    return AssertionsOnRowCondition.allRowsSatisfy(myself, info, actual, condition);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public A anyRowSatisfies(Condition<? super Row> condition) {
+    return AssertionsOnRowCondition.anyRowSatisfies(myself, info, actual, condition);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public A noRowSatisfies(Condition<? super Row> condition) {
+    return AssertionsOnRowCondition.noRowSatisfies(myself, info, actual, condition);
+  }
 }
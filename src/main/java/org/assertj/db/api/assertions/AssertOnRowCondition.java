@@ -0,0 +1,94 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Condition;
+import org.assertj.db.type.Row;
+
+/**
+ * Defines the assertion methods on the rows with a condition.
+ * <p>
+ * The rows are read one by one from the database and evaluated when they are read : they are not kept in memory and
+ * the reading stops at the first row which proves the result of the assertion. The rows are read in the order of the
+ * database, so a failing row is reported with the values of its primary keys. If the rows are already loaded, the
+ * loaded rows are evaluated instead (without reading the database again) and a failing row is reported with its index
+ * (like for {@code row(int)}).
+ * </p>
+ *
+ * @param <T> The "self" type of this assertion class. Please read &quot;<a href="http://bit.ly/1IZIRcY"
+ *            target="_blank">Emulating 'self types' using Java Generics to simplify fluent API implementation</a>&quot;
+ *            for more details.
+ * @author Régis Pouiller
+ * @since 1.3.0
+ */
+public interface AssertOnRowCondition<T extends AssertOnRowCondition<T>> {
+
+  /**
+   * Verifies that all the rows satisfy the condition in parameter.
+   * <p>
+   * Example where the assertion verifies that all the rows of the table satisfy the condition :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * Condition&lt;Row&gt; recent = new Condition&lt;Row&gt;() {
+   *   public boolean matches(Row row) {
+   *     return ((Number) row.getColumnValue("year").getValue()).intValue() &gt; 1970;
+   *   }
+   * };
+   * assertThat(table).allRowsSatisfy(recent);
+   * </code></pre>
+   *
+   * @param condition The condition to satisfy.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a row does not satisfy the condition.
+   * @throws NullPointerException If {@code condition} is {@code null}.
+   * @see org.assertj.db.api.AbstractDbAssert#allRowsSatisfy(Condition)
+   */
+  T allRowsSatisfy(Condition<? super Row> condition);
+
+  /**
+   * Verifies that at least one row satisfies the condition in parameter.
+   * <p>
+   * Example where the assertion verifies that a row of the table satisfies the condition :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).anyRowSatisfies(recent);
+   * </code></pre>
+   *
+   * @param condition The condition to satisfy.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If no row satisfies the condition.
+   * @throws NullPointerException If {@code condition} is {@code null}.
+   * @see org.assertj.db.api.AbstractDbAssert#anyRowSatisfies(Condition)
+   */
+  T anyRowSatisfies(Condition<? super Row> condition);
+
+  /**
+   * Verifies that no row satisfies the condition in parameter.
+   * <p>
+   * Example where the assertion verifies that no row of the table satisfies the condition :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).noRowSatisfies(recent);
+   * </code></pre>
+   *
+   * @param condition The condition to not satisfy.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a row satisfies the condition.
+   * @throws NullPointerException If {@code condition} is {@code null}.
+   * @see org.assertj.db.api.AbstractDbAssert#noRowSatisfies(Condition)
+   */
+  T noRowSatisfies(Condition<? super Row> condition);
+}
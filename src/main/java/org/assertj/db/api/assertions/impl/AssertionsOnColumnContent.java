@@ -37,6 +37,96 @@ public class AssertionsOnColumnContent {
    * To notice failures in the assertion.
    */
   private final static Failures failures = Failures.instance();
+  /**
+   * Equality between the values and objects.
+   */
+  private final static ValuesMultiset.Equality<Object> OBJECT_EQUALITY = new ValuesMultiset.Equality<Object>() {
+    @Override
+    public boolean areEqual(Value value, Object expected) {
+      return Values.areEqual(value, expected);
+    }
+  };
+  /**
+   * Equality between the values and booleans.
+   */
+  private final static ValuesMultiset.Equality<Boolean> BOOLEAN_EQUALITY = new ValuesMultiset.Equality<Boolean>() {
+    @Override
+    public boolean areEqual(Value value, Boolean expected) {
+      return Values.areEqual(value, expected);
+    }
+  };
+  /**
+   * Equality between the values and numbers.
+   */
+  private final static ValuesMultiset.Equality<Number> NUMBER_EQUALITY = new ValuesMultiset.Equality<Number>() {
+    @Override
+    public boolean areEqual(Value value, Number expected) {
+      return Values.areEqual(value, expected);
+    }
+  };
+  /**
+   * Equality between the values and arrays of bytes.
+   */
+  private final static ValuesMultiset.Equality<byte[]> BYTES_EQUALITY = new ValuesMultiset.Equality<byte[]>() {
+    @Override
+    public boolean areEqual(Value value, byte[] expected) {
+      return Values.areEqual(value, expected);
+    }
+  };
+  /**
+   * Equality between the values and texts.
+   */
+  private final static ValuesMultiset.Equality<String> STRING_EQUALITY = new ValuesMultiset.Equality<String>() {
+    @Override
+    public boolean areEqual(Value value, String expected) {
+      return Values.areEqual(value, expected);
+    }
+  };
+  /**
+   * Equality between the values and characters.
+   */
+  private final static ValuesMultiset.Equality<Character> CHARACTER_EQUALITY = new ValuesMultiset.Equality<Character>() {
+    @Override
+    public boolean areEqual(Value value, Character expected) {
+      return Values.areEqual(value, expected);
+    }
+  };
+  /**
+   * Equality between the values and UUIDs.
+   */
+  private final static ValuesMultiset.Equality<UUID> UUID_EQUALITY = new ValuesMultiset.Equality<UUID>() {
+    @Override
+    public boolean areEqual(Value value, UUID expected) {
+      return Values.areEqual(value, expected);
+    }
+  };
+  /**
+   * Equality between the values and date values.
+   */
+  private final static ValuesMultiset.Equality<DateValue> DATE_VALUE_EQUALITY = new ValuesMultiset.Equality<DateValue>() {
+    @Override
+    public boolean areEqual(Value value, DateValue expected) {
+      return Values.areEqual(value, expected);
+    }
+  };
+  /**
+   * Equality between the values and time values.
+   */
+  private final static ValuesMultiset.Equality<TimeValue> TIME_VALUE_EQUALITY = new ValuesMultiset.Equality<TimeValue>() {
+    @Override
+    public boolean areEqual(Value value, TimeValue expected) {
+      return Values.areEqual(value, expected);
+    }
+  };
+  /**
+   * Equality between the values and date/time values.
+   */
+  private final static ValuesMultiset.Equality<DateTimeValue> DATE_TIME_VALUE_EQUALITY = new ValuesMultiset.Equality<DateTimeValue>() {
+    @Override
+    public boolean areEqual(Value value, DateTimeValue expected) {
+      return Values.areEqual(value, expected);
+    }
+  };
 
   /**
    * Private constructor.
@@ -59,27 +149,16 @@ public class AssertionsOnColumnContent {
   public static <A extends AbstractAssert<?>> A containsValues(A assertion, WritableAssertionInfo info,
                                                        List<Value> valuesList, Object... expected) {
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
+    ValuesMultiset multiset = new ValuesMultiset(valuesList);
     int index = 0;
     for (Object val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
+      if (!multiset.remove(val, OBJECT_EQUALITY)) {
         List<Object> listForError = new ArrayList<>();
         for (Value obj : valuesList) {
           listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, Object.class));
         }
         throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
       }
-      list = newList;
       index++;
     }
     return assertion;
@@ -100,27 +179,16 @@ public class AssertionsOnColumnContent {
                                                        List<Value> valuesList, Boolean... expected) {
     AssertionsOnColumnType.isBoolean(assertion, info, valuesList, true);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
+    ValuesMultiset multiset = new ValuesMultiset(valuesList);
     int index = 0;
     for (Boolean val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
+      if (!multiset.remove(val, BOOLEAN_EQUALITY)) {
         List<Object> listForError = new ArrayList<>();
         for (Value obj : valuesList) {
           listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, Boolean.class));
         }
         throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
       }
-      list = newList;
       index++;
     }
     return assertion;
@@ -141,27 +209,16 @@ public class AssertionsOnColumnContent {
                                                        List<Value> valuesList, Number... expected) {
     AssertionsOnColumnType.isNumber(assertion, info, valuesList, true);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
+    ValuesMultiset multiset = new ValuesMultiset(valuesList);
     int index = 0;
     for (Number val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
+      if (!multiset.remove(val, NUMBER_EQUALITY)) {
         List<Object> listForError = new ArrayList<>();
         for (Value obj : valuesList) {
           listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, Number.class));
         }
         throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
       }
-      list = newList;
       index++;
     }
     return assertion;
@@ -182,27 +239,16 @@ public class AssertionsOnColumnContent {
                                                        List<Value> valuesList, byte[]... expected) {
     AssertionsOnColumnType.isBytes(assertion, info, valuesList, true);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
+    ValuesMultiset multiset = new ValuesMultiset(valuesList);
     int index = 0;
     for (byte[] val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
+      if (!multiset.remove(val, BYTES_EQUALITY)) {
         List<Object> listForError = new ArrayList<>();
         for (Value obj : valuesList) {
           listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, byte[].class));
         }
         throw failures.failure(info, shouldContainsValue(index));
       }
-      list = newList;
       index++;
     }
     return assertion;
@@ -224,27 +270,16 @@ public class AssertionsOnColumnContent {
     AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.TEXT, ValueType.NUMBER, ValueType.DATE,
                                          ValueType.TIME, ValueType.DATE_TIME, ValueType.UUID, ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
+    ValuesMultiset multiset = new ValuesMultiset(valuesList);
     int index = 0;
     for (String val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
+      if (!multiset.remove(val, STRING_EQUALITY)) {
         List<Object> listForError = new ArrayList<>();
         for (Value obj : valuesList) {
           listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, String.class));
         }
         throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
       }
-      list = newList;
       index++;
     }
     return assertion;
@@ -266,27 +301,16 @@ public class AssertionsOnColumnContent {
                                                        List<Value> valuesList, Character... expected) {
     AssertionsOnColumnType.isText(assertion, info, valuesList, true);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
+    ValuesMultiset multiset = new ValuesMultiset(valuesList);
     int index = 0;
     for (Character val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
+      if (!multiset.remove(val, CHARACTER_EQUALITY)) {
         List<Object> listForError = new ArrayList<>();
         for (Value obj : valuesList) {
           listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, Character.class));
         }
         throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
       }
-      list = newList;
       index++;
     }
     return assertion;
@@ -307,27 +331,16 @@ public class AssertionsOnColumnContent {
                                                        List<Value> valuesList, UUID... expected) {
     AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.UUID, ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
+    ValuesMultiset multiset = new ValuesMultiset(valuesList);
     int index = 0;
     for (UUID val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
+      if (!multiset.remove(val, UUID_EQUALITY)) {
         List<Object> listForError = new ArrayList<>();
         for (Value obj : valuesList) {
           listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, UUID.class));
         }
         throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
       }
-      list = newList;
       index++;
     }
     return assertion;
@@ -349,27 +362,16 @@ public class AssertionsOnColumnContent {
     AssertionsOnColumnType
             .isOfAnyTypeIn(assertion, info, valuesList, ValueType.DATE, ValueType.DATE_TIME, ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
+    ValuesMultiset multiset = new ValuesMultiset(valuesList);
     int index = 0;
     for (DateValue val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
+      if (!multiset.remove(val, DATE_VALUE_EQUALITY)) {
         List<Object> listForError = new ArrayList<>();
         for (Value obj : valuesList) {
           listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, DateValue.class));
         }
         throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
       }
-      list = newList;
       index++;
     }
     return assertion;
@@ -390,27 +392,16 @@ public class AssertionsOnColumnContent {
                                                        List<Value> valuesList, TimeValue... expected) {
     AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.TIME, ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
+    ValuesMultiset multiset = new ValuesMultiset(valuesList);
     int index = 0;
     for (TimeValue val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
+      if (!multiset.remove(val, TIME_VALUE_EQUALITY)) {
         List<Object> listForError = new ArrayList<>();
         for (Value obj : valuesList) {
           listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, TimeValue.class));
         }
         throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
       }
-      list = newList;
       index++;
     }
     return assertion;
@@ -432,27 +423,16 @@ public class AssertionsOnColumnContent {
     AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.DATE, ValueType.DATE_TIME,
                                          ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    List<Value> list = new ArrayList<>(valuesList);
+    ValuesMultiset multiset = new ValuesMultiset(valuesList);
     int index = 0;
     for (DateTimeValue val : expected) {
-      boolean found = false;
-      List<Value> newList = new ArrayList<>();
-      for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
-          newList.add(obj);
-        }
-        else {
-          found = true;
-        }
-      }
-      if (!found) {
+      if (!multiset.remove(val, DATE_TIME_VALUE_EQUALITY)) {
         List<Object> listForError = new ArrayList<>();
         for (Value obj : valuesList) {
           listForError.add(Values.getRepresentationFromValueInFrontOfExpected(obj, DateTimeValue.class));
         }
         throw failures.failure(info, shouldContainsValue(listForError, expected, val, index));
       }
-      list = newList;
       index++;
     }
     return assertion;
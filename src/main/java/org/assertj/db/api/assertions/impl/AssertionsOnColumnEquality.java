@@ -57,17 +57,26 @@ public class AssertionsOnColumnEquality {
    * @throws AssertionError If the values of the column are not equal to the objects in parameter.
    */
   public static <A extends AbstractAssert<?>> A hasValues(A assertion, WritableAssertionInfo info,
-                                                       List<Value> valuesList, Object... expected) {
+                                                       List<Value> valuesList, final Object... expected) {
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    int index = 0;
-    for (Value value : valuesList) {
+    int index = ValuesScan.indexOfFirstInvalid(valuesList, new ValuesScan.ValueCheck() {
+      @Override
+      public boolean isValid(int valueIndex, Value value) {
+        Object object = value.getValue();
+        Object expectedObject = expected[valueIndex];
+        if (object != null && expectedObject != null
+            && !expectedObject.getClass().isAssignableFrom(object.getClass())) {
+          return false;
+        }
+        return areEqual(value, expectedObject);
+      }
+    });
+    if (index != -1) {
+      Value value = valuesList.get(index);
       if (value.getValue() != null && expected[index] != null) {
         AssertionsOnValueClass.isOfClass(assertion, info, value, expected[index].getClass());
       }
-      if (!areEqual(value, expected[index])) {
-        throw failures.failure(info, shouldBeEqual(index, value.getValue(), expected[index]));
-      }
-      index++;
+      throw failures.failure(info, shouldBeEqual(index, value.getValue(), expected[index]));
     }
     return assertion;
   }
@@ -84,15 +93,18 @@ public class AssertionsOnColumnEquality {
    * @throws AssertionError If the values of the column are not equal to the booleans in parameter.
    */
   public static <A extends AbstractAssert<?>> A hasValues(A assertion, WritableAssertionInfo info,
-                                                       List<Value> valuesList, Boolean... expected) {
+                                                       List<Value> valuesList, final Boolean... expected) {
     AssertionsOnColumnType.isBoolean(assertion, info, valuesList, true);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    int index = 0;
-    for (Value value : valuesList) {
-      if (!areEqual(value, expected[index])) {
-        throw failures.failure(info, shouldBeEqual(index, value.getValue(), expected[index]));
+    int index = ValuesScan.indexOfFirstInvalid(valuesList, new ValuesScan.ValueCheck() {
+      @Override
+      public boolean isValid(int valueIndex, Value value) {
+        return areEqual(value, expected[valueIndex]);
       }
-      index++;
+    });
+    if (index != -1) {
+      Value value = valuesList.get(index);
+      throw failures.failure(info, shouldBeEqual(index, value.getValue(), expected[index]));
     }
     return assertion;
   }
@@ -109,18 +121,21 @@ public class AssertionsOnColumnEquality {
    * @throws AssertionError If the values of the column are not equal to the numbers in parameter.
    */
   public static <A extends AbstractAssert<?>> A hasValues(A assertion, WritableAssertionInfo info,
-                                                       List<Value> valuesList, Number... expected) {
+                                                       List<Value> valuesList, final Number... expected) {
     AssertionsOnColumnType.isNumber(assertion, info, valuesList, true);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    int index = 0;
-    for (Value value : valuesList) {
-      if (!areEqual(value, expected[index])) {
-        throw failures.failure(info,
-                               shouldBeEqual(index,
-                                             Values.getRepresentationFromValueInFrontOfExpected(value, expected[index]),
-                                             expected[index]));
+    int index = ValuesScan.indexOfFirstInvalid(valuesList, new ValuesScan.ValueCheck() {
+      @Override
+      public boolean isValid(int valueIndex, Value value) {
+        return areEqual(value, expected[valueIndex]);
       }
-      index++;
+    });
+    if (index != -1) {
+      Value value = valuesList.get(index);
+      throw failures.failure(info,
+                             shouldBeEqual(index,
+                                           Values.getRepresentationFromValueInFrontOfExpected(value, expected[index]),
+                                           expected[index]));
     }
     return assertion;
   }
@@ -137,15 +152,17 @@ public class AssertionsOnColumnEquality {
    * @throws AssertionError If the values of the column are not equal to the bytes in parameter.
    */
   public static <A extends AbstractAssert<?>> A hasValues(A assertion, WritableAssertionInfo info,
-                                                       List<Value> valuesList, byte[]... expected) {
+                                                       List<Value> valuesList, final byte[]... expected) {
     AssertionsOnColumnType.isBytes(assertion, info, valuesList, true);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    int index = 0;
-    for (Value value : valuesList) {
-      if (!areEqual(value, expected[index])) {
-        throw failures.failure(info, shouldBeEqual(index));
+    int index = ValuesScan.indexOfFirstInvalid(valuesList, new ValuesScan.ValueCheck() {
+      @Override
+      public boolean isValid(int valueIndex, Value value) {
+        return areEqual(value, expected[valueIndex]);
       }
-      index++;
+    });
+    if (index != -1) {
+      throw failures.failure(info, shouldBeEqual(index));
     }
     return assertion;
   }
@@ -162,18 +179,21 @@ public class AssertionsOnColumnEquality {
    * @throws AssertionError If the values of the column are not equal to the texts in parameter.
    */
   public static <A extends AbstractAssert<?>> A hasValues(A assertion, WritableAssertionInfo info,
-                                                       List<Value> valuesList, String... expected) {
+                                                       List<Value> valuesList, final String... expected) {
     AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.TEXT, ValueType.NUMBER, ValueType.DATE,
             ValueType.TIME, ValueType.DATE_TIME, ValueType.UUID, ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    int index = 0;
-    for (Value value : valuesList) {
-      if (!areEqual(value, expected[index])) {
-        throw failures.failure(info,
-                               shouldBeEqual(index, Values.getRepresentationFromValueInFrontOfExpected(value, expected[index]),
-                                             expected[index]));
+    int index = ValuesScan.indexOfFirstInvalid(valuesList, new ValuesScan.ValueCheck() {
+      @Override
+      public boolean isValid(int valueIndex, Value value) {
+        return areEqual(value, expected[valueIndex]);
       }
-      index++;
+    });
+    if (index != -1) {
+      Value value = valuesList.get(index);
+      throw failures.failure(info,
+                             shouldBeEqual(index, Values.getRepresentationFromValueInFrontOfExpected(value, expected[index]),
+                                           expected[index]));
     }
     return assertion;
   }
@@ -191,15 +211,18 @@ public class AssertionsOnColumnEquality {
    * @since 1.2.0
    */
   public static <A extends AbstractAssert<?>> A hasValues(A assertion, WritableAssertionInfo info,
-                                                       List<Value> valuesList, Character... expected) {
+                                                       List<Value> valuesList, final Character... expected) {
     AssertionsOnColumnType.isText(assertion, info, valuesList, true);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    int index = 0;
-    for (Value value : valuesList) {
-      if (!areEqual(value, expected[index])) {
-        throw failures.failure(info, shouldBeEqual(index, value.getValue(), expected[index]));
+    int index = ValuesScan.indexOfFirstInvalid(valuesList, new ValuesScan.ValueCheck() {
+      @Override
+      public boolean isValid(int valueIndex, Value value) {
+        return areEqual(value, expected[valueIndex]);
       }
-      index++;
+    });
+    if (index != -1) {
+      Value value = valuesList.get(index);
+      throw failures.failure(info, shouldBeEqual(index, value.getValue(), expected[index]));
     }
     return assertion;
   }
@@ -217,17 +240,20 @@ public class AssertionsOnColumnEquality {
    * @since 1.1.0
    */
   public static <A extends AbstractAssert<?>> A hasValues(A assertion, WritableAssertionInfo info,
-                                                       List<Value> valuesList, UUID... expected) {
+                                                       List<Value> valuesList, final UUID... expected) {
     AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.UUID, ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    int index = 0;
-    for (Value value : valuesList) {
-      if (!areEqual(value, expected[index])) {
-        throw failures.failure(info,
-                shouldBeEqual(index, Values.getRepresentationFromValueInFrontOfExpected(value, expected[index]),
-                        expected[index]));
+    int index = ValuesScan.indexOfFirstInvalid(valuesList, new ValuesScan.ValueCheck() {
+      @Override
+      public boolean isValid(int valueIndex, Value value) {
+        return areEqual(value, expected[valueIndex]);
       }
-      index++;
+    });
+    if (index != -1) {
+      Value value = valuesList.get(index);
+      throw failures.failure(info,
+              shouldBeEqual(index, Values.getRepresentationFromValueInFrontOfExpected(value, expected[index]),
+                      expected[index]));
     }
     return assertion;
   }
@@ -244,17 +270,20 @@ public class AssertionsOnColumnEquality {
    * @throws AssertionError If the values of the column are not equal to the date values in parameter.
    */
   public static <A extends AbstractAssert<?>> A hasValues(A assertion, WritableAssertionInfo info,
-                                                       List<Value> valuesList, DateValue... expected) {
+                                                       List<Value> valuesList, final DateValue... expected) {
     AssertionsOnColumnType
             .isOfAnyTypeIn(assertion, info, valuesList, ValueType.DATE, ValueType.DATE_TIME, ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    int index = 0;
-    for (Value value : valuesList) {
-      if (!areEqual(value, expected[index])) {
-        throw failures.failure(info,
-                               shouldBeEqual(index, Values.getRepresentationFromValueInFrontOfExpected(value, expected[index]), expected[index]));
+    int index = ValuesScan.indexOfFirstInvalid(valuesList, new ValuesScan.ValueCheck() {
+      @Override
+      public boolean isValid(int valueIndex, Value value) {
+        return areEqual(value, expected[valueIndex]);
       }
-      index++;
+    });
+    if (index != -1) {
+      Value value = valuesList.get(index);
+      throw failures.failure(info,
+                             shouldBeEqual(index, Values.getRepresentationFromValueInFrontOfExpected(value, expected[index]), expected[index]));
     }
     return assertion;
   }
@@ -271,18 +300,21 @@ public class AssertionsOnColumnEquality {
    * @throws AssertionError If the values of the column are not equal to the time values in parameter.
    */
   public static <A extends AbstractAssert<?>> A hasValues(A assertion, WritableAssertionInfo info,
-                                                       List<Value> valuesList, TimeValue... expected) {
+                                                       List<Value> valuesList, final TimeValue... expected) {
     AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.TIME, ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    int index = 0;
-    for (Value value : valuesList) {
-      if (!areEqual(value, expected[index])) {
-        throw failures.failure(info,
-                               shouldBeEqual(index,
-                                             Values.getRepresentationFromValueInFrontOfExpected(value, expected[index]),
-                                             expected[index]));
+    int index = ValuesScan.indexOfFirstInvalid(valuesList, new ValuesScan.ValueCheck() {
+      @Override
+      public boolean isValid(int valueIndex, Value value) {
+        return areEqual(value, expected[valueIndex]);
       }
-      index++;
+    });
+    if (index != -1) {
+      Value value = valuesList.get(index);
+      throw failures.failure(info,
+                             shouldBeEqual(index,
+                                           Values.getRepresentationFromValueInFrontOfExpected(value, expected[index]),
+                                           expected[index]));
     }
     return assertion;
   }
@@ -299,19 +331,22 @@ public class AssertionsOnColumnEquality {
    * @throws AssertionError If the values of the column are not equal to the date/time values in parameter.
    */
   public static <A extends AbstractAssert<?>> A hasValues(A assertion, WritableAssertionInfo info,
-                                                       List<Value> valuesList, DateTimeValue... expected) {
+                                                       List<Value> valuesList, final DateTimeValue... expected) {
     AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.DATE, ValueType.DATE_TIME,
                                          ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
-    int index = 0;
-    for (Value value : valuesList) {
-      if (!areEqual(value, expected[index])) {
-        throw failures.failure(info,
-                               shouldBeEqual(index,
-                                             Values.getRepresentationFromValueInFrontOfExpected(value, expected[index]),
-                                             expected[index]));
+    int index = ValuesScan.indexOfFirstInvalid(valuesList, new ValuesScan.ValueCheck() {
+      @Override
+      public boolean isValid(int valueIndex, Value value) {
+        return areEqual(value, expected[valueIndex]);
       }
-      index++;
+    });
+    if (index != -1) {
+      Value value = valuesList.get(index);
+      throw failures.failure(info,
+                             shouldBeEqual(index,
+                                           Values.getRepresentationFromValueInFrontOfExpected(value, expected[index]),
+                                           expected[index]));
     }
     return assertion;
   }
@@ -60,19 +60,21 @@ public class AssertionsOnColumnType {
    * @throws AssertionError If the type of the column is different to the type in parameter.
    */
   public static <A extends AbstractAssert<?>> A isOfType(A assertion, WritableAssertionInfo info, List<Value> valuesList,
-                                                      ValueType expected, boolean lenient) {
+                                                      final ValueType expected, boolean lenient) {
     if (lenient) {
       return isOfAnyTypeIn(assertion, info, valuesList, expected, ValueType.NOT_IDENTIFIED);
     }
 
-    int index = 0;
-    for (Value value : valuesList) {
-      ValueType type = value.getValueType();
-      if (type != expected) {
-        throw failures.failure(info, ShouldBeValueType
-                .shouldBeValueType(index, value, type, expected));
+    int index = ValuesScan.indexOfFirstInvalid(valuesList, new ValuesScan.ValueCheck() {
+      @Override
+      public boolean isValid(int valueIndex, Value value) {
+        return value.getValueType() == expected;
       }
-      index++;
+    });
+    if (index != -1) {
+      Value value = valuesList.get(index);
+      throw failures.failure(info, ShouldBeValueType
+              .shouldBeValueType(index, value, value.getValueType(), expected));
     }
     return assertion;
   }
@@ -89,18 +91,22 @@ public class AssertionsOnColumnType {
    * @throws AssertionError If the type of the column is different to all the types in parameters.
    */
   public static <A extends AbstractAssert<?>> A isOfAnyTypeIn(A assertion, WritableAssertionInfo info,
-                                                           List<Value> valuesList, ValueType... expected) {
-    int index = 0;
-    loop:
-    for (Value value : valuesList) {
-      ValueType type = value.getValueType();
-      for (ValueType valueType : expected) {
-        if (type == valueType) {
-          index++;
-          continue loop;
+                                                           List<Value> valuesList, final ValueType... expected) {
+    int index = ValuesScan.indexOfFirstInvalid(valuesList, new ValuesScan.ValueCheck() {
+      @Override
+      public boolean isValid(int valueIndex, Value value) {
+        ValueType type = value.getValueType();
+        for (ValueType valueType : expected) {
+          if (type == valueType) {
+            return true;
+          }
         }
+        return false;
       }
-      throw failures.failure(info, shouldBeValueTypeOfAny(index, value, type, expected));
+    });
+    if (index != -1) {
+      Value value = valuesList.get(index);
+      throw failures.failure(info, shouldBeValueTypeOfAny(index, value, value.getValueType(), expected));
     }
     return assertion;
   }
@@ -62,10 +62,10 @@ public class AssertionsOnModifiedColumns {
    */
   public static <A extends AbstractAssert<?>> A hasNumberOfModifiedColumns(A assertion, WritableAssertionInfo info,
                                                                         Change change, int number) {
-    Integer[] indexesOfModifiedColumns = Changes.getIndexesOfModifiedColumns(change);
+    int modifiedColumnsCount = change.getModifiedColumnsCount();
 
-    if (number != indexesOfModifiedColumns.length) {
-      throw failures.failure(info, shouldHaveNumberOfModifications(indexesOfModifiedColumns.length, number));
+    if (number != modifiedColumnsCount) {
+      throw failures.failure(info, shouldHaveNumberOfModifications(modifiedColumnsCount, number));
     }
     return assertion;
   }
@@ -84,10 +84,10 @@ public class AssertionsOnModifiedColumns {
    */
   public static <A extends AbstractAssert<?>> A hasNumberOfModifiedColumnsGreaterThan(A assertion, WritableAssertionInfo info,
                                                                                    Change change, int number) {
-    Integer[] indexesOfModifiedColumns = Changes.getIndexesOfModifiedColumns(change);
+    int modifiedColumnsCount = change.getModifiedColumnsCount();
 
-    if (number >= indexesOfModifiedColumns.length) {
-      throw failures.failure(info, shouldHaveNumberOfModificationsGreater(indexesOfModifiedColumns.length, number));
+    if (number >= modifiedColumnsCount) {
+      throw failures.failure(info, shouldHaveNumberOfModificationsGreater(modifiedColumnsCount, number));
     }
     return assertion;
   }
@@ -106,10 +106,10 @@ public class AssertionsOnModifiedColumns {
    */
   public static <A extends AbstractAssert<?>> A hasNumberOfModifiedColumnsLessThan(A assertion, WritableAssertionInfo info,
                                                                                 Change change, int number) {
-    Integer[] indexesOfModifiedColumns = Changes.getIndexesOfModifiedColumns(change);
+    int modifiedColumnsCount = change.getModifiedColumnsCount();
 
-    if (number <= indexesOfModifiedColumns.length) {
-      throw failures.failure(info, shouldHaveNumberOfModificationsLess(indexesOfModifiedColumns.length, number));
+    if (number <= modifiedColumnsCount) {
+      throw failures.failure(info, shouldHaveNumberOfModificationsLess(modifiedColumnsCount, number));
     }
     return assertion;
   }
@@ -128,10 +128,10 @@ public class AssertionsOnModifiedColumns {
    */
   public static <A extends AbstractAssert<?>> A hasNumberOfModifiedColumnsGreaterThanOrEqualTo(A assertion, WritableAssertionInfo info,
                                                                         Change change, int number) {
-    Integer[] indexesOfModifiedColumns = Changes.getIndexesOfModifiedColumns(change);
+    int modifiedColumnsCount = change.getModifiedColumnsCount();
 
-    if (number > indexesOfModifiedColumns.length) {
-      throw failures.failure(info, shouldHaveNumberOfModificationsGreaterOrEqual(indexesOfModifiedColumns.length,
+    if (number > modifiedColumnsCount) {
+      throw failures.failure(info, shouldHaveNumberOfModificationsGreaterOrEqual(modifiedColumnsCount,
                                                                                  number));
     }
     return assertion;
@@ -151,10 +151,10 @@ public class AssertionsOnModifiedColumns {
    */
   public static <A extends AbstractAssert<?>> A hasNumberOfModifiedColumnsLessThanOrEqualTo(A assertion, WritableAssertionInfo info,
                                                                                    Change change, int number) {
-    Integer[] indexesOfModifiedColumns = Changes.getIndexesOfModifiedColumns(change);
+    int modifiedColumnsCount = change.getModifiedColumnsCount();
 
-    if (number < indexesOfModifiedColumns.length) {
-      throw failures.failure(info, shouldHaveNumberOfModificationsLessOrEqual(indexesOfModifiedColumns.length, number));
+    if (number < modifiedColumnsCount) {
+      throw failures.failure(info, shouldHaveNumberOfModificationsLessOrEqual(modifiedColumnsCount, number));
     }
     return assertion;
   }
@@ -177,11 +177,6 @@ public class AssertionsOnModifiedColumns {
       throw new NullPointerException("Columns indexes must be not null");
     }
 
-    // Create a sorted list from the modified columns
-    Integer[] indexesOfModifiedColumns = Changes.getIndexesOfModifiedColumns(change);
-    List<Integer> indexesOfModifiedList = Arrays.asList(indexesOfModifiedColumns);
-    Collections.sort(indexesOfModifiedList);
-
     // Create a sorted list from the parameters
     List<Integer> indexesList = new ArrayList<>();
     for (Integer index : indexes) {
@@ -192,9 +187,15 @@ public class AssertionsOnModifiedColumns {
     }
     Collections.sort(indexesList);
 
-    // Compare each list
-    if (!indexesList.equals(indexesOfModifiedList)) {
-      throw failures.failure(info, shouldHaveModifications(indexesOfModifiedColumns, indexes));
+    // Compare the list with the modified columns (in ascending order)
+    boolean equal = indexesList.size() == change.getModifiedColumnsCount();
+    int indexOfModified = -1;
+    for (Iterator<Integer> iterator = indexesList.iterator(); equal && iterator.hasNext(); ) {
+      indexOfModified = change.getNextModifiedColumnIndex(indexOfModified + 1);
+      equal = iterator.next() == indexOfModified;
+    }
+    if (!equal) {
+      throw failures.failure(info, shouldHaveModifications(Changes.getIndexesOfModifiedColumns(change), indexes));
     }
 
     return assertion;
@@ -0,0 +1,224 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.core.api.Condition;
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.db.api.AbstractAssert;
+import org.assertj.db.type.AbstractDbData;
+import org.assertj.db.type.Row;
+import org.assertj.db.type.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.db.error.ShouldContainRowSatisfying.shouldContainRowSatisfying;
+import static org.assertj.db.error.ShouldNotSatisfy.shouldNotSatisfy;
+import static org.assertj.db.error.ShouldSatisfy.shouldSatisfy;
+
+/**
+ * Implements the assertion methods on the rows with a condition.
+ * <p>
+ * If the rows are loaded, they are read in the list of the rows : the row which fails is reported with its index in
+ * this list (like for {@code row(int)}). Otherwise, the rows are browsed with
+ * {@link AbstractDbData#forEachRow(AbstractDbData.RowVisitor)} : they are not kept in memory and the browsing stops at
+ * the first row which proves the result. The browsed rows are in the order of the database (which is not the order of
+ * the list of the rows), so the row which fails is reported with the values of its primary keys.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @see org.assertj.db.api.assertions.AssertOnRowCondition
+ * @since 1.3.0
+ */
+public class AssertionsOnRowCondition {
+
+  /**
+   * To notice failures in the assertion.
+   */
+  private final static Failures failures = Failures.instance();
+
+  /**
+   * Private constructor.
+   */
+  private AssertionsOnRowCondition() {
+    // Empty
+  }
+
+  /**
+   * Verifies that all the rows satisfy the condition in parameter.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param data      The data on which are the rows.
+   * @param condition The condition to satisfy.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a row does not satisfy the condition.
+   * @throws NullPointerException If {@code condition} is {@code null}.
+   */
+  public static <A extends AbstractAssert<?>> A allRowsSatisfy(A assertion, WritableAssertionInfo info,
+                                                               AbstractDbData<?> data,
+                                                               Condition<? super Row> condition) {
+    RowSearch search = search(data, condition, false);
+    if (search.row != null) {
+      if (search.indexed) {
+        throw failures.failure(info, shouldSatisfy(search.index, getObjects(search.row), condition));
+      }
+      throw failures.failure(info, shouldSatisfy(getPksObjects(search.row), getObjects(search.row), condition));
+    }
+    return assertion;
+  }
+
+  /**
+   * Verifies that at least one row satisfies the condition in parameter.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param data      The data on which are the rows.
+   * @param condition The condition to satisfy.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If no row satisfies the condition.
+   * @throws NullPointerException If {@code condition} is {@code null}.
+   */
+  public static <A extends AbstractAssert<?>> A anyRowSatisfies(A assertion, WritableAssertionInfo info,
+                                                                AbstractDbData<?> data,
+                                                                Condition<? super Row> condition) {
+    RowSearch search = search(data, condition, true);
+    if (search.row == null) {
+      throw failures.failure(info, shouldContainRowSatisfying(search.index, condition));
+    }
+    return assertion;
+  }
+
+  /**
+   * Verifies that no row satisfies the condition in parameter.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param data      The data on which are the rows.
+   * @param condition The condition to not satisfy.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If a row satisfies the condition.
+   * @throws NullPointerException If {@code condition} is {@code null}.
+   */
+  public static <A extends AbstractAssert<?>> A noRowSatisfies(A assertion, WritableAssertionInfo info,
+                                                               AbstractDbData<?> data,
+                                                               Condition<? super Row> condition) {
+    RowSearch search = search(data, condition, true);
+    if (search.row != null) {
+      if (search.indexed) {
+        throw failures.failure(info, shouldNotSatisfy(search.index, getObjects(search.row), condition));
+      }
+      throw failures.failure(info, shouldNotSatisfy(getPksObjects(search.row), getObjects(search.row), condition));
+    }
+    return assertion;
+  }
+
+  /**
+   * Searches the first row whose the result of the condition is the one in parameter.
+   *
+   * @param data      The data on which are the rows.
+   * @param condition The condition.
+   * @param matches   The result of the condition to search.
+   * @return The result of the search : the row found (or {@code null}) and its index (or the number of rows browsed).
+   *         The rows are read in the list of the rows if it is loaded, browsed from the database otherwise.
+   * @throws NullPointerException If {@code condition} is {@code null}.
+   */
+  private static RowSearch search(AbstractDbData<?> data, final Condition<? super Row> condition,
+                                  final boolean matches) {
+    if (condition == null) {
+      throw new NullPointerException("The condition must be not null");
+    }
+    final RowSearch search = new RowSearch();
+    if (data.isRowsListLoaded()) {
+      search.indexed = true;
+      for (Row row : data.getRowsList()) {
+        if (condition.matches(row) == matches) {
+          search.row = row;
+          return search;
+        }
+        search.index++;
+      }
+      return search;
+    }
+    data.forEachRow(new AbstractDbData.RowVisitor() {
+      @Override
+      public boolean visit(Row row) {
+        if (condition.matches(row) == matches) {
+          search.row = row;
+          return false;
+        }
+        search.index++;
+        return true;
+      }
+    });
+    return search;
+  }
+
+  /**
+   * Returns the objects of the values of a row.
+   *
+   * @param row The row.
+   * @return The objects.
+   */
+  private static List<Object> getObjects(Row row) {
+    return getObjects(row.getValuesList());
+  }
+
+  /**
+   * Returns the objects of the values of the primary keys of a row.
+   *
+   * @param row The row.
+   * @return The objects.
+   */
+  private static List<Object> getPksObjects(Row row) {
+    return getObjects(Arrays.asList(row.getPksValues()));
+  }
+
+  /**
+   * Returns the objects of values.
+   *
+   * @param valuesList The values.
+   * @return The objects.
+   */
+  private static List<Object> getObjects(List<Value> valuesList) {
+    List<Object> objectsList = new ArrayList<>(valuesList.size());
+    for (Value value : valuesList) {
+      objectsList.add(value.getValue());
+    }
+    return objectsList;
+  }
+
+  /**
+   * Result of a search of row.
+   */
+  private static final class RowSearch {
+
+    /**
+     * The row found ({@code null} if no row is found).
+     */
+    private Row row;
+    /**
+     * The index of the row found (the number of rows browsed if no row is found).
+     */
+    private int index;
+    /**
+     * Indicates if the rows are read in the list of the rows (so {@link #index} is the index of the row in this list).
+     */
+    private boolean indexed;
+  }
+}
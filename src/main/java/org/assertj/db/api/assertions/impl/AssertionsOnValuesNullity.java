@@ -55,12 +55,14 @@ public class AssertionsOnValuesNullity {
    */
   public static <A extends AbstractAssert<?>> A hasOnlyNullValues(A assertion, WritableAssertionInfo info,
                                                                List<Value> valuesList) {
-    int index = 0;
-    for (Value value : valuesList) {
-      if (value.getValue() != null) {
-        throw failures.failure(info, shouldContainsOnlyNull(index));
+    int index = ValuesScan.indexOfFirstInvalid(valuesList, new ValuesScan.ValueCheck() {
+      @Override
+      public boolean isValid(int valueIndex, Value value) {
+        return value.getValue() == null;
       }
-      index++;
+    });
+    if (index != -1) {
+      throw failures.failure(info, shouldContainsOnlyNull(index));
     }
     return assertion;
   }
@@ -77,12 +79,14 @@ public class AssertionsOnValuesNullity {
    */
   public static <A extends AbstractAssert<?>> A hasOnlyNotNullValues(A assertion, WritableAssertionInfo info,
                                                                   List<Value> valuesList) {
-    int index = 0;
-    for (Value value : valuesList) {
-      if (value.getValue() == null) {
-        throw failures.failure(info, shouldContainsOnlyNotNull(index));
+    int index = ValuesScan.indexOfFirstInvalid(valuesList, new ValuesScan.ValueCheck() {
+      @Override
+      public boolean isValid(int valueIndex, Value value) {
+        return value.getValue() != null;
       }
-      index++;
+    });
+    if (index != -1) {
+      throw failures.failure(info, shouldContainsOnlyNotNull(index));
     }
     return assertion;
   }
@@ -0,0 +1,268 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.db.type.Value;
+import org.assertj.db.util.ValueKeys;
+import org.assertj.db.util.ValueKeys.Kind;
+import org.assertj.db.util.Values;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Multiset of the values of a column used to verify that the column contains expected values (in any order).
+ * <p>
+ * The values are grouped by kind of object (integral number, {@code BigDecimal}, text, date, ...) and indexed in each
+ * group by their hash code ({@link Values#getHashCode(Value)}). An expected value is only compared to the values with
+ * the same hash code computed for the kind of the group ({@link ValueKeys#getExpectedKey(Kind, Object)}). If the hash
+ * code of the expected value can not be computed (a {@code String} which can not be parsed, a {@code Character}
+ * compared to texts, ...), the expected value is compared to all the values of the group.
+ * </p>
+ * <p>
+ * The value removed for an expected value is the first value (in the order of the column) which is equal and not
+ * already removed : so the result is the same as removing the values while browsing the list of values.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.3.0
+ */
+final class ValuesMultiset {
+
+  /**
+   * Equality between a value and an expected value.
+   *
+   * @param <T> The type of the expected value.
+   */
+  interface Equality<T> {
+
+    /**
+     * Returns if the value is equal to the expected value.
+     *
+     * @param value    The value.
+     * @param expected The expected value.
+     * @return {@code true} if the value is equal to the expected value, {@code false} otherwise.
+     */
+    boolean areEqual(Value value, T expected);
+  }
+
+  /**
+   * The values.
+   */
+  private final Value[] values;
+  /**
+   * Indicates for each value if it is removed.
+   */
+  private final boolean[] removed;
+  /**
+   * The groups of values by kind.
+   */
+  private final Map<Kind, Group> groups = new EnumMap<>(Kind.class);
+
+  /**
+   * Constructor.
+   *
+   * @param valuesList The list of the values.
+   */
+  ValuesMultiset(List<Value> valuesList) {
+    values = valuesList.toArray(new Value[valuesList.size()]);
+    removed = new boolean[values.length];
+    for (int index = 0; index < values.length; index++) {
+      Kind kind = ValueKeys.getKind(values[index].getValue());
+      Group group = groups.get(kind);
+      if (group == null) {
+        group = new Group();
+        groups.put(kind, group);
+      }
+      group.add(index, kind == Kind.OTHER ? 0 : Values.getHashCode(values[index]));
+    }
+  }
+
+  /**
+   * Removes the first value which is equal to the expected value.
+   *
+   * @param expected The expected value.
+   * @param equality The equality between the values and the expected value.
+   * @param <T>      The type of the expected value.
+   * @return {@code true} if a value is removed, {@code false} if no value is equal to the expected value.
+   */
+  <T> boolean remove(T expected, Equality<? super T> equality) {
+    int found = values.length;
+    List<IndexList> unkeyedList = null;
+    for (Map.Entry<Kind, Group> entry : groups.entrySet()) {
+      Kind kind = entry.getKey();
+      Group group = entry.getValue();
+      Object key = kind == Kind.OTHER ? null : ValueKeys.getExpectedKey(kind, expected);
+      if (key == null) {
+        if (unkeyedList == null) {
+          unkeyedList = new ArrayList<>(groups.size());
+        }
+        unkeyedList.add(group.all);
+      } else if (key != ValueKeys.NOT_EQUAL) {
+        IndexList bucket = group.buckets.get(key);
+        if (bucket != null) {
+          found = bucket.indexOfFirstEqual(expected, equality, found);
+        }
+      }
+    }
+    if (unkeyedList != null) {
+      found = indexOfFirstEqual(unkeyedList, expected, equality, found);
+    }
+    if (found == values.length) {
+      return false;
+    }
+    removed[found] = true;
+    return true;
+  }
+
+  /**
+   * Returns the first index of a value which is not removed and is equal to the expected value in lists of indexes.
+   * <p>
+   * The values of the lists are compared in the order of the indexes and only before the limit : a comparison can
+   * throw an exception, so only the values which are compared while browsing the list of values are compared.
+   * </p>
+   *
+   * @param indexesList The lists of indexes.
+   * @param expected    The expected value.
+   * @param equality    The equality between the values and the expected value.
+   * @param limit       The limit : only the indexes less than the limit are searched.
+   * @param <T>         The type of the expected value.
+   * @return The index or {@code limit} if there is no equal value before the limit.
+   */
+  private <T> int indexOfFirstEqual(List<IndexList> indexesList, T expected, Equality<? super T> equality,
+                                    int limit) {
+    int[] positions = new int[indexesList.size()];
+    for (int i = 0; i < positions.length; i++) {
+      positions[i] = indexesList.get(i).getStart();
+    }
+    while (true) {
+      int next = -1;
+      int nextIndex = limit;
+      for (int i = 0; i < positions.length; i++) {
+        IndexList indexes = indexesList.get(i);
+        if (positions[i] < indexes.size && indexes.indexes[positions[i]] < nextIndex) {
+          next = i;
+          nextIndex = indexes.indexes[positions[i]];
+        }
+      }
+      if (next == -1) {
+        return limit;
+      }
+      if (!removed[nextIndex] && equality.areEqual(values[nextIndex], expected)) {
+        return nextIndex;
+      }
+      positions[next]++;
+    }
+  }
+
+
+  /**
+   * Group of the values of a kind.
+   */
+  private final class Group {
+
+    /**
+     * The indexes of all the values of the group.
+     */
+    private final IndexList all = new IndexList();
+    /**
+     * The indexes of the values by hash code.
+     */
+    private final Map<Integer, IndexList> buckets = new HashMap<>();
+
+    /**
+     * Adds a value.
+     *
+     * @param index    The index of the value.
+     * @param hashCode The hash code of the value.
+     */
+    private void add(int index, int hashCode) {
+      all.add(index);
+      IndexList bucket = buckets.get(hashCode);
+      if (bucket == null) {
+        bucket = new IndexList();
+        buckets.put(hashCode, bucket);
+      }
+      bucket.add(index);
+    }
+  }
+
+  /**
+   * List of indexes of values (in ascending order).
+   */
+  private final class IndexList {
+
+    /**
+     * The indexes.
+     */
+    private int[] indexes = new int[1];
+    /**
+     * The number of indexes.
+     */
+    private int size;
+    /**
+     * The position of the first index which is not removed.
+     */
+    private int start;
+
+    /**
+     * Adds an index (greater than the others).
+     *
+     * @param index The index.
+     */
+    private void add(int index) {
+      if (size == indexes.length) {
+        indexes = Arrays.copyOf(indexes, size * 2);
+      }
+      indexes[size++] = index;
+    }
+
+    /**
+     * Returns the position of the first index which is not removed.
+     *
+     * @return The position.
+     */
+    private int getStart() {
+      while (start < size && removed[indexes[start]]) {
+        start++;
+      }
+      return start;
+    }
+
+    /**
+     * Returns the first index of a value which is not removed and is equal to the expected value.
+     *
+     * @param expected The expected value.
+     * @param equality The equality between the values and the expected value.
+     * @param limit    The limit : only the indexes less than the limit are searched.
+     * @param <T>      The type of the expected value.
+     * @return The index or {@code limit} if there is no equal value before the limit.
+     */
+    private <T> int indexOfFirstEqual(T expected, Equality<? super T> equality, int limit) {
+      for (int position = getStart(); position < size; position++) {
+        int index = indexes[position];
+        if (index >= limit) {
+          return limit;
+        }
+        if (!removed[index] && equality.areEqual(values[index], expected)) {
+          return index;
+        }
+      }
+      return limit;
+    }
+  }
+}
@@ -0,0 +1,219 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.db.type.Value;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scan of the values of a column to find the first value which is not valid for an assertion.
+ * <p>
+ * By default, the values are scanned sequentially. The parallel scan is an opt-in : if the number of values is greater
+ * than or equal to the threshold set with {@link #setParallelismThreshold(int)}, the values are split in chunks which
+ * are scanned on a fork-join pool. The index found is always the first index which is not valid (the same as the
+ * sequential scan) : a chunk is not scanned if a previous index is already found.
+ * </p>
+ * <p>Example to scan in parallel the columns with at least 100000 values :</p>
+ * <pre><code class='java'>
+ * ValuesScan.setParallelismThreshold(100000);
+ * </code></pre>
+ * <p>
+ * The validations of the values are executed in the threads of the pool : the values must not be modified during an
+ * assertion.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.3.0
+ */
+public final class ValuesScan {
+
+  /**
+   * The number of values scanned sequentially by a task of the pool.
+   */
+  private static final int CHUNK_SIZE = 4096;
+
+  /**
+   * The minimum number of values to scan in parallel ({@code 0} if the scan is always sequential).
+   */
+  private static volatile int parallelismThreshold;
+
+  /**
+   * Validation of a value.
+   */
+  interface ValueCheck {
+
+    /**
+     * Returns if a value is valid.
+     *
+     * @param index The index of the value.
+     * @param value The value.
+     * @return {@code true} if the value is valid, {@code false} otherwise.
+     */
+    boolean isValid(int index, Value value);
+  }
+
+  /**
+   * Holder of the pool (created at the first parallel scan).
+   */
+  private static final class PoolHolder {
+
+    /**
+     * The pool of the parallel scans.
+     */
+    private static final ForkJoinPool POOL = new ForkJoinPool();
+  }
+
+  /**
+   * Private constructor.
+   */
+  private ValuesScan() {
+    // Empty
+  }
+
+  /**
+   * Returns the minimum number of values to scan in parallel.
+   *
+   * @return The minimum number of values to scan in parallel ({@code 0} if the scan is always sequential).
+   */
+  public static int getParallelismThreshold() {
+    return parallelismThreshold;
+  }
+
+  /**
+   * Sets the minimum number of values to scan in parallel.
+   *
+   * @param threshold The minimum number of values to scan in parallel ({@code 0} to always scan sequentially, which is
+   *                  the default).
+   * @throws IllegalArgumentException If {@code threshold} is negative.
+   */
+  public static void setParallelismThreshold(int threshold) {
+    if (threshold < 0) {
+      throw new IllegalArgumentException("The parallelism threshold must be greater than or equal to 0");
+    }
+    parallelismThreshold = threshold;
+  }
+
+  /**
+   * Returns the index of the first value which is not valid.
+   *
+   * @param valuesList The list of values.
+   * @param check      The validation of the values.
+   * @return The index of the first value which is not valid or {@code -1} if all the values are valid.
+   */
+  static int indexOfFirstInvalid(List<Value> valuesList, ValueCheck check) {
+    int size = valuesList.size();
+    int threshold = parallelismThreshold;
+    if (threshold == 0 || size < threshold || size <= CHUNK_SIZE || !(valuesList instanceof RandomAccess)) {
+      int index = 0;
+      for (Value value : valuesList) {
+        if (!check.isValid(index, value)) {
+          return index;
+        }
+        index++;
+      }
+      return -1;
+    }
+
+    AtomicInteger firstInvalid = new AtomicInteger(Integer.MAX_VALUE);
+    PoolHolder.POOL.invoke(new Search(valuesList, check, 0, size, firstInvalid));
+    int index = firstInvalid.get();
+    if (index == Integer.MAX_VALUE) {
+      return -1;
+    }
+    // Validates again in the current thread to throw the exception if the validation failed with an exception
+    check.isValid(index, valuesList.get(index));
+    return index;
+  }
+
+  /**
+   * Task which searches the first value which is not valid in a range of indexes.
+   */
+  private static final class Search extends RecursiveAction {
+
+    /**
+     * The list of values.
+     */
+    private final List<Value> valuesList;
+    /**
+     * The validation of the values.
+     */
+    private final ValueCheck check;
+    /**
+     * The first index of the range (inclusive).
+     */
+    private final int from;
+    /**
+     * The last index of the range (exclusive).
+     */
+    private final int to;
+    /**
+     * The first index which is not valid found by all the tasks.
+     */
+    private final AtomicInteger firstInvalid;
+
+    /**
+     * Constructor.
+     *
+     * @param valuesList   The list of values.
+     * @param check        The validation of the values.
+     * @param from         The first index of the range (inclusive).
+     * @param to           The last index of the range (exclusive).
+     * @param firstInvalid The first index which is not valid found by all the tasks.
+     */
+    private Search(List<Value> valuesList, ValueCheck check, int from, int to, AtomicInteger firstInvalid) {
+      this.valuesList = valuesList;
+      this.check = check;
+      this.from = from;
+      this.to = to;
+      this.firstInvalid = firstInvalid;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void compute() {
+      if (from >= firstInvalid.get()) {
+        // A previous index is already found
+        return;
+      }
+      if (to - from > CHUNK_SIZE) {
+        int middle = (from + to) >>> 1;
+        invokeAll(new Search(valuesList, check, from, middle, firstInvalid),
+                  new Search(valuesList, check, middle, to, firstInvalid));
+        return;
+      }
+      for (int index = from; index < to && index < firstInvalid.get(); index++) {
+        boolean valid;
+        try {
+          valid = check.isValid(index, valuesList.get(index));
+        } catch (RuntimeException e) {
+          // The exception is thrown again by the validation in the current thread
+          valid = false;
+        }
+        if (!valid) {
+          int current = firstInvalid.get();
+          while (index < current && !firstInvalid.compareAndSet(current, index)) {
+            current = firstInvalid.get();
+          }
+          return;
+        }
+      }
+    }
+  }
+}
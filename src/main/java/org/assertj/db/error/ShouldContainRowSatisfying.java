@@ -0,0 +1,48 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.error;
+
+import org.assertj.core.api.Condition;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that at least one row satisfies a condition
+ * failed.
+ *
+ * @author Régis Pouiller
+ * @since 1.3.0
+ */
+public class ShouldContainRowSatisfying extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldContainRowSatisfying}</code>.
+   *
+   * @param size      The number of rows.
+   * @param condition The condition.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContainRowSatisfying(int size, Condition<?> condition) {
+    return new ShouldContainRowSatisfying(size, condition);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param size      The number of rows.
+   * @param condition The condition.
+   */
+  private ShouldContainRowSatisfying(int size, Condition<?> condition) {
+    super("%nExpecting at least one row to satisfy: %n  <%s>%nbut none of the %s rows satisfies it", condition, size);
+  }
+}
@@ -0,0 +1,69 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.error;
+
+import org.assertj.core.api.Condition;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.List;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that all the rows satisfy a condition failed.
+ *
+ * @author Régis Pouiller
+ * @since 1.3.0
+ */
+public class ShouldSatisfy extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldSatisfy}</code> for a row of the list of the rows.
+   *
+   * @param index     The index of the row which does not satisfy the condition.
+   * @param values    The values of the row.
+   * @param condition The condition.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldSatisfy(int index, List<Object> values, Condition<?> condition) {
+    return new ShouldSatisfy("%nExpecting that the row at index %s:%n  <%s>%nto satisfy: %n  <%s>",
+                       index, values, condition);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldSatisfy}</code> for a row browsed from the database (its index in the list of
+   * the rows is not known).
+   *
+   * @param pksValues The values of the primary keys of the row which does not satisfy the condition (empty if the
+   *                  row has no primary key).
+   * @param values    The values of the row.
+   * @param condition The condition.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldSatisfy(List<Object> pksValues, List<Object> values, Condition<?> condition) {
+    if (pksValues.isEmpty()) {
+      return new ShouldSatisfy("%nExpecting that the row:%n  <%s>%nto satisfy: %n  <%s>", values, condition);
+    }
+    return new ShouldSatisfy("%nExpecting that the row with primary keys %s:%n  <%s>%nto satisfy: %n  <%s>",
+                       pksValues, values, condition);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param format    The format of the message.
+   * @param arguments The arguments of the message.
+   */
+  private ShouldSatisfy(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
@@ -17,8 +17,6 @@ import org.assertj.db.global.AbstractElement;
 import org.assertj.db.type.Change;
 import org.assertj.db.type.ChangeType;
 import org.assertj.db.type.Changes;
-import org.assertj.db.type.Value;
-import org.assertj.db.util.Values;
 
 import java.lang.reflect.Constructor;
 import java.util.Arrays;
@@ -230,25 +228,9 @@ public abstract class PositionWithChanges<E extends AbstractElement & Navigation
    * @return The change assert implementation.
    */
   public N getChangeInstanceWithPK(Changes changes, String tableName, Object... pksValues) {
-    Changes changesOfTable = changes.getChangesOfTable(tableName);
-    List<Change> changesList = changesOfTable.getChangesList();
-    int index = 0;
-    for (Change change : changesList) {
-      List<Value> pksValueList = change.getPksValueList();
-      Value[] values = pksValueList.toArray(new Value[pksValueList.size()]);
-      boolean equal = false;
-      if (pksValues.length == values.length) {
-        equal = true;
-        for (int i = 0; i < pksValues.length; i++) {
-          if (!Values.areEqual(values[i], pksValues[i])) {
-            equal = false;
-          }
-        }
-      }
-      if (equal) {
-        return getChangeInstance(changesOfTable, null, tableName, index);
-      }
-      index++;
+    int index = changes.getIndexOfChangeOfTableWithPks(tableName, pksValues);
+    if (index != -1) {
+      return getChangeInstance(changes.getChangesOfTable(tableName), null, tableName, index);
     }
     throw new AssertJDBException("No change found for table " + tableName + " and primary keys " + Arrays
             .asList(pksValues));
@@ -18,7 +18,6 @@ import org.assertj.db.type.Change;
 import org.assertj.db.type.Row;
 import org.assertj.db.type.Value;
 import org.assertj.db.type.lettercase.CaseComparison;
-import org.assertj.db.util.Changes;
 import org.assertj.db.util.NameComparator;
 
 import java.lang.reflect.Constructor;
@@ -166,11 +165,9 @@ public abstract class PositionWithColumnsChange<E extends AbstractElement & Navi
    * @throws org.assertj.db.exception.AssertJDBException If the {@code index} is out of the bounds.
    */
   public N getModifiedChangeColumnInstance(Change change) {
-    Integer[] indexesOfModifiedColumns = Changes.getIndexesOfModifiedColumns(change);
-    for (Integer indexModified : indexesOfModifiedColumns) {
-      if (indexModified >= nextIndex) {
-        return getChangeColumnInstance(change, indexModified);
-      }
+    int indexModified = change.getNextModifiedColumnIndex(nextIndex);
+    if (indexModified != -1) {
+      return getChangeColumnInstance(change, indexModified);
     }
     throw new AssertJDBException("No more modified columns");
   }
@@ -185,12 +182,14 @@ public abstract class PositionWithColumnsChange<E extends AbstractElement & Navi
    * @throws org.assertj.db.exception.AssertJDBException If the {@code index} is out of the bounds.
    */
   public N getModifiedChangeColumnInstance(Change change, int index) {
-    Integer[] indexesOfModifiedColumns = Changes.getIndexesOfModifiedColumns(change);
-    int size = indexesOfModifiedColumns.length;
+    int size = change.getModifiedColumnsCount();
     if (index < 0 || index >= size) {
       throw new AssertJDBException("Index %s out of the limits of the modified columns [0, %s[", index, size);
     }
-    int indexModified = indexesOfModifiedColumns[index];
+    int indexModified = change.getNextModifiedColumnIndex(0);
+    for (int i = 0; i < index; i++) {
+      indexModified = change.getNextModifiedColumnIndex(indexModified + 1);
+    }
     return getChangeColumnInstance(change, indexModified);
   }
 
@@ -208,10 +207,10 @@ public abstract class PositionWithColumnsChange<E extends AbstractElement & Navi
     if (columnName == null) {
       throw new NullPointerException("Column name must be not null");
     }
-    Integer[] indexesOfModifiedColumns = Changes.getIndexesOfModifiedColumns(change);
     List<String> modifiedColumnsNameList = new ArrayList<>();
     List<String> columnsNameList = change.getColumnsNameList();
-    for (Integer indexModified : indexesOfModifiedColumns) {
+    for (int indexModified = change.getNextModifiedColumnIndex(0); indexModified != -1;
+         indexModified = change.getNextModifiedColumnIndex(indexModified + 1)) {
       String modifiedColumnName = columnsNameList.get(indexModified);
       modifiedColumnsNameList.add(modifiedColumnName);
       if (comparison.isEqual(modifiedColumnName, columnName)) {
@@ -19,9 +19,10 @@ import org.assertj.db.util.RowComparator;
 
 import javax.sql.DataSource;
 import java.sql.*;
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * This class represents data from the database (either a {@link Table} or a {@link Request}).
@@ -56,10 +57,57 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * List of the rows.
    */
   private List<Row> rowsList;
+  /**
+   * The number of rows counted by the database before the loading of the rows ({@code null} if the rows are not
+   * counted).
+   * @since 1.3.0
+   */
+  private Integer rowsCount;
+  /**
+   * The schema shared by the rows (computed again when the columns or the primary keys are changed).
+   * @since 1.3.0
+   */
+  private RowSchema rowSchema;
   /**
    * List of the columns.
    */
   private List<Column> columnsList;
+  /**
+   * The mode of storage of the rows.
+   */
+  private StorageMode storageMode = StorageMode.ROWS;
+  /**
+   * The number of rows to fetch from the database at the same time when the rows are browsed ({@code 0} to use the
+   * default of the driver).
+   */
+  private int fetchSize;
+  /**
+   * The maximum number of chunks of rows sorted at the same time.
+   */
+  private int sortParallelism = 1;
+  /**
+   * Indicates if the data is at start point of {@link Changes} without keeping its rows (in
+   * {@link ComparisonMode#STREAMING} and {@link ComparisonMode#SERVER_SIDE} modes) : the rows can not be read from the
+   * database because the database is no longer at the start point.
+   */
+  private boolean rowsNotKept;
+
+  /**
+   * Visitor of the rows, used to browse the rows from the database without keeping them.
+   *
+   * @see #forEachRow(RowVisitor)
+   * @since 1.3.0
+   */
+  public interface RowVisitor {
+
+    /**
+     * Visits a row.
+     *
+     * @param row The row.
+     * @return {@code true} to continue the browsing, {@code false} to stop it.
+     */
+    boolean visit(Row row);
+  }
 
   /**
    * Default constructor.
@@ -107,6 +155,101 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
     return dataType;
   }
 
+  /**
+   * Returns the mode of storage of the rows.
+   *
+   * @return The mode of storage of the rows.
+   * @see #setStorageMode(StorageMode)
+   * @since 1.3.0
+   */
+  public StorageMode getStorageMode() {
+    return storageMode;
+  }
+
+  /**
+   * Sets the mode of storage of the rows (used at the next loading of the rows).
+   *
+   * @param storageMode The mode of storage of the rows.
+   * @return {@code this} actual instance.
+   * @throws NullPointerException If {@code storageMode} is {@code null}.
+   * @see #getStorageMode()
+   * @since 1.3.0
+   */
+  public D setStorageMode(StorageMode storageMode) {
+    if (storageMode == null) {
+      throw new NullPointerException("The storage mode must be not null");
+    }
+    this.storageMode = storageMode;
+    return myself;
+  }
+
+  /**
+   * Returns the number of rows to fetch from the database at the same time when the rows are browsed.
+   *
+   * @return The number of rows to fetch ({@code 0} to use the default of the driver).
+   * @see #setFetchSize(int)
+   * @since 1.3.0
+   */
+  public int getFetchSize() {
+    return fetchSize;
+  }
+
+  /**
+   * Sets the number of rows to fetch from the database at the same time when the rows are browsed (with
+   * {@link #forEachRow(RowVisitor)} or {@link #openRowCursor()}).
+   * <p>
+   * This is a hint for the driver (see {@link Statement#setFetchSize(int)}) : some drivers need other settings to not
+   * read all the rows at the execution of the request (a connection without auto-commit for PostgreSQL for example).
+   * </p>
+   *
+   * @param fetchSize The number of rows to fetch ({@code 0} to use the default of the driver).
+   * @return {@code this} actual instance.
+   * @throws IllegalArgumentException If {@code fetchSize} is negative.
+   * @see #getFetchSize()
+   * @since 1.3.0
+   */
+  public D setFetchSize(int fetchSize) {
+    if (fetchSize < 0) {
+      throw new IllegalArgumentException("The fetch size must be greater than or equal to 0");
+    }
+    this.fetchSize = fetchSize;
+    return myself;
+  }
+
+  /**
+   * Returns the maximum number of chunks of rows sorted at the same time.
+   *
+   * @return The maximum number of chunks of rows sorted at the same time.
+   * @see #setSortParallelism(int)
+   * @since 1.3.0
+   */
+  public int getSortParallelism() {
+    return sortParallelism;
+  }
+
+  /**
+   * Sets the maximum number of chunks of rows sorted at the same time when the rows are sorted after the loading (used
+   * at the next loading of the rows).
+   * <p>
+   * The default value is 1 : the rows are sorted in the current thread. With a greater value, the rows of a large data
+   * are sorted by chunks at the same time and the sorted chunks are merged. The sort is stable : whatever the
+   * parallelism, the order of the rows is the same.
+   * </p>
+   *
+   * @param sortParallelism The maximum number of chunks of rows sorted at the same time.
+   * @return {@code this} actual instance.
+   * @throws IllegalArgumentException If {@code sortParallelism} is less than 1.
+   * @see #getSortParallelism()
+   * @since 1.3.0
+   */
+  public D setSortParallelism(int sortParallelism) {
+    if (sortParallelism < 1) {
+      throw new IllegalArgumentException("The sort parallelism must be greater than or equal to 1");
+    }
+    this.sortParallelism = sortParallelism;
+    return myself;
+  }
+
   /**
    * Returns the SQL request.
    * 
@@ -127,6 +270,7 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
    */
   private void load() {
+    checkRowsCanBeRead();
     try (Connection connection = getConnection()) {
       // Call the specific loading depending of Table or Request.
       loadImpl(connection);
@@ -139,10 +283,156 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
   }
 
   /**
-   * Sorts the list of rows.
+   * Browses the rows from the database one by one, without keeping them (the list of rows is not loaded).
+   * <p>
+   * This method gets a {@link Connection} and calls {@link AbstractDbData#openRows(Connection)} for specific opening
+   * depending of being a {@link Table} or a {@link Request}.<br>
+   * The list of the columns name and the list of the primary keys name are collected before the first row is visited.
+   * </p>
+   *
+   * @param visitor The visitor of the rows.
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the browsing.
+   */
+  void browseRows(RowVisitor visitor) {
+    checkRowsCanBeRead();
+    try (Connection connection = getConnection()) {
+      // Call the specific opening depending of Table or Request.
+      try (ResultSet resultSet = openRows(connection);
+           Statement statement = resultSet.getStatement()) {
+
+        browseRowsFromResultSet(resultSet, visitor);
+      }
+      if (pksNameList == null) {
+        pksNameList = new ArrayList<>();
+      }
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Browses the rows from the database one by one with a cursor, without keeping them : the list of rows is not loaded
+   * and the memory used does not depend of the number of rows.
+   * <p>
+   * The rows are visited in the order of the database (they are not sorted) and the browsing stops when the visitor
+   * returns {@code false}.
+   * </p>
+   * <p>Example :</p>
+   * <pre><code class='java'>
+   * table.setFetchSize(1000).forEachRow(new RowVisitor() {
+   *   public boolean visit(Row row) {
+   *     ...
+   *     return true;
+   *   }
+   * });
+   * </code></pre>
+   *
+   * @param visitor The visitor of the rows.
+   * @throws NullPointerException If {@code visitor} is {@code null} or if the {@link #dataSource} and {@link #source}
+   *                              fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the browsing.
+   * @since 1.3.0
+   */
+  public void forEachRow(RowVisitor visitor) {
+    if (visitor == null) {
+      throw new NullPointerException("The visitor must be not null");
+    }
+    browseRows(visitor);
+  }
+
+  /**
+   * Opens a cursor on the rows from the database : the rows are read one by one when the cursor is iterated, without
+   * keeping them (the list of rows is not loaded).
+   * <p>
+   * The rows are in the order of the database (they are not sorted). The cursor keeps a connection to the database
+   * opened until it is closed (it is closed automatically after the last row).
+   * </p>
+   * <p>Example :</p>
+   * <pre><code class='java'>
+   * try (RowCursor cursor = table.setFetchSize(1000).openRowCursor()) {
+   *   while (cursor.hasNext()) {
+   *     Row row = cursor.next();
+   *     ...
+   *   }
+   * }
+   * </code></pre>
+   *
+   * @return The cursor.
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the opening.
+   * @since 1.3.0
+   */
+  public RowCursor openRowCursor() {
+    checkRowsCanBeRead();
+    return new RowCursor(this);
+  }
+
+  /**
+   * Returns the number of rows of the data from database.
+   * <p>
+   * If the rows are loaded, this method returns the size of the list of rows. Otherwise the rows are counted by the
+   * database (with a {@code SELECT COUNT(*)} request) without loading them : they will be loaded only if needed later.
+   * If the database can not execute the {@code SELECT COUNT(*)} request (the request can not be used in it for
+   * example), the rows are loaded.
+   * </p>
+   * <p>
+   * The number counted by the database is kept : the next calls return the same number until the rows are loaded.
+   * If the database is changed between the counting and the loading of the rows, the number of loaded rows can be
+   * different.
+   * </p>
+   *
+   * @return The number of rows.
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the connection
+   *                            to the database or during the loading.
+   * @since 1.3.0
+   */
+  public int getRowsCount() {
+    checkRowsCanBeRead();
+    if (rowsList == null) {
+      if (rowsCount == null) {
+        rowsCount = count();
+      }
+      if (rowsCount != null) {
+        return rowsCount;
+      }
+    }
+    return getRowsList().size();
+  }
+
+  /**
+   * Counts the rows with the database.
+   * <p>
+   * This method gets a {@link Connection} and calls {@link AbstractDbData#countImpl(Connection)} for specific counting
+   * depending of being a {@link Table} or a {@link Request}.
+   * </p>
+   *
+   * @return The number of rows or {@code null} if the database can not execute the counting request.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the connection
+   *                            to the database.
+   */
+  private Integer count() {
+    try (Connection connection = getConnection()) {
+      try {
+        // Call the specific counting depending of Table or Request.
+        return countImpl(connection);
+      } catch (SQLException e) {
+        // The rows are loaded instead
+        return null;
+      }
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Sorts the list of rows (in the order of {@link RowComparator}).
+   *
+   * @see #setSortParallelism(int)
    */
   protected void sortRows() {
-    Collections.sort(rowsList, RowComparator.INSTANCE);
+    RowSorter.sort(rowsList, sortParallelism);
   }
 
   /**
@@ -160,6 +450,51 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   protected abstract void loadImpl(Connection connection) throws SQLException;
 
+  /**
+   * Implementation of the opening of the rows for the browsing that depends of the kind of data.
+   * <p>
+   * The implementation executes the request (with the fetch size), collects the list of the columns name (and the list
+   * of the primary keys name if possible) and returns the {@link ResultSet} positioned before the first row. The
+   * caller closes the {@link ResultSet} and its {@link Statement}.
+   * </p>
+   *
+   * @see Table#openRows(Connection)
+   * @see Request#openRows(Connection)
+   * @param connection {@link Connection} to the database provided by {@link #browseRows(RowVisitor)} method or by a
+   *                   {@link RowCursor}.
+   * @return The {@link ResultSet} on the rows.
+   * @throws SQLException SQL Exception.
+   * @since 1.3.0
+   */
+  abstract ResultSet openRows(Connection connection) throws SQLException;
+
+  /**
+   * Sets the fetch size on a statement used to browse the rows.
+   *
+   * @param statement The statement.
+   * @throws SQLException SQL Exception.
+   * @see #setFetchSize(int)
+   * @since 1.3.0
+   */
+  void applyFetchSize(Statement statement) throws SQLException {
+    if (fetchSize > 0) {
+      statement.setFetchSize(fetchSize);
+    }
+  }
+
+  /**
+   * Counts the rows in the database, without loading them.
+   * <p>
+   * This method is used by {@link #getRowsCount()}.
+   * </p>
+   *
+   * @param connection {@link Connection} to the database provided by {@link #getRowsCount()} method.
+   * @return The number of rows.
+   * @throws SQLException SQL Exception.
+   * @since 1.3.0
+   */
+  abstract int countImpl(Connection connection) throws SQLException;
+
   /**
    * Collects rows from a {@link ResultSet}.
    * <p>
@@ -171,46 +506,99 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * @throws SQLException A SQL Exception.
    */
   protected void collectRowsFromResultSet(ResultSet resultSet) throws SQLException {
-    ResultSetMetaData metaData = resultSet.getMetaData();
-    rowsList = new ArrayList<>();
+    if (storageMode == StorageMode.COLUMNAR) {
+      collectColumnarRowsFromResultSet(resultSet);
+      return;
+    }
+    final List<Row> rowsList = new ArrayList<>();
+    browseRowsFromResultSet(resultSet, new RowVisitor() {
+      @Override
+      public boolean visit(Row row) {
+        rowsList.add(row);
+        return true;
+      }
+    });
+    this.rowsList = rowsList;
+  }
+
+  /**
+   * Collects rows from a {@link ResultSet} in {@link StorageMode#COLUMNAR} mode.
+   * <p>
+   * The values are kept by column in a {@link ColumnarStorage} and the {@link Row}s of {@link #rowsList} are views on
+   * this storage.
+   * </p>
+   *
+   * @param resultSet The {@link ResultSet}.
+   * @throws SQLException A SQL Exception.
+   */
+  private void collectColumnarRowsFromResultSet(ResultSet resultSet) throws SQLException {
+    ResultSetReader reader = new ResultSetReader(resultSet, columnsNameList, getColumnLetterCase());
+    ColumnarStorage storage = new ColumnarStorage(columnsNameList, getColumnLetterCase());
+    Object[] objects = new Object[columnsNameList.size()];
     while (resultSet.next()) {
-      List<Value> valuesList = new ArrayList<>();
-      for (String columnName : columnsNameList) {
-        // TODO Improve the check of the type
-        int index = -1;
-        for (int i = 1; i <= metaData.getColumnCount(); i++) {
-          if (getColumnLetterCase().isEqual(columnName, metaData.getColumnLabel(i))) {
-            index = i;
-            break;
-          }
-        }
-        Object object;
-        int type = metaData.getColumnType(index);
-        switch (type) {
-          case Types.DATE:
-            object = resultSet.getDate(columnName);
-            break;
-          case Types.TIME:
-            object = resultSet.getTime(columnName);
-            break;
-          case Types.TIMESTAMP:
-            object = resultSet.getTimestamp(columnName);
-            break;
-          case Types.BLOB:
-            object = resultSet.getBytes(columnName);
-            break;
-          case Types.CLOB:
-            object = resultSet.getString(columnName);
-            break;
-
-          default:
-            object = resultSet.getObject(columnName);
-            break;
-        }
-        valuesList.add(new Value(columnName, object, getColumnLetterCase()));
+      for (int columnIndex = 0; columnIndex < objects.length; columnIndex++) {
+        objects[columnIndex] = reader.readObject(columnIndex);
       }
-      rowsList.add(new Row(pksNameList, columnsNameList, valuesList, getColumnLetterCase(), getPrimaryKeyLetterCase()));
+      storage.addRow(objects);
+    }
+    storage.trimToSize();
+
+    List<Row> rowsList = new ArrayList<>(storage.getRowsCount());
+    for (int rowIndex = 0; rowIndex < storage.getRowsCount(); rowIndex++) {
+      rowsList.add(createRow(storage.getRowValues(rowIndex)));
     }
+    this.rowsList = rowsList;
+  }
+
+  /**
+   * Browses the rows from a {@link ResultSet}.
+   * <p>
+   * The columns are read by index with a {@link ResultSetReader} (the indexes and the way to read each column are
+   * resolved once for the {@link ResultSet}).
+   * </p>
+   *
+   * @param resultSet The {@link ResultSet}.
+   * @param visitor The visitor of the rows.
+   * @throws SQLException A SQL Exception.
+   */
+  void browseRowsFromResultSet(ResultSet resultSet, RowVisitor visitor) throws SQLException {
+    ResultSetReader reader = new ResultSetReader(resultSet, columnsNameList, getColumnLetterCase());
+    while (resultSet.next()) {
+      Row row = createRow(reader.readValues());
+      if (!visitor.visit(row)) {
+        break;
+      }
+    }
+  }
+
+  /**
+   * Creates a row of this data with the values in parameter.
+   *
+   * @param valuesList The values of the row.
+   * @return The row.
+   * @since 1.3.0
+   */
+  Row createRow(List<Value> valuesList) {
+    return new Row(getRowSchema(), valuesList);
+  }
+
+  /**
+   * Returns the schema shared by the rows of this data : the indexes of the primary keys in the columns are computed
+   * once instead of for each row.
+   *
+   * @return The schema of the rows.
+   * @since 1.3.0
+   */
+  RowSchema getRowSchema() {
+    RowSchema rowSchema = this.rowSchema;
+    LetterCase columnLetterCase = getColumnLetterCase();
+    LetterCase primaryKeyLetterCase = getPrimaryKeyLetterCase();
+    if (rowSchema == null
+        || !rowSchema.isSchemaOf(pksNameList, columnsNameList, columnLetterCase, primaryKeyLetterCase)) {
+      rowSchema = new RowSchema(pksNameList, columnsNameList, columnLetterCase, primaryKeyLetterCase);
+      this.rowSchema = rowSchema;
+    }
+    return rowSchema;
   }
 
   /**
@@ -287,8 +675,9 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
       this.pksNameList.add(pkName);
     }
     if (rowsList != null) {
+      RowSchema rowSchema = getRowSchema();
       for (Row row : rowsList) {
-        row.setPksNameList(this.pksNameList);
+        row.setSchema(rowSchema);
       }
     }
     controlIfAllThePksNameExistInTheColumns();
@@ -315,10 +704,9 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
   /**
    * Returns the list of the values in columns for the data from database.
    * <p>
-   * This method calls {@link #getColumnsNameList()} and {@link #getValuesList(int)} which calls {@link #getRowsList()}.
-   * <br>
-   * If it is the first call to {@link #getColumnsNameList()} or {@link #getRowsList()}, the data are loaded from
-   * database by calling the {@link #load()} private method.
+   * The values of a column are got from the rows at the first call to {@link Column#getValuesList()} : the list of the
+   * columns can be got without loading the rows (the names of the columns are collected from database by
+   * {@link #collectColumnsNameImpl(Connection)} if possible).
    * </p>
    *
    * @return The list of the values in columns.
@@ -327,26 +715,119 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   public List<Column> getColumnsList() {
     if (columnsList == null) {
-      columnsList = new ArrayList<>();
-      List<String> columnsNameList = getColumnsNameList();
+      List<Column> columnsList = new ArrayList<>();
+      List<String> columnsNameList = getColumnsNameListWithoutRows();
       int index = 0;
       for (String name : columnsNameList) {
-        List<Value> valuesList = getValuesList(index);
-        Column column = new Column(name, valuesList, getColumnLetterCase());
+        Column column = new Column(name, this, index, getColumnLetterCase());
         columnsList.add(column);
         index++;
       }
+      this.columnsList = columnsList;
     }
     return columnsList;
   }
 
+  /**
+   * Returns the list of the columns name, without loading the rows if it is possible.
+   * <p>
+   * If the list of the columns name is not known, {@link #collectColumnsNameImpl(Connection)} is called. If the list is
+   * still not known after (the implementation can not collect the columns name without the rows), the data are loaded.
+   * </p>
+   *
+   * @return The list of the columns name.
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException}.
+   * @since 1.3.0
+   */
+  List<String> getColumnsNameListWithoutRows() {
+    if (columnsNameList == null && rowsList == null) {
+      try (Connection connection = getConnection()) {
+        // Call the specific collecting depending of Table or Request.
+        collectColumnsNameImpl(connection);
+      } catch (SQLException e) {
+        throw new AssertJDBException(e);
+      }
+    }
+    return getColumnsNameList();
+  }
+
+  /**
+   * Collects the list of the columns name without loading the rows.
+   * <p>
+   * This method is called by {@link #getColumnsNameListWithoutRows()}. By default, it does nothing (so the data are
+   * loaded to know the columns name).
+   * </p>
+   *
+   * @see Table#collectColumnsNameImpl(Connection)
+   * @param connection {@link Connection} to the database provided by {@link #getColumnsNameListWithoutRows()} method.
+   * @throws SQLException SQL Exception.
+   * @since 1.3.0
+   */
+  void collectColumnsNameImpl(Connection connection) throws SQLException {
+    // By default, the columns name are collected with the rows
+  }
+
+  /**
+   * Sets the list of the rows.
+   *
+   * @param rowsList The list of the rows.
+   * @since 1.3.0
+   */
+  void setRowsList(List<Row> rowsList) {
+    this.rowsList = rowsList;
+  }
+
+  /**
+   * Indicates that the data is at start point of {@link Changes} without keeping its rows : after, the rows can not
+   * be read from the database.
+   *
+   * @since 1.3.0
+   */
+  void setRowsNotKept() {
+    rowsNotKept = true;
+  }
+
+  /**
+   * Returns if the rows can be read from the database (they can not if the data is at start point of {@link Changes}
+   * without keeping its rows).
+   *
+   * @return {@code true} if the rows can be read, {@code false} otherwise.
+   * @since 1.3.0
+   */
+  boolean canReadRows() {
+    return !rowsNotKept;
+  }
+
+  /**
+   * Checks that the rows can be read from the database.
+   *
+   * @throws AssertJDBException If the data is at start point of {@link Changes} without keeping its rows.
+   */
+  private void checkRowsCanBeRead() {
+    if (rowsNotKept) {
+      throw new AssertJDBException("The rows at start point are not kept in streaming and server side modes : "
+                                   + "they can not be read from the database");
+    }
+  }
+
+  /**
+   * Returns if the list of the rows is loaded (by {@link #getRowsList()} or by another method which needs all the
+   * rows) : if it is, the methods which can read the rows from the database (like {@link #getRowsCount()}) use the
+   * loaded rows instead.
+   *
+   * @return {@code true} if the rows are loaded, {@code false} otherwise.
+   * @since 1.3.0
+   */
+  public boolean isRowsListLoaded() {
+    return rowsList != null;
+  }
+
   /**
    * Returns the column corresponding to the column index in parameter and the values inside the column.
    * <p>
-   * This method calls {@link #getColumnsNameList()} and {@link #getValuesList(int)} which calls {@link #getRowsList()}.
-   * <br>
-   * If it is the first call to {@link #getColumnsNameList()} or {@link #getRowsList()}, the data are loaded from
-   * database by calling the {@link #load()} private method.
+   * This method calls {@link #getColumnsList()} : the values of the column are got from the rows at the first call to
+   * {@link Column#getValuesList()}.
    * </p>
    * 
    * @param index The column index.
@@ -376,11 +857,12 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
   }
 
   /**
-   * Returns the values of the column corresponding to the column name.
+   * Returns the values of the column corresponding to the column index.
    * <p>
-   * This method calls {@link #getColumnsNameList()} and {@link #getRowsList()}.<br>
-   * If it is the first call to {@link #getColumnsNameList()} or {@link #getRowsList()}, the data are loaded from
-   * database by calling the {@link #load()} private method.
+   * This method calls {@link #getRowsList()}.<br>
+   * If it is the first call to {@link #getRowsList()}, the data are loaded from database by calling the {@link #load()}
+   * private method.<br>
+   * The values are not copied : the list is a read-only view on the values of the rows.
    * </p>
    * 
    * @param index The column index
@@ -388,13 +870,55 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
    * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
    */
-  private List<Value> getValuesList(int index) {
-    List<Value> valuesList = new ArrayList<>();
-    for (Row row : getRowsList()) {
-      valuesList.add(row.getColumnValue(index));
+  List<Value> getValuesList(int index) {
+    return new ColumnValuesList(getRowsList(), index);
+  }
+
+  /**
+   * View on the values of a column in the rows.
+   * <p>
+   * The view is read-only : the methods which modify it throw an {@link UnsupportedOperationException}.
+   * </p>
+   *
+   * @since 1.3.0
+   */
+  private static final class ColumnValuesList extends AbstractList<Value> implements RandomAccess {
+
+    /**
+     * The list of the rows.
+     */
+    private final List<Row> rowsList;
+    /**
+     * The index of the column.
+     */
+    private final int index;
+
+    /**
+     * Constructor.
+     *
+     * @param rowsList The list of the rows.
+     * @param index    The index of the column.
+     */
+    private ColumnValuesList(List<Row> rowsList, int index) {
+      this.rowsList = rowsList;
+      this.index = index;
     }
 
-    return valuesList;
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Value get(int rowIndex) {
+      return rowsList.get(rowIndex).getColumnValue(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+      return rowsList.size();
+    }
   }
 
   /**
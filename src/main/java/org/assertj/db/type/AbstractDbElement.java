@@ -17,7 +17,6 @@ import org.assertj.db.type.lettercase.WithLetterCase;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
 /**
@@ -59,6 +58,11 @@ public abstract class AbstractDbElement<D extends AbstractDbElement<D>> implemen
    * @since 1.1.0
    */
   private LetterCase primaryKeyLetterCase;
+  /**
+   * Connection of a consistent snapshot used instead of getting a new connection (or {@code null}).
+   * @since 1.3.0
+   */
+  private Connection snapshotConnection;
 
   /**
    * Default constructor.
@@ -210,13 +214,32 @@ public abstract class AbstractDbElement<D extends AbstractDbElement<D>> implemen
     return myself;
   }
 
+  /**
+   * Sets the connection of a consistent snapshot to use instead of getting a new connection.
+   * <p>
+   * This connection must not be closed by the element (see {@link SnapshotTransaction#getConnection()}).
+   * </p>
+   *
+   * @param snapshotConnection The connection (or {@code null} to get a new connection each time).
+   * @since 1.3.0
+   */
+  void setSnapshotConnection(Connection snapshotConnection) {
+    this.snapshotConnection = snapshotConnection;
+  }
+
   /**
    * Returns a {@link Connection} from a {@link DataSource} or from a {@link Source}.
+   * <p>
+   * If a connection of a consistent snapshot is set, this connection is returned.
+   * </p>
    * 
    * @return A {@link Connection} differently, depending if it is a {@link DataSource} or a {@link Source}.
    * @throws SQLException SQL Exception
    */
   protected Connection getConnection() throws SQLException {
+    if (snapshotConnection != null) {
+      return snapshotConnection;
+    }
     if (dataSource == null && source == null) {
       throw new NullPointerException("connection or dataSource must be not null");
     }
@@ -225,7 +248,7 @@ public abstract class AbstractDbElement<D extends AbstractDbElement<D>> implemen
     if (dataSource != null) {
       return dataSource.getConnection();
     } else {
-      return DriverManager.getConnection(source.getUrl(), source.getUser(), source.getPassword());
+      return source.getConnection();
     }
   }
 
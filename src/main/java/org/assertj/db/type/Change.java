@@ -17,6 +17,8 @@ import org.assertj.db.type.lettercase.WithColumnLetterCase;
 import org.assertj.db.type.lettercase.WithPrimaryKeyLetterCase;
 import org.assertj.db.type.lettercase.WithTableLetterCase;
 
+import java.util.BitSet;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -80,6 +82,21 @@ public class Change implements DbElement, WithTableLetterCase, WithColumnLetterC
    */
   private final LetterCase primaryKeyLetterCase;
 
+  /**
+   * The indexes of the modified columns ({@code null} if they are not computed yet).
+   * <p>
+   * The bitmap is computed once (when it is needed for the first time) and is never modified after.
+   * </p>
+   * @since 1.3.0
+   */
+  private volatile BitSet modifiedColumnsIndexes;
+
+  /**
+   * The number of modified columns.
+   * @since 1.3.0
+   */
+  private volatile int modifiedColumnsCount;
+
   /**
    * Returns a new instance of a creation change.
    * 
@@ -272,4 +289,105 @@ public class Change implements DbElement, WithTableLetterCase, WithColumnLetterC
   public Row getRowAtEndPoint() {
     return rowAtEndPoint;
   }
+
+  /**
+   * Returns the indexes of the modified columns : the bit at the index of a column is set if the column is modified.
+   * <p>
+   * A column is modified if its value at start point is different from its value at end point (for a creation, the
+   * columns with a value which is not {@code null} at end point are modified and for a deletion, the columns with a
+   * value which is not {@code null} at start point are modified).
+   * </p>
+   *
+   * @return A copy of the indexes of the modified columns.
+   * @since 1.3.0
+   */
+  public BitSet getModifiedColumnsIndexes() {
+    return (BitSet) getModifiedColumnsBitSet().clone();
+  }
+
+  /**
+   * Returns the number of modified columns.
+   *
+   * @return The number of modified columns.
+   * @see #getModifiedColumnsIndexes()
+   * @since 1.3.0
+   */
+  public int getModifiedColumnsCount() {
+    getModifiedColumnsBitSet();
+    return modifiedColumnsCount;
+  }
+
+  /**
+   * Returns if a column is modified.
+   *
+   * @param index The index of the column.
+   * @return {@code true} if the column is modified, {@code false} otherwise.
+   * @throws IndexOutOfBoundsException If the {@code index} is negative.
+   * @see #getModifiedColumnsIndexes()
+   * @since 1.3.0
+   */
+  public boolean isModifiedColumn(int index) {
+    return getModifiedColumnsBitSet().get(index);
+  }
+
+  /**
+   * Returns the index of the first modified column which occurs on or after the index in parameter.
+   *
+   * @param fromIndex The index to start checking from (inclusive).
+   * @return The index of the next modified column or {@code -1} if there is no such column.
+   * @throws IndexOutOfBoundsException If the {@code fromIndex} is negative.
+   * @see #getModifiedColumnsIndexes()
+   * @since 1.3.0
+   */
+  public int getNextModifiedColumnIndex(int fromIndex) {
+    return getModifiedColumnsBitSet().nextSetBit(fromIndex);
+  }
+
+  /**
+   * Returns the indexes of the modified columns (computed the first time).
+   *
+   * @return The indexes of the modified columns (must not be modified).
+   */
+  private BitSet getModifiedColumnsBitSet() {
+    BitSet bitSet = modifiedColumnsIndexes;
+    if (bitSet == null) {
+      bitSet = computeModifiedColumnsIndexes();
+      modifiedColumnsCount = bitSet.cardinality();
+      modifiedColumnsIndexes = bitSet;
+    }
+    return bitSet;
+  }
+
+  /**
+   * Computes the indexes of the modified columns.
+   *
+   * @return The indexes of the modified columns.
+   */
+  private BitSet computeModifiedColumnsIndexes() {
+    BitSet bitSet = new BitSet(columnsNameList.size());
+    if (rowAtStartPoint != null && rowAtEndPoint != null) {
+      Iterator<Value> iteratorAtEndPoint = rowAtEndPoint.getValuesList().iterator();
+      int index = 0;
+      for (Value valueAtStartPoint : rowAtStartPoint.getValuesList()) {
+        Object objectAtStartPoint = valueAtStartPoint.getValue();
+        Object objectAtEndPoint = iteratorAtEndPoint.next().getValue();
+        if ((objectAtStartPoint == null && objectAtEndPoint != null) ||
+            (objectAtStartPoint != null && !objectAtStartPoint.equals(objectAtEndPoint))) {
+
+          bitSet.set(index);
+        }
+        index++;
+      }
+    } else {
+      Row row = rowAtStartPoint != null ? rowAtStartPoint : rowAtEndPoint;
+      int index = 0;
+      for (Value value : row.getValuesList()) {
+        if (value.getValue() != null) {
+          bitSet.set(index);
+        }
+        index++;
+      }
+    }
+    return bitSet;
+  }
 }
@@ -0,0 +1,224 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.util.ChangeComparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable set of changes : the changes are sorted once (in the order of {@link ChangeComparator}) and indexed by
+ * table name and by type.
+ * <p>
+ * The sets of the changes of a table or of a type are computed at the first call and kept (as the index of the changes
+ * by the values of their primary keys) : so the views of {@link Changes} created during a navigation share them instead
+ * of computing them again.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.3.0
+ */
+final class ChangeSet {
+
+  /**
+   * The empty set.
+   */
+  static final ChangeSet EMPTY = new ChangeSet(Collections.<Change>emptyList());
+
+  /**
+   * Sort key of a change : the objects compared by {@link ChangeComparator} extracted once.
+   */
+  private static final class SortKey {
+
+    /**
+     * The change.
+     */
+    private final Change change;
+    /**
+     * The sort key of the row of the change (at start point or at end point for a creation).
+     */
+    private final RowSortKey rowSortKey;
+
+    /**
+     * Constructor.
+     *
+     * @param change The change.
+     */
+    private SortKey(Change change) {
+      this.change = change;
+      Row row = change.getRowAtStartPoint();
+      if (row == null) {
+        row = change.getRowAtEndPoint();
+      }
+      rowSortKey = new RowSortKey(row);
+    }
+  }
+
+  /**
+   * Comparator of the sort keys, in the order of {@link ChangeComparator}.
+   */
+  private static final Comparator<SortKey> KEY_COMPARATOR = new Comparator<SortKey>() {
+    @Override
+    public int compare(SortKey key1, SortKey key2) {
+      int compare = key1.change.getChangeType().compareTo(key2.change.getChangeType());
+      if (compare != 0) {
+        return compare;
+      }
+      compare = key1.change.getDataName().compareTo(key2.change.getDataName());
+      if (compare != 0) {
+        return compare;
+      }
+      return key1.rowSortKey.compareTo(key2.rowSortKey);
+    }
+  };
+
+  /**
+   * The list of the changes (sorted and not modifiable).
+   */
+  private final List<Change> changesList;
+  /**
+   * The changes by table name (in the order of the changes).
+   */
+  private final Map<String, List<Change>> changesOfTableMap = new LinkedHashMap<>();
+  /**
+   * The changes by type (in the order of the changes).
+   */
+  private final Map<ChangeType, List<Change>> changesOfTypeMap = new EnumMap<>(ChangeType.class);
+  /**
+   * The sets of the changes by table name (computed when needed).
+   */
+  private final Map<String, ChangeSet> changeSetOfTableMap = new HashMap<>();
+  /**
+   * The sets of the changes by type (computed when needed).
+   */
+  private final Map<ChangeType, ChangeSet> changeSetOfTypeMap = new EnumMap<>(ChangeType.class);
+  /**
+   * The index of the changes by the values of their primary keys (computed when needed).
+   */
+  private ChangesPksIndex pksIndex;
+
+  /**
+   * Constructor.
+   *
+   * @param sortedChangesList The list of the changes (already sorted).
+   */
+  private ChangeSet(List<Change> sortedChangesList) {
+    changesList = Collections.unmodifiableList(sortedChangesList);
+    for (Change change : sortedChangesList) {
+      List<Change> changesOfTable = changesOfTableMap.get(change.getDataName());
+      if (changesOfTable == null) {
+        changesOfTable = new ArrayList<>();
+        changesOfTableMap.put(change.getDataName(), changesOfTable);
+      }
+      changesOfTable.add(change);
+      List<Change> changesOfType = changesOfTypeMap.get(change.getChangeType());
+      if (changesOfType == null) {
+        changesOfType = new ArrayList<>();
+        changesOfTypeMap.put(change.getChangeType(), changesOfType);
+      }
+      changesOfType.add(change);
+    }
+  }
+
+  /**
+   * Returns the set of the changes in parameter : the changes are sorted in the order of {@link ChangeComparator}
+   * (the compared objects are extracted once for each change).
+   *
+   * @param changesList The list of the changes (not modified).
+   * @return The set of changes.
+   */
+  static ChangeSet of(List<Change> changesList) {
+    SortKey[] keys = new SortKey[changesList.size()];
+    int index = 0;
+    for (Change change : changesList) {
+      keys[index++] = new SortKey(change);
+    }
+    Arrays.sort(keys, KEY_COMPARATOR);
+    List<Change> sortedChangesList = new ArrayList<>(keys.length);
+    for (SortKey key : keys) {
+      sortedChangesList.add(key.change);
+    }
+    return new ChangeSet(sortedChangesList);
+  }
+
+  /**
+   * Returns the list of the changes.
+   *
+   * @return The list of the changes (sorted and not modifiable).
+   */
+  List<Change> getChangesList() {
+    return changesList;
+  }
+
+  /**
+   * Returns the names of the tables (or of the request) of the changes.
+   *
+   * @return The names in the order of the changes.
+   */
+  Set<String> getDataNames() {
+    return Collections.unmodifiableSet(changesOfTableMap.keySet());
+  }
+
+  /**
+   * Returns the set of the changes on a table.
+   *
+   * @param dataName The name of the table (equal to the data name of the changes).
+   * @return The set of the changes.
+   */
+  synchronized ChangeSet getChangeSetOfTable(String dataName) {
+    ChangeSet changeSet = changeSetOfTableMap.get(dataName);
+    if (changeSet == null) {
+      List<Change> changesOfTable = changesOfTableMap.get(dataName);
+      changeSet = changesOfTable == null ? EMPTY : new ChangeSet(changesOfTable);
+      changeSetOfTableMap.put(dataName, changeSet);
+    }
+    return changeSet;
+  }
+
+  /**
+   * Returns the set of the changes of a type.
+   *
+   * @param changeType The type of the changes.
+   * @return The set of the changes.
+   */
+  synchronized ChangeSet getChangeSetOfType(ChangeType changeType) {
+    ChangeSet changeSet = changeSetOfTypeMap.get(changeType);
+    if (changeSet == null) {
+      List<Change> changesOfType = changesOfTypeMap.get(changeType);
+      changeSet = changesOfType == null ? EMPTY : new ChangeSet(changesOfType);
+      changeSetOfTypeMap.put(changeType, changeSet);
+    }
+    return changeSet;
+  }
+
+  /**
+   * Returns the index of the changes by the values of their primary keys.
+   *
+   * @return The index.
+   */
+  synchronized ChangesPksIndex getPksIndex() {
+    if (pksIndex == null) {
+      pksIndex = new ChangesPksIndex(changesList);
+    }
+    return pksIndex;
+  }
+}
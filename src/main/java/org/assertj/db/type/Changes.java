@@ -13,7 +13,8 @@
 package org.assertj.db.type;
 
 import org.assertj.db.exception.AssertJDBException;
-import org.assertj.db.util.ChangeComparator;
+import org.assertj.db.type.lettercase.LetterCase;
+import org.assertj.db.util.ValuesKey;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -21,6 +22,7 @@ import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
 
 import static org.assertj.db.type.Change.*;
 
@@ -30,7 +32,7 @@ import static org.assertj.db.type.Change.*;
  * @author Régis Pouiller
  * 
  */
-public class Changes extends AbstractDbElement<Changes> {
+public class Changes extends AbstractDbElement<Changes> implements AutoCloseable {
 
   /**
    * The list of the tables.
@@ -57,9 +59,54 @@ public class Changes extends AbstractDbElement<Changes> {
    */
   private Request requestAtEndPoint;
   /**
-   * The list of the changes.
+   * The set of the changes (sorted and indexed).
    */
-  private List<Change> changesList;
+  private ChangeSet changeSet;
+  /**
+   * The mode of comparison.
+   * @since 1.3.0
+   */
+  private ComparisonMode comparisonMode = ComparisonMode.IN_MEMORY;
+  /**
+   * The files containing the tables at start point in {@link ComparisonMode#STREAMING} mode (the element is
+   * {@code null} for a table without primary key : this table is loaded in memory).
+   * @since 1.3.0
+   */
+  private List<TableSnapshotFile> tablesAtStartPointFilesList;
+  /**
+   * The copies of the tables at start point in {@link ComparisonMode#SERVER_SIDE} mode (the element is {@code null}
+   * for a table without primary key : this table is loaded in memory).
+   * @since 1.3.0
+   */
+  private List<TableSnapshotCopy> tablesAtStartPointCopiesList;
+  /**
+   * Indicates if the files or the copies of the tables at start point are released (after the end point in
+   * {@link ComparisonMode#SERVER_SIDE} mode or by {@link #close()}) : the start point must be set again.
+   * @since 1.3.0
+   */
+  private boolean startPointReleased;
+  /**
+   * The maximum number of tables loaded at the same time (and so the maximum number of connections opened at the same
+   * time) by {@link #setStartPointNow()} and {@link #setEndPointNow()}.
+   * @since 1.3.0
+   */
+  private int parallelism = 1;
+  /**
+   * The executor used to load the tables at the same time (or {@code null} to use a executor created for each
+   * loading).
+   * @since 1.3.0
+   */
+  private ExecutorService executorService;
+  /**
+   * The mode of reading of the tables.
+   * @since 1.3.0
+   */
+  private SnapshotMode snapshotMode = SnapshotMode.CONNECTION_PER_TABLE;
+  /**
+   * The transaction isolation used in {@link SnapshotMode#SINGLE_TRANSACTION} mode.
+   * @since 1.3.0
+   */
+  private int transactionIsolation = Connection.TRANSACTION_REPEATABLE_READ;
 
   /**
    * Constructor.
@@ -121,7 +168,10 @@ public class Changes extends AbstractDbElement<Changes> {
     tablesList = new ArrayList<>();
     tablesAtStartPointList = null;
     tablesAtEndPointList = null;
-    changesList = null;
+    deleteTablesAtStartPointFiles();
+    dropTablesAtStartPointCopies();
+    startPointReleased = false;
+    setChangeSet(null);
     for (Table table : tables) {
       if (table == null) {
         throw new NullPointerException("The tables must be not null");
@@ -156,11 +206,14 @@ public class Changes extends AbstractDbElement<Changes> {
     tablesList = null;
     tablesAtStartPointList = null;
     tablesAtEndPointList = null;
+    deleteTablesAtStartPointFiles();
+    dropTablesAtStartPointCopies();
+    startPointReleased = false;
     this.request = getDuplicatedRequest(request);
     copyElement(request, this);
     requestAtStartPoint = null;
     requestAtEndPoint = null;
-    changesList = null;
+    setChangeSet(null);
     return myself;
   }
 
@@ -172,8 +225,162 @@ public class Changes extends AbstractDbElement<Changes> {
     return request;
   }
 
+  /**
+   * Returns the mode of comparison.
+   *
+   * @return The mode of comparison.
+   * @see #setComparisonMode(ComparisonMode)
+   * @since 1.3.0
+   */
+  public ComparisonMode getComparisonMode() {
+    return comparisonMode;
+  }
+
+  /**
+   * Sets the mode of comparison (used from the next start point).
+   *
+   * @param comparisonMode The mode of comparison.
+   * @return {@code this} actual instance.
+   * @throws NullPointerException If {@code comparisonMode} is {@code null}.
+   * @see #getComparisonMode()
+   * @since 1.3.0
+   */
+  public Changes setComparisonMode(ComparisonMode comparisonMode) {
+    if (comparisonMode == null) {
+      throw new NullPointerException("The comparison mode must be not null");
+    }
+    this.comparisonMode = comparisonMode;
+    return myself;
+  }
+
+  /**
+   * Returns the maximum number of tables loaded at the same time.
+   *
+   * @return The maximum number of tables loaded at the same time.
+   * @see #setParallelism(int)
+   * @since 1.3.0
+   */
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Sets the maximum number of tables loaded at the same time by {@link #setStartPointNow()} and
+   * {@link #setEndPointNow()} (and so the maximum number of connections opened at the same time).
+   * <p>
+   * The default value is 1 : the tables are loaded one after the other in the current thread. Whatever the parallelism,
+   * the order of the tables (and so of the changes) is the same.
+   * </p>
+   *
+   * @param parallelism The maximum number of tables loaded at the same time.
+   * @return {@code this} actual instance.
+   * @throws IllegalArgumentException If {@code parallelism} is less than 1.
+   * @see #getParallelism()
+   * @see #setExecutorService(ExecutorService)
+   * @since 1.3.0
+   */
+  public Changes setParallelism(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("The parallelism must be greater than or equal to 1");
+    }
+    this.parallelism = parallelism;
+    return myself;
+  }
+
+  /**
+   * Returns the executor used to load the tables at the same time.
+   *
+   * @return The executor (or {@code null} if an executor is created for each loading).
+   * @see #setExecutorService(ExecutorService)
+   * @since 1.3.0
+   */
+  public ExecutorService getExecutorService() {
+    return executorService;
+  }
+
+  /**
+   * Sets the executor used to load the tables at the same time when the parallelism is greater than 1.
+   * <p>
+   * If no executor is set, an executor is created for each loading (with virtual threads if the JVM provides them,
+   * with a fixed pool of threads otherwise) and shut down after. The executor set is not shut down by {@code Changes}.
+   * </p>
+   *
+   * @param executorService The executor (or {@code null} to create an executor for each loading).
+   * @return {@code this} actual instance.
+   * @see #getExecutorService()
+   * @see #setParallelism(int)
+   * @since 1.3.0
+   */
+  public Changes setExecutorService(ExecutorService executorService) {
+    this.executorService = executorService;
+    return myself;
+  }
+
+  /**
+   * Returns the mode of reading of the tables.
+   *
+   * @return The mode of reading of the tables.
+   * @see #setSnapshotMode(SnapshotMode)
+   * @since 1.3.0
+   */
+  public SnapshotMode getSnapshotMode() {
+    return snapshotMode;
+  }
+
+  /**
+   * Sets the mode of reading of the tables by {@link #setStartPointNow()} and {@link #setEndPointNow()}.
+   *
+   * @param snapshotMode The mode of reading of the tables.
+   * @return {@code this} actual instance.
+   * @throws NullPointerException If {@code snapshotMode} is {@code null}.
+   * @see #getSnapshotMode()
+   * @see #setTransactionIsolation(int)
+   * @since 1.3.0
+   */
+  public Changes setSnapshotMode(SnapshotMode snapshotMode) {
+    if (snapshotMode == null) {
+      throw new NullPointerException("The snapshot mode must be not null");
+    }
+    this.snapshotMode = snapshotMode;
+    return myself;
+  }
+
+  /**
+   * Returns the transaction isolation used in {@link SnapshotMode#SINGLE_TRANSACTION} mode.
+   *
+   * @return The transaction isolation.
+   * @see #setTransactionIsolation(int)
+   * @since 1.3.0
+   */
+  public int getTransactionIsolation() {
+    return transactionIsolation;
+  }
+
+  /**
+   * Sets the transaction isolation used in {@link SnapshotMode#SINGLE_TRANSACTION} mode.
+   * <p>
+   * The default value is {@link Connection#TRANSACTION_REPEATABLE_READ}. If the database does not support the
+   * transaction isolation, the default transaction isolation of the connection is kept.
+   * </p>
+   *
+   * @param transactionIsolation The transaction isolation ({@link Connection#TRANSACTION_REPEATABLE_READ} or
+   *                             {@link Connection#TRANSACTION_SERIALIZABLE} for example).
+   * @return {@code this} actual instance.
+   * @see #getTransactionIsolation()
+   * @since 1.3.0
+   */
+  public Changes setTransactionIsolation(int transactionIsolation) {
+    this.transactionIsolation = transactionIsolation;
+    return myself;
+  }
+
   /**
    * Returns the list of the {@link Table}s at start point.
+   * <p>
+   * In {@link ComparisonMode#STREAMING} and {@link ComparisonMode#SERVER_SIDE} modes, the rows of the tables with
+   * primary keys are not kept in these {@link Table}s : they can not be read (an {@link AssertJDBException} is thrown
+   * because the database is no longer at the start point).
+   * </p>
    * 
    * @return The list of the {@link Table}s at start point.
    * @see Changes#setStartPointNow()
@@ -241,7 +448,10 @@ public class Changes extends AbstractDbElement<Changes> {
                             request.getPrimaryKeyLetterCase())
             .setRequest(request.getRequest())
             .setParameters(request.getParameters())
-            .setPksName(request.getPksNameList().toArray(new String[request.getPksNameList().size()]));
+            .setPksName(request.getPksNameList().toArray(new String[request.getPksNameList().size()]))
+            .setStorageMode(request.getStorageMode())
+            .setFetchSize(request.getFetchSize())
+            .setSortParallelism(request.getSortParallelism());
   }
 
   /**
@@ -251,7 +461,19 @@ public class Changes extends AbstractDbElement<Changes> {
    * @return The Duplication
    */
   private static Table getDuplicatedTable(Table table) {
+    return getDuplicatedTable(table, null);
+  }
+
+  /**
+   * Duplicate the {@link Table} in parameter and returns it.
+   *
+   * @param table The {@link Table} to duplicate
+   * @param snapshotConnection The connection of the snapshot to use (or {@code null} to get new connections).
+   * @return The Duplication
+   */
+  private static Table getDuplicatedTable(Table table, Connection snapshotConnection) {
     Table t = new Table();
+    t.setSnapshotConnection(snapshotConnection);
     copyElement(table, t);
     return t.setLetterCases(table.getTableLetterCase(),
                             table.getColumnLetterCase(),
@@ -261,82 +483,507 @@ public class Changes extends AbstractDbElement<Changes> {
             .setEndDelimiter(table.getEndDelimiter())
             .setColumnsToCheck(table.getColumnsToCheck())
             .setColumnsToExclude(table.getColumnsToExclude())
-            .setColumnsToOrder(table.getColumnsToOrder());
+            .setColumnsToOrder(table.getColumnsToOrder())
+            .setStorageMode(table.getStorageMode())
+            .setFetchSize(table.getFetchSize())
+            .setSortParallelism(table.getSortParallelism())
+            .setOrderedByPrimaryKey(table.isOrderedByPrimaryKey());
   }
 
   /**
-   * Sets the start point for comparison.
-   * 
-   * @return {@code this} actual instance.
+   * Writes the {@link Table} in parameter in a temporary file if it has primary keys (the rows are ordered on the
+   * primary keys) or loads it otherwise (or if the database does not order the primary keys like the comparison).
+   *
+   * @param table The {@link Table} at start point.
+   * @return The file containing the {@link Table} or {@code null} if the {@link Table} is loaded.
+   * @see ComparisonMode#STREAMING
    */
-  public Changes setStartPointNow() {
-    if (request == null && tablesList == null) {
-      try (Connection connection = getConnection()) {
-        tablesList = new LinkedList<>();
-        DatabaseMetaData metaData = connection.getMetaData();
-        ResultSet resultSet = metaData.getTables(getCatalog(connection), getSchema(connection), null,
-            new String[] { "TABLE" });
-        while (resultSet.next()) {
-          String tableName = resultSet.getString("TABLE_NAME");
-          Table t = new Table().setLetterCases(getTableLetterCase(), getColumnLetterCase(), getPrimaryKeyLetterCase())
-                               .setName(getTableLetterCase().convert(tableName));
-          copyElement(this, t);
-          tablesList.add(t);
+  private static TableSnapshotFile getTableSnapshotFile(Table table) {
+    List<String> pksNameList = table.getPksNameListFromMetaData();
+    if (pksNameList.isEmpty()) {
+      table.getRowsList();
+      return null;
+    }
+    Table.Order[] orders = new Table.Order[pksNameList.size()];
+    for (int index = 0; index < orders.length; index++) {
+      orders[index] = Table.Order.asc(pksNameList.get(index));
+    }
+    table.setColumnsToOrder(orders);
+    TableSnapshotFile tableSnapshotFile = TableSnapshotFile.of(table);
+    if (tableSnapshotFile == null) {
+      // The order of the database is not the order of the comparison
+      table.getRowsList();
+      return null;
+    }
+    table.setRowsNotKept();
+    return tableSnapshotFile;
+  }
+
+  /**
+   * Deletes the temporary files containing the tables at start point.
+   */
+  private void deleteTablesAtStartPointFiles() {
+    if (tablesAtStartPointFilesList != null) {
+      for (TableSnapshotFile tableSnapshotFile : tablesAtStartPointFilesList) {
+        if (tableSnapshotFile != null) {
+          tableSnapshotFile.delete();
         }
-      } catch (SQLException e) {
-        throw new AssertJDBException(e);
       }
+      tablesAtStartPointFilesList = null;
     }
+  }
 
+  /**
+   * Copies the {@link Table} in parameter in a scratch table of the database if it has primary keys or loads it
+   * otherwise.
+   *
+   * @param table The {@link Table} at start point.
+   * @return The copy of the {@link Table} or {@code null} if the {@link Table} has no primary key.
+   * @see ComparisonMode#SERVER_SIDE
+   */
+  private static TableSnapshotCopy getTableSnapshotCopy(Table table) {
+    List<String> pksNameList = table.getPksNameListFromMetaData();
+    if (pksNameList.isEmpty()) {
+      table.getRowsList();
+      return null;
+    }
+    TableSnapshotCopy tableSnapshotCopy = new TableSnapshotCopy(table, pksNameList);
+    table.setRowsNotKept();
+    return tableSnapshotCopy;
+  }
+
+  /**
+   * Drops the scratch tables containing the copies of the tables at start point.
+   *
+   * @param tablesAtStartPointCopiesList The copies (the {@code null} elements are ignored).
+   * @throws AssertJDBException If a scratch table can not be dropped (the other ones are dropped).
+   */
+  private static void dropTablesAtStartPointCopies(List<TableSnapshotCopy> tablesAtStartPointCopiesList) {
+    AssertJDBException exception = null;
+    for (TableSnapshotCopy tableSnapshotCopy : tablesAtStartPointCopiesList) {
+      if (tableSnapshotCopy != null) {
+        try {
+          tableSnapshotCopy.drop();
+        } catch (AssertJDBException e) {
+          if (exception == null) {
+            exception = e;
+          }
+        }
+      }
+    }
+    if (exception != null) {
+      throw exception;
+    }
+  }
+
+  /**
+   * Drops the scratch tables containing the copies of the tables at start point (if they are not already dropped).
+   */
+  private void dropTablesAtStartPointCopies() {
+    if (tablesAtStartPointCopiesList != null) {
+      List<TableSnapshotCopy> tablesAtStartPointCopiesList = this.tablesAtStartPointCopiesList;
+      this.tablesAtStartPointCopiesList = null;
+      dropTablesAtStartPointCopies(tablesAtStartPointCopiesList);
+    }
+  }
+
+  /**
+   * Releases the start point : the files and the copies of the tables at start point are deleted and dropped.
+   *
+   * @throws AssertJDBException If a scratch table can not be dropped (the other ones are dropped).
+   */
+  private void releaseStartPoint() {
+    if (tablesAtStartPointList != null || requestAtStartPoint != null) {
+      startPointReleased = true;
+    }
+    try {
+      deleteTablesAtStartPointFiles();
+    } finally {
+      dropTablesAtStartPointCopies();
+    }
+  }
+
+  /**
+   * Releases the resources of the start point : the temporary files in {@link ComparisonMode#STREAMING} mode and the
+   * scratch tables of the database in {@link ComparisonMode#SERVER_SIDE} mode.
+   * <p>
+   * The changes which are computed are kept but the start point must be set again before setting a new end point.
+   * The scratch tables which are not dropped (if this method is not called) are dropped at the shutdown of the JVM.
+   * </p>
+   *
+   * @throws AssertJDBException If a scratch table can not be dropped (the other ones are dropped).
+   * @since 1.3.0
+   */
+  @Override
+  public void close() {
+    releaseStartPoint();
+  }
+
+  /**
+   * Begins the transaction of a snapshot if the mode is {@link SnapshotMode#SINGLE_TRANSACTION}.
+   *
+   * @return The transaction or {@code null} if the mode is {@link SnapshotMode#CONNECTION_PER_TABLE}.
+   */
+  private SnapshotTransaction beginSnapshotTransaction() {
+    if (snapshotMode == SnapshotMode.SINGLE_TRANSACTION) {
+      return new SnapshotTransaction(this, transactionIsolation);
+    }
+    return null;
+  }
+
+  /**
+   * Ends the transaction of a snapshot : the tables no longer use the connection of the transaction which is released.
+   *
+   * @param snapshotTransaction The transaction (or {@code null} if there is no transaction).
+   */
+  private void endSnapshotTransaction(SnapshotTransaction snapshotTransaction) {
+    if (snapshotTransaction != null) {
+      for (List<Table> tablesList : Arrays.asList(this.tablesList, tablesAtStartPointList, tablesAtEndPointList)) {
+        if (tablesList != null) {
+          for (Table table : tablesList) {
+            table.setSnapshotConnection(null);
+          }
+        }
+      }
+      snapshotTransaction.close();
+    }
+  }
+
+  /**
+   * Collects the list of all the tables of the database.
+   *
+   * @param snapshotConnection The connection of the snapshot to use (or {@code null} to get new connections).
+   */
+  private void collectTablesList(Connection snapshotConnection) {
+    setSnapshotConnection(snapshotConnection);
+    try (Connection connection = getConnection()) {
+      tablesList = new LinkedList<>();
+      DatabaseMetaData metaData = connection.getMetaData();
+      ResultSet resultSet = metaData.getTables(getCatalog(connection), getSchema(connection), null,
+          new String[] { "TABLE" });
+      while (resultSet.next()) {
+        String tableName = resultSet.getString("TABLE_NAME");
+        if (tableName.toUpperCase(Locale.ENGLISH).startsWith(TableSnapshotCopy.NAME_PREFIX)) {
+          // A copy of a table in ComparisonMode.SERVER_SIDE mode
+          continue;
+        }
+        Table t = new Table().setLetterCases(getTableLetterCase(), getColumnLetterCase(), getPrimaryKeyLetterCase())
+                             .setName(getTableLetterCase().convert(tableName));
+        t.setSnapshotConnection(snapshotConnection);
+        copyElement(this, t);
+        tablesList.add(t);
+      }
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    } finally {
+      setSnapshotConnection(null);
+    }
+  }
+
+  /**
+   * Sets the start point for comparison.
+   * 
+   * @return {@code this} actual instance.
+   */
+  public Changes setStartPointNow() {
     if (request != null) {
       tablesAtStartPointList = null;
       requestAtStartPoint = getDuplicatedRequest(request);
       requestAtStartPoint.getRowsList();
     } else {
       requestAtStartPoint = null;
-      tablesAtStartPointList = new LinkedList<>();
-      for (Table table : tablesList) {
-        Table t = getDuplicatedTable(table);
-        t.getRowsList();
-        tablesAtStartPointList.add(t);
+      deleteTablesAtStartPointFiles();
+      dropTablesAtStartPointCopies();
+      // The copies of the tables are created outside the read-only transaction
+      SnapshotTransaction snapshotTransaction = comparisonMode == ComparisonMode.SERVER_SIDE ?
+                                                null : beginSnapshotTransaction();
+      try {
+        if (snapshotTransaction == null) {
+          if (tablesList == null) {
+            collectTablesList(null);
+          }
+          loadTablesAtStartPoint(null, parallelism);
+        } else {
+          if (tablesList == null) {
+            collectTablesList(snapshotTransaction.getConnection());
+          }
+          loadTablesAtStartPoint(snapshotTransaction.getConnection(), 1);
+        }
+      } finally {
+        endSnapshotTransaction(snapshotTransaction);
       }
     }
+    startPointReleased = false;
     tablesAtEndPointList = null;
     requestAtEndPoint = null;
-    changesList = null;
+    setChangeSet(null);
 
     return myself;
   }
 
+  /**
+   * Loads the tables at start point (or writes them in files in {@link ComparisonMode#STREAMING} mode).
+   *
+   * @param snapshotConnection The connection of the snapshot to use (or {@code null} to get new connections).
+   * @param parallelism        The maximum number of tables loaded at the same time.
+   */
+  private void loadTablesAtStartPoint(final Connection snapshotConnection, int parallelism) {
+    final List<Table> tablesList = new ArrayList<>(this.tablesList);
+    if (comparisonMode == ComparisonMode.SERVER_SIDE) {
+      copyTablesAtStartPoint(tablesList, parallelism);
+      return;
+    }
+    final boolean streaming = comparisonMode == ComparisonMode.STREAMING;
+    final List<Table> tablesAtStartPointList = new ArrayList<>(Collections.<Table>nCopies(tablesList.size(), null));
+    final List<TableSnapshotFile> tablesAtStartPointFilesList = Collections.synchronizedList(
+            new ArrayList<>(Collections.<TableSnapshotFile>nCopies(tablesList.size(), null)));
+    try {
+      ParallelTasks.execute(tablesList.size(), new ParallelTasks.Task<TableSnapshotFile>() {
+        @Override
+        public TableSnapshotFile execute(int index) {
+          Table t = getDuplicatedTable(tablesList.get(index), snapshotConnection);
+          tablesAtStartPointList.set(index, t);
+          if (streaming) {
+            TableSnapshotFile tableSnapshotFile = getTableSnapshotFile(t);
+            tablesAtStartPointFilesList.set(index, tableSnapshotFile);
+            return tableSnapshotFile;
+          }
+          t.getRowsList();
+          return null;
+        }
+      }, parallelism, executorService);
+    } catch (RuntimeException e) {
+      // All the tasks are ended : the files already written are deleted
+      for (TableSnapshotFile tableSnapshotFile : tablesAtStartPointFilesList) {
+        if (tableSnapshotFile != null) {
+          tableSnapshotFile.delete();
+        }
+      }
+      throw e;
+    }
+    this.tablesAtStartPointList = new LinkedList<>(tablesAtStartPointList);
+    if (streaming) {
+      this.tablesAtStartPointFilesList = new LinkedList<>(tablesAtStartPointFilesList);
+    }
+  }
+
+  /**
+   * Copies the tables at start point in scratch tables of the database (in {@link ComparisonMode#SERVER_SIDE} mode).
+   * <p>
+   * If a table can not be copied, the copies already created are dropped.
+   * </p>
+   *
+   * @param tablesList  The list of the tables.
+   * @param parallelism The maximum number of tables copied at the same time.
+   */
+  private void copyTablesAtStartPoint(final List<Table> tablesList, int parallelism) {
+    final List<Table> tablesAtStartPointList = new ArrayList<>(Collections.<Table>nCopies(tablesList.size(), null));
+    final List<TableSnapshotCopy> tablesAtStartPointCopiesList = Collections.synchronizedList(
+            new ArrayList<>(Collections.<TableSnapshotCopy>nCopies(tablesList.size(), null)));
+    try {
+      ParallelTasks.execute(tablesList.size(), new ParallelTasks.Task<TableSnapshotCopy>() {
+        @Override
+        public TableSnapshotCopy execute(int index) {
+          Table t = getDuplicatedTable(tablesList.get(index));
+          tablesAtStartPointList.set(index, t);
+          TableSnapshotCopy tableSnapshotCopy = getTableSnapshotCopy(t);
+          tablesAtStartPointCopiesList.set(index, tableSnapshotCopy);
+          return tableSnapshotCopy;
+        }
+      }, parallelism, executorService);
+    } catch (RuntimeException e) {
+      try {
+        dropTablesAtStartPointCopies(tablesAtStartPointCopiesList);
+      } catch (AssertJDBException dropException) {
+        e.addSuppressed(dropException);
+      }
+      throw e;
+    }
+    this.tablesAtStartPointList = new LinkedList<>(tablesAtStartPointList);
+    this.tablesAtStartPointCopiesList = new LinkedList<>(tablesAtStartPointCopiesList);
+  }
+
   /**
    * Sets the end point for comparison.
    * 
    * @return {@code this} actual instance.
-   * @throws AssertJDBException If the start point is not set
+   * @throws AssertJDBException If the start point is not set or is released (after an end point in
+   *                            {@link ComparisonMode#SERVER_SIDE} mode or by {@link #close()}).
    */
   public Changes setEndPointNow() {
     if (requestAtStartPoint == null && tablesAtStartPointList == null) {
       throw new AssertJDBException("Start point must be set before");
     }
+    if (startPointReleased) {
+      throw new AssertJDBException("Start point is released (after the end point in server side mode or by close) : "
+                                   + "it must be set again");
+    }
 
+    setChangeSet(null);
     if (requestAtStartPoint != null) {
       requestAtEndPoint = getDuplicatedRequest(request);
       requestAtEndPoint.getRowsList();
     } else {
-      tablesAtEndPointList = new LinkedList<>();
-      for (Table table : tablesList) {
-        Table t = getDuplicatedTable(table);
-        t.getRowsList();
-        tablesAtEndPointList.add(t);
+      SnapshotTransaction snapshotTransaction = tablesAtStartPointCopiesList != null ?
+                                                null : beginSnapshotTransaction();
+      try {
+        if (snapshotTransaction == null) {
+          loadTablesAtEndPoint(null, parallelism);
+        } else {
+          loadTablesAtEndPoint(snapshotTransaction.getConnection(), 1);
+        }
+      } finally {
+        endSnapshotTransaction(snapshotTransaction);
       }
     }
-    changesList = null;
 
     return myself;
   }
 
+  /**
+   * Loads the tables at end point (or computes the changes in {@link ComparisonMode#STREAMING} mode).
+   *
+   * @param snapshotConnection The connection of the snapshot to use (or {@code null} to get new connections).
+   * @param parallelism        The maximum number of tables loaded at the same time.
+   */
+  private void loadTablesAtEndPoint(final Connection snapshotConnection, int parallelism) {
+    if (tablesAtStartPointCopiesList != null) {
+      compareTablesAtEndPointWithCopies(parallelism);
+    } else if (tablesAtStartPointFilesList != null) {
+      // In streaming mode, the changes are computed now
+      final List<Table> tablesAtStartPointList = new ArrayList<>(this.tablesAtStartPointList);
+      final List<TableSnapshotFile> tablesAtStartPointFilesList = new ArrayList<>(this.tablesAtStartPointFilesList);
+      final List<Table> tablesAtEndPointList = new ArrayList<>(Collections.<Table>nCopies(tablesAtStartPointList.size(),
+                                                                                          null));
+      List<List<Change>> changesListsList = ParallelTasks.execute(
+              tablesAtStartPointList.size(), new ParallelTasks.Task<List<Change>>() {
+                @Override
+                public List<Change> execute(int index) {
+                  Table tableAtStartPoint = tablesAtStartPointList.get(index);
+                  TableSnapshotFile tableSnapshotFile = tablesAtStartPointFilesList.get(index);
+                  Table t = getDuplicatedTable(tableAtStartPoint, snapshotConnection);
+                  tablesAtEndPointList.set(index, t);
+                  if (tableSnapshotFile != null) {
+                    return tableSnapshotFile.getChangesList(t, getTableLetterCase(), getColumnLetterCase(),
+                                                            getPrimaryKeyLetterCase());
+                  }
+                  t.getRowsList();
+                  return getChangesList(tableAtStartPoint.getName(), tableAtStartPoint, t);
+                }
+              }, parallelism, executorService);
+      List<Change> changesList = new ArrayList<>();
+      for (List<Change> changesListOfTable : changesListsList) {
+        changesList.addAll(changesListOfTable);
+      }
+      this.tablesAtEndPointList = new LinkedList<>(tablesAtEndPointList);
+      setChangeSet(ChangeSet.of(changesList));
+    } else {
+      final List<Table> tablesList = new ArrayList<>(this.tablesList);
+      List<Table> tablesAtEndPointList = ParallelTasks.execute(
+              tablesList.size(), new ParallelTasks.Task<Table>() {
+                @Override
+                public Table execute(int index) {
+                  Table t = getDuplicatedTable(tablesList.get(index), snapshotConnection);
+                  t.getRowsList();
+                  return t;
+                }
+              }, parallelism, executorService);
+      this.tablesAtEndPointList = new LinkedList<>(tablesAtEndPointList);
+    }
+  }
+
+  /**
+   * Computes the changes between the copies of the tables at start point and the tables at end point (in
+   * {@link ComparisonMode#SERVER_SIDE} mode) : the copies are dropped after.
+   *
+   * @param parallelism The maximum number of tables compared at the same time.
+   */
+  private void compareTablesAtEndPointWithCopies(int parallelism) {
+    final List<Table> tablesAtStartPointList = new ArrayList<>(this.tablesAtStartPointList);
+    final List<TableSnapshotCopy> tablesAtStartPointCopiesList = new ArrayList<>(this.tablesAtStartPointCopiesList);
+    final List<Table> tablesAtEndPointList = new ArrayList<>(Collections.<Table>nCopies(tablesAtStartPointList.size(),
+                                                                                        null));
+    List<List<Change>> changesListsList;
+    try {
+      changesListsList = ParallelTasks.execute(
+              tablesAtStartPointList.size(), new ParallelTasks.Task<List<Change>>() {
+                @Override
+                public List<Change> execute(int index) {
+                  Table tableAtStartPoint = tablesAtStartPointList.get(index);
+                  TableSnapshotCopy tableSnapshotCopy = tablesAtStartPointCopiesList.get(index);
+                  Table t = getDuplicatedTable(tableAtStartPoint);
+                  tablesAtEndPointList.set(index, t);
+                  if (tableSnapshotCopy != null) {
+                    return tableSnapshotCopy.getChangesList(t, getTableLetterCase(), getColumnLetterCase(),
+                                                            getPrimaryKeyLetterCase());
+                  }
+                  t.getRowsList();
+                  return getChangesList(tableAtStartPoint.getName(), tableAtStartPoint, t);
+                }
+              }, parallelism, executorService);
+    } catch (RuntimeException e) {
+      try {
+        releaseStartPoint();
+      } catch (AssertJDBException dropException) {
+        e.addSuppressed(dropException);
+      }
+      throw e;
+    }
+    // The copies are only used for one end point
+    releaseStartPoint();
+    List<Change> changesList = new ArrayList<>();
+    for (List<Change> changesListOfTable : changesListsList) {
+      changesList.addAll(changesListOfTable);
+    }
+    this.tablesAtEndPointList = new LinkedList<>(tablesAtEndPointList);
+    setChangeSet(ChangeSet.of(changesList));
+  }
+
+  /**
+   * Returns the keys made of the primary keys values of the rows.
+   *
+   * @param rowsList The list of the rows.
+   * @return The keys (in the same order as the rows).
+   */
+  private static ValuesKey[] getPksKeys(List<Row> rowsList) {
+    ValuesKey[] keys = new ValuesKey[rowsList.size()];
+    int index = 0;
+    for (Row row : rowsList) {
+      keys[index] = new ValuesKey(row.getPksValues());
+      index++;
+    }
+    return keys;
+  }
+
+  /**
+   * Returns the index of the rows by the values of their primary keys.
+   * <p>
+   * If many rows have the same primary keys values, the first one is in the index (like with
+   * {@link AbstractDbData#getRowFromPksValues(Value...)}).
+   * </p>
+   *
+   * @param rowsList The list of the rows.
+   * @param keys     The keys of the rows.
+   * @return The index.
+   */
+  private static Map<ValuesKey, Row> getRowsByPksKeys(List<Row> rowsList, ValuesKey[] keys) {
+    Map<ValuesKey, Row> rowsMap = new HashMap<>(Math.max(16, keys.length * 4 / 3 + 1));
+    int index = 0;
+    for (Row row : rowsList) {
+      if (!rowsMap.containsKey(keys[index])) {
+        rowsMap.put(keys[index], row);
+      }
+      index++;
+    }
+    return rowsMap;
+  }
+
   /**
    * Returns the list of changes for the data when there have primary keys.
+   * <p>
+   * The rows at start point and at end point are indexed by the values of their primary keys, so each row is found
+   * in constant time.
+   * </p>
    * 
    * @param dataName The name of the data.
    * @param dataAtStartPoint The data at start point.
@@ -348,17 +995,27 @@ public class Changes extends AbstractDbElement<Changes> {
 
     List<Change> changesList = new ArrayList<>();
 
+    List<Row> rowsAtStartPointList = dataAtStartPoint.getRowsList();
+    List<Row> rowsAtEndPointList = dataAtEndPoint.getRowsList();
+    ValuesKey[] keysAtStartPoint = getPksKeys(rowsAtStartPointList);
+    ValuesKey[] keysAtEndPoint = getPksKeys(rowsAtEndPointList);
+    Map<ValuesKey, Row> rowsAtStartPointMap = getRowsByPksKeys(rowsAtStartPointList, keysAtStartPoint);
+    Map<ValuesKey, Row> rowsAtEndPointMap = getRowsByPksKeys(rowsAtEndPointList, keysAtEndPoint);
+
     // List the created rows : the row is not present at the start point
-    for (Row row : dataAtEndPoint.getRowsList()) {
-      Row rowAtStartPoint = dataAtStartPoint.getRowFromPksValues(row.getPksValues());
+    int index = 0;
+    for (Row row : rowsAtEndPointList) {
+      Row rowAtStartPoint = rowsAtStartPointMap.get(keysAtEndPoint[index]);
       if (rowAtStartPoint == null) {
         Change change = createCreationChange(dataAtEndPoint.getDataType(), dataName, row,
                                              getTableLetterCase(), getColumnLetterCase(), getPrimaryKeyLetterCase());
         changesList.add(change);
       }
+      index++;
     }
-    for (Row row : dataAtStartPoint.getRowsList()) {
-      Row rowAtEndPoint = dataAtEndPoint.getRowFromPksValues(row.getPksValues());
+    index = 0;
+    for (Row row : rowsAtStartPointList) {
+      Row rowAtEndPoint = rowsAtEndPointMap.get(keysAtStartPoint[index]);
       if (rowAtEndPoint == null) {
         // List the deleted rows : the row is not present at the end point
         Change change = createDeletionChange(dataAtStartPoint.getDataType(), dataName, row,
@@ -373,13 +1030,70 @@ public class Changes extends AbstractDbElement<Changes> {
           changesList.add(change);
         }
       }
+      index++;
     }
 
     return changesList;
   }
 
+  /**
+   * Returns the keys made of all the values of the rows.
+   *
+   * @param rowsList The list of the rows.
+   * @return The keys (in the same order as the rows).
+   */
+  private static ValuesKey[] getValuesKeys(List<Row> rowsList) {
+    ValuesKey[] keys = new ValuesKey[rowsList.size()];
+    int index = 0;
+    for (Row row : rowsList) {
+      keys[index] = ValuesKey.of(row);
+      index++;
+    }
+    return keys;
+  }
+
+  /**
+   * Returns the number of occurrences of each key (the multiset of the keys).
+   *
+   * @param keys The keys.
+   * @return The number of occurrences of each key.
+   */
+  private static Map<ValuesKey, Integer> getKeysCounts(ValuesKey[] keys) {
+    Map<ValuesKey, Integer> countsMap = new HashMap<>(Math.max(16, keys.length * 4 / 3 + 1));
+    for (ValuesKey key : keys) {
+      Integer count = countsMap.get(key);
+      countsMap.put(key, count == null ? 1 : count + 1);
+    }
+    return countsMap;
+  }
+
+  /**
+   * Removes one occurrence of the key from the multiset.
+   *
+   * @param countsMap The number of occurrences of each key.
+   * @param key       The key to remove.
+   * @return {@code true} if the key was present (and is removed), {@code false} otherwise.
+   */
+  private static boolean removeOneKey(Map<ValuesKey, Integer> countsMap, ValuesKey key) {
+    Integer count = countsMap.get(key);
+    if (count == null) {
+      return false;
+    }
+    if (count == 1) {
+      countsMap.remove(key);
+    } else {
+      countsMap.put(key, count - 1);
+    }
+    return true;
+  }
+
   /**
    * Returns the list of changes for the data when there is no primary key.
+   * <p>
+   * The rows are compared on all their values : each row at end point consumes one identical row at start point
+   * (the rows at start point without identical row at end point are deleted and the rows at end point without
+   * identical row at start point are created). The rows are counted by their values in hash multisets.
+   * </p>
    * 
    * @param dataName The name of the data.
    * @param dataAtStartPoint The data at start point.
@@ -391,45 +1105,32 @@ public class Changes extends AbstractDbElement<Changes> {
 
     List<Change> changesList = new ArrayList<>();
 
+    List<Row> rowsAtStartPointList = dataAtStartPoint.getRowsList();
+    List<Row> rowsAtEndPointList = dataAtEndPoint.getRowsList();
+    ValuesKey[] keysAtStartPoint = getValuesKeys(rowsAtStartPointList);
+    ValuesKey[] keysAtEndPoint = getValuesKeys(rowsAtEndPointList);
+
     // List the created rows : the row is not present at the start point
-    List<Row> rowsAtStartPointList = new ArrayList<>(dataAtStartPoint.getRowsList());
-    for (Row rowAtEndPoint : dataAtEndPoint.getRowsList()) {
-      int index = -1;
-      int index1 = 0;
-      for (Row rowAtStartPoint : rowsAtStartPointList) {
-        if (rowAtEndPoint.hasValues(rowAtStartPoint)) {
-          index = index1;
-          break;
-        }
-        index1++;
-      }
-      if (index == -1) {
+    Map<ValuesKey, Integer> countsAtStartPointMap = getKeysCounts(keysAtStartPoint);
+    int index = 0;
+    for (Row rowAtEndPoint : rowsAtEndPointList) {
+      if (!removeOneKey(countsAtStartPointMap, keysAtEndPoint[index])) {
         Change change = createCreationChange(dataAtStartPoint.getDataType(), dataName, rowAtEndPoint,
                                              getTableLetterCase(), getColumnLetterCase(), getPrimaryKeyLetterCase());
         changesList.add(change);
-      } else {
-        rowsAtStartPointList.remove(index);
       }
+      index++;
     }
     // List the deleted rows : the row is not present at the end point
-    List<Row> rowsAtEndPointList = new ArrayList<>(dataAtEndPoint.getRowsList());
-    for (Row rowAtStartPoint : dataAtStartPoint.getRowsList()) {
-      int index = -1;
-      int index1 = 0;
-      for (Row rowAtEndPoint : rowsAtEndPointList) {
-        if (rowAtStartPoint.hasValues(rowAtEndPoint)) {
-          index = index1;
-          break;
-        }
-        index1++;
-      }
-      if (index == -1) {
+    Map<ValuesKey, Integer> countsAtEndPointMap = getKeysCounts(keysAtEndPoint);
+    index = 0;
+    for (Row rowAtStartPoint : rowsAtStartPointList) {
+      if (!removeOneKey(countsAtEndPointMap, keysAtStartPoint[index])) {
         Change change = createDeletionChange(dataAtStartPoint.getDataType(), dataName, rowAtStartPoint,
                                              getTableLetterCase(), getColumnLetterCase(), getPrimaryKeyLetterCase());
         changesList.add(change);
-      } else {
-        rowsAtEndPointList.remove(index);
       }
+      index++;
     }
 
     return changesList;
@@ -454,18 +1155,28 @@ public class Changes extends AbstractDbElement<Changes> {
   }
 
   /**
-   * Returns the list of the changes.
-   * 
-   * @return The list of the changes.
+   * Sets the set of the changes.
+   *
+   * @param changeSet The set of the changes.
+   */
+  private void setChangeSet(ChangeSet changeSet) {
+    this.changeSet = changeSet;
+  }
+
+  /**
+   * Returns the set of the changes (computed, sorted and indexed at the first call).
+   *
+   * @return The set of the changes.
    * @throws AssertJDBException If the changes are on all the tables and if the number of tables change between the
    *           start point and the end point. It is normally impossible.
    */
-  public List<Change> getChangesList() {
-    if (changesList == null) {
+  private ChangeSet getChangeSet() {
+    if (changeSet == null) {
       if (requestAtEndPoint == null && tablesAtEndPointList == null) {
         throw new AssertJDBException("End point must be set before");
       }
 
+      List<Change> changesList;
       if (requestAtEndPoint != null) {
         changesList = getChangesList(requestAtStartPoint.getRequest(), requestAtStartPoint, requestAtEndPoint);
       } else {
@@ -478,14 +1189,36 @@ public class Changes extends AbstractDbElement<Changes> {
           changesList.addAll(getChangesList(tableAtStartPoint.getName(), tableAtStartPoint, tableAtEndPoint));
         }
       }
+      setChangeSet(ChangeSet.of(changesList));
     }
+    return changeSet;
+  }
 
-    Collections.sort(changesList, ChangeComparator.INSTANCE);
-    return changesList;
+  /**
+   * Returns the list of the changes.
+   * <p>
+   * The changes are computed and sorted at the first call.
+   * </p>
+   * <p>
+   * Since 1.3.0, the list is shared with the indexes of the changes (by table, by type and by primary keys) : it is not
+   * modifiable (the methods which modify it throw an {@link UnsupportedOperationException}) and a copy must be made
+   * to modify it.
+   * </p>
+   * 
+   * @return The list of the changes (not modifiable).
+   * @throws AssertJDBException If the changes are on all the tables and if the number of tables change between the
+   *           start point and the end point. It is normally impossible.
+   */
+  public List<Change> getChangesList() {
+    return getChangeSet().getChangesList();
   }
 
   /**
    * Returns {@code Changes} only on the table name in parameter.
+   * <p>
+   * The returned {@code Changes} is a view on the changes of {@code this} one : neither the database nor the metadata
+   * are read.
+   * </p>
    * @param tableName The table name
    * @return {@code Changes} instance.
    */
@@ -493,20 +1226,56 @@ public class Changes extends AbstractDbElement<Changes> {
     if (tableName == null) {
       throw new NullPointerException("tableName must be not null");
     }
-    Changes changes = createChangesFromThis();
-    List<Change> changesList = getChangesList();
+    ChangeSet changeSet = getChangeSet();
+    ChangeSet changeSetOfTable = ChangeSet.EMPTY;
     if (tablesList != null) {
-      for (Change change : changesList) {
-        if (getTableLetterCase().isEqual(tableName, change.getDataName())) {
-          changes.changesList.add(change);
+      LetterCase letterCase = getTableLetterCase();
+      List<Change> mergedChangesList = null;
+      for (String dataName : changeSet.getDataNames()) {
+        if (letterCase.isEqual(tableName, dataName)) {
+          ChangeSet changeSetOfData = changeSet.getChangeSetOfTable(dataName);
+          if (changeSetOfTable == ChangeSet.EMPTY) {
+            changeSetOfTable = changeSetOfData;
+          } else {
+            // Two data names equal for the letter case : the changes are merged (keeping the order)
+            if (mergedChangesList == null) {
+              mergedChangesList = new ArrayList<>(changeSetOfTable.getChangesList());
+            }
+            mergedChangesList.addAll(changeSetOfData.getChangesList());
+          }
         }
       }
+      if (mergedChangesList != null) {
+        changeSetOfTable = ChangeSet.of(mergedChangesList);
+      }
     }
-    return changes;
+    return createChangesFromThis(changeSetOfTable);
+  }
+
+  /**
+   * Returns the index of the first change on the table name in parameter whose the values of the primary keys are equal
+   * to the values in parameter.
+   * <p>
+   * The changes of the table are indexed by the values of their primary keys at the first call for the table : the
+   * next calls do not browse all the changes.
+   * </p>
+   * @param tableName The table name
+   * @param pksValues The values of the primary keys.
+   * @return The index of the change in the list of the changes of {@link #getChangesOfTable(String)} or {@code -1} if
+   *         there is no change with these values.
+   * @throws NullPointerException If {@code tableName} is {@code null}.
+   * @since 1.3.0
+   */
+  public int getIndexOfChangeOfTableWithPks(String tableName, Object... pksValues) {
+    return getChangesOfTable(tableName).getChangeSet().getPksIndex().indexOf(pksValues);
   }
 
   /**
    * Returns {@code Changes} only on the change type in parameter.
+   * <p>
+   * The returned {@code Changes} is a view on the changes of {@code this} one : neither the database nor the metadata
+   * are read.
+   * </p>
    * @param changeType The change type
    * @return {@code Changes} instance.
    */
@@ -514,32 +1283,23 @@ public class Changes extends AbstractDbElement<Changes> {
     if (changeType == null) {
       throw new NullPointerException("changeType must be not null");
     }
-    Changes changes = createChangesFromThis();
-    List<Change> changesList = getChangesList();
-    for (Change change : changesList) {
-      if (changeType.equals(change.getChangeType())) {
-        changes.changesList.add(change);
-      }
-    }
-    return changes;
+    return createChangesFromThis(getChangeSet().getChangeSetOfType(changeType));
   }
 
   /**
-   * Creates a new instance of {@code Changes} from {@code this} one.
+   * Creates a new instance of {@code Changes} from {@code this} one with the changes in parameter.
+   * <p>
+   * The request and the tables are shared with {@code this} instance (they are not duplicated) and the list of changes
+   * can not be modified.
+   * </p>
+   * @param changeSet The set of the changes of the new instance.
    * @return The new instance.
    */
-  private Changes createChangesFromThis() {
+  private Changes createChangesFromThis(ChangeSet changeSet) {
     Changes changes = new Changes();
-    if (request != null) {
-      changes.request = getDuplicatedRequest(request);
-    }
-    if (tablesList != null) {
-      changes.tablesList = new ArrayList<>();
-      for (Table table : tablesList) {
-        changes.tablesList.add(getDuplicatedTable(table));
-      }
-    }
-    changes.changesList = new ArrayList<>();
+    changes.request = request;
+    changes.tablesList = tablesList;
+    changes.setChangeSet(changeSet);
     return changes;
   }
 }
@@ -0,0 +1,179 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.util.ValueKeys;
+import org.assertj.db.util.ValueKeys.Kind;
+import org.assertj.db.util.Values;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of a list of changes (on a table) by the values of their primary keys.
+ * <p>
+ * The changes are indexed by the keys of the values of their primary keys ({@link ValueKeys}) : the expected values of
+ * the primary keys are only compared to the values of the changes with the same keys. If the changes can not be indexed
+ * (a column of the primary keys with different kinds of values, ...) or if the key of an expected value can not be
+ * computed, all the changes are compared (in the order of the list).
+ * </p>
+ * <p>
+ * The change found is the first change (in the order of the list) whose the values of the primary keys are equal to
+ * the expected values : so the result is the same as browsing the list of changes.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.3.0
+ */
+final class ChangesPksIndex {
+
+  /**
+   * The values of the primary keys of each change.
+   */
+  private final Value[][] pksValues;
+  /**
+   * The kind of the values of each primary key ({@code null} if the changes are not indexed).
+   */
+  private final Kind[] kinds;
+  /**
+   * The indexes of the changes by the keys of the values of their primary keys.
+   */
+  private final Map<List<Object>, List<Integer>> indexesMap = new HashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param changesList The list of the changes.
+   */
+  ChangesPksIndex(List<Change> changesList) {
+    pksValues = new Value[changesList.size()][];
+    for (int index = 0; index < pksValues.length; index++) {
+      List<Value> pksValueList = changesList.get(index).getPksValueList();
+      pksValues[index] = pksValueList.toArray(new Value[pksValueList.size()]);
+    }
+    kinds = getKinds(pksValues);
+    if (kinds != null) {
+      for (int index = 0; index < pksValues.length; index++) {
+        List<Object> key = new ArrayList<>(kinds.length);
+        for (Value value : pksValues[index]) {
+          key.add(Values.getHashCode(value));
+        }
+        List<Integer> indexesList = indexesMap.get(key);
+        if (indexesList == null) {
+          indexesList = new ArrayList<>(1);
+          indexesMap.put(key, indexesList);
+        }
+        indexesList.add(index);
+      }
+    }
+  }
+
+  /**
+   * Returns the kind of the values of each primary key.
+   *
+   * @param pksValues The values of the primary keys of each change.
+   * @return The kinds or {@code null} if the changes can not be indexed (changes with a different number of primary
+   *         keys, a primary key with different kinds of values or with values of the kind {@link Kind#OTHER}).
+   */
+  private static Kind[] getKinds(Value[][] pksValues) {
+    if (pksValues.length == 0) {
+      return null;
+    }
+    Kind[] kinds = new Kind[pksValues[0].length];
+    for (int index = 0; index < kinds.length; index++) {
+      kinds[index] = ValueKeys.getKind(pksValues[0][index].getValue());
+      if (kinds[index] == Kind.OTHER) {
+        return null;
+      }
+    }
+    for (Value[] values : pksValues) {
+      if (values.length != kinds.length) {
+        return null;
+      }
+      for (int index = 0; index < kinds.length; index++) {
+        if (ValueKeys.getKind(values[index].getValue()) != kinds[index]) {
+          return null;
+        }
+      }
+    }
+    return kinds;
+  }
+
+  /**
+   * Returns the index of the first change whose the values of the primary keys are equal to the expected values.
+   *
+   * @param expectedPksValues The expected values of the primary keys.
+   * @return The index of the change or {@code -1} if there is no change with these values.
+   */
+  int indexOf(Object[] expectedPksValues) {
+    if (kinds == null) {
+      return indexOf(expectedPksValues, 0, pksValues.length);
+    }
+    if (expectedPksValues.length != kinds.length) {
+      return -1;
+    }
+    List<Object> key = new ArrayList<>(kinds.length);
+    boolean equalPossible = true;
+    for (int index = 0; index < kinds.length; index++) {
+      Object expectedKey = ValueKeys.getExpectedKey(kinds[index], expectedPksValues[index]);
+      if (expectedKey == null) {
+        // The expected value must be compared to all the values
+        return indexOf(expectedPksValues, 0, pksValues.length);
+      }
+      if (expectedKey == ValueKeys.NOT_EQUAL) {
+        equalPossible = false;
+      }
+      key.add(expectedKey);
+    }
+    if (equalPossible) {
+      List<Integer> indexesList = indexesMap.get(key);
+      if (indexesList != null) {
+        for (int index : indexesList) {
+          if (indexOf(expectedPksValues, index, index + 1) != -1) {
+            return index;
+          }
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the index of the first change between two indexes whose the values of the primary keys are equal to the
+   * expected values.
+   *
+   * @param expectedPksValues The expected values of the primary keys.
+   * @param start             The first index.
+   * @param end               The index after the last index.
+   * @return The index of the change or {@code -1} if there is no change with these values.
+   */
+  private int indexOf(Object[] expectedPksValues, int start, int end) {
+    for (int index = start; index < end; index++) {
+      Value[] values = pksValues[index];
+      if (values.length == expectedPksValues.length) {
+        boolean equal = true;
+        for (int i = 0; i < values.length; i++) {
+          if (!Values.areEqual(values[i], expectedPksValues[i])) {
+            equal = false;
+          }
+        }
+        if (equal) {
+          return index;
+        }
+      }
+    }
+    return -1;
+  }
+}
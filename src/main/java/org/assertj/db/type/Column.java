@@ -37,9 +37,19 @@ public class Column implements DbElement, WithColumnLetterCase {
    */
   private final String name;
   /**
-   * The values of the column.
+   * The values of the column ({@code null} while they are not loaded).
    */
-  private final List<Value> valuesList;
+  private List<Value> valuesList;
+  /**
+   * The data containing the column (used to load the values if needed).
+   * @since 1.3.0
+   */
+  private final AbstractDbData<?> data;
+  /**
+   * The index of the column in the data.
+   * @since 1.3.0
+   */
+  private final int index;
   /**
    * Letter case of the columns.
    * @since 1.1.0
@@ -56,9 +66,48 @@ public class Column implements DbElement, WithColumnLetterCase {
   Column(String name, List<Value> valuesList, LetterCase columnLetterCase) {
     this.name = name;
     this.valuesList = valuesList;
+    this.data = null;
+    this.index = -1;
+    this.columnLetterCase = columnLetterCase;
+  }
+
+  /**
+   * Constructor of the column with visibility in the package : the values are loaded from the data at the first call to
+   * {@link #getValuesList()}.
+   *
+   * @param name The name of the column.
+   * @param data The data containing the column.
+   * @param index The index of the column in the data.
+   * @param columnLetterCase The letter case of the columns.
+   * @since 1.3.0
+   */
+  Column(String name, AbstractDbData<?> data, int index, LetterCase columnLetterCase) {
+    this.name = name;
+    this.data = data;
+    this.index = index;
     this.columnLetterCase = columnLetterCase;
   }
 
+  /**
+   * Returns the data containing the column.
+   *
+   * @return The data containing the column ({@code null} if the values are not loaded from a data).
+   * @since 1.3.0
+   */
+  AbstractDbData<?> getData() {
+    return data;
+  }
+
+  /**
+   * Returns if the values of the column are loaded.
+   *
+   * @return {@code true} if the values are loaded, {@code false} otherwise.
+   * @since 1.3.0
+   */
+  boolean isValuesListLoaded() {
+    return valuesList != null;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -78,13 +127,97 @@ public class Column implements DbElement, WithColumnLetterCase {
 
   /**
    * Returns the values of the column.
+   * <p>
+   * If it is the first call to {@code getValuesList()}, the values are got from the rows of the data (which are loaded
+   * from the database if needed).
+   * </p>
+   * <p>
+   * Since 1.3.0, when the column is got from a {@link Table} or a {@link Request}, the values are not copied : the list
+   * is a read-only view on the values of the rows. It can not be modified (the methods which modify it throw an
+   * {@link UnsupportedOperationException}) : a copy must be made to modify the values.
+   * </p>
    * 
    * @return The values of the column.
    */
   public List<Value> getValuesList() {
+    if (valuesList == null) {
+      valuesList = data.getValuesList(index);
+    }
     return valuesList;
   }
 
+  /**
+   * Returns the number of rows of the column.
+   * <p>
+   * If the values of a column of a {@link Table} are not loaded (and the rows of the table neither), the rows are
+   * counted by the database without loading them : the number is the one of the database at the time of the call,
+   * which can be different from the number of values loaded after.
+   * </p>
+   *
+   * @return The number of rows.
+   * @since 1.3.0
+   */
+  public int getRowsCount() {
+    ColumnAggregation aggregation = ColumnAggregation.of(this);
+    if (aggregation != null) {
+      return aggregation.getRowsCount();
+    }
+    return getValuesList().size();
+  }
+
+  /**
+   * Returns if the database proves, without loading the values, that all the values of the column are {@code null}.
+   * <p>
+   * It is only possible on a column of a {@link Table} whose the values and the rows are not loaded : the database is
+   * read at the time of the call (so the result is about the state of the database at this time, which can be
+   * different from the values loaded after).
+   * </p>
+   *
+   * @return {@code true} if it is proved, {@code false} if it is not proved (the values must be checked).
+   * @since 1.3.0
+   */
+  public boolean isProvedWithOnlyNullValues() {
+    ColumnAggregation aggregation = ColumnAggregation.of(this);
+    return aggregation != null && aggregation.hasOnlyNullValues();
+  }
+
+  /**
+   * Returns if the database proves, without loading the values, that all the values of the column are not
+   * {@code null}.
+   * <p>
+   * It is only possible on a column of a {@link Table} whose the values and the rows are not loaded : the database is
+   * read at the time of the call (so the result is about the state of the database at this time, which can be
+   * different from the values loaded after).
+   * </p>
+   *
+   * @return {@code true} if it is proved, {@code false} if it is not proved (the values must be checked).
+   * @since 1.3.0
+   */
+  public boolean isProvedWithOnlyNotNullValues() {
+    ColumnAggregation aggregation = ColumnAggregation.of(this);
+    return aggregation != null && aggregation.hasOnlyNotNullValues();
+  }
+
+  /**
+   * Returns if the database proves, without loading the values, that the column contains the expected values (in any
+   * order).
+   * <p>
+   * It is only possible on a column of a {@link Table} whose the values and the rows are not loaded : the database is
+   * read at the time of the call (so the result is about the state of the database at this time, which can be
+   * different from the values loaded after). Only the {@code null} values and the values of which the equality of the
+   * database is the one of the library are proved.
+   * </p>
+   *
+   * @param expected     The expected values.
+   * @param allowedTypes The types allowed for the values (if empty, all the types are allowed).
+   * @return {@code true} if it is proved, {@code false} if it is not proved (the values must be checked).
+   * @since 1.3.0
+   */
+  public boolean isProvedToContainValues(Object[] expected, ValueType... allowedTypes) {
+    ColumnAggregation aggregation = ColumnAggregation.of(this);
+    return aggregation != null && aggregation.containsValues(expected, allowedTypes);
+  }
+
   /**
    * Returns the value corresponding to the row index.
    * 
@@ -92,6 +225,6 @@ public class Column implements DbElement, WithColumnLetterCase {
    * @return The value
    */
   public Value getRowValue(int index) {
-    return valuesList.get(index);
+    return getValuesList().get(index);
   }
 }
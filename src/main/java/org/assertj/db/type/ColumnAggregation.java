@@ -0,0 +1,244 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.util.Values;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Aggregation on a {@link Column} of a {@link Table} computed by the database : the assertions on the column are
+ * translated to aggregate requests (like {@code SELECT COUNT(*) FROM table WHERE column IS NULL}) instead of loading
+ * the rows of the table.
+ * <p>
+ * The methods of this class only prove that an assertion passes : if a method returns {@code false}, the assertion may
+ * fail or may not be expressed with an aggregate request (an exception from the database, a type of values on which
+ * the equality of the database is not the one of {@link Values#areEqual(Value, Object)}, ...). In this case, the
+ * assertion must be done on the values loaded in memory (which also gives the description of the failure).
+ * </p>
+ * <p>
+ * Each method sends its own request when it is called : the results are about the state of the database at the time
+ * of the call, which can be different from the state read by another method or by a loading of the rows after.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.3.0
+ */
+final class ColumnAggregation {
+
+  /**
+   * The table.
+   */
+  private final Table table;
+  /**
+   * The name of the column.
+   */
+  private final String columnName;
+
+  /**
+   * Constructor.
+   *
+   * @param table      The table.
+   * @param columnName The name of the column.
+   */
+  private ColumnAggregation(Table table, String columnName) {
+    this.table = table;
+    this.columnName = columnName;
+  }
+
+  /**
+   * Returns the aggregation on a column.
+   * <p>
+   * An aggregation is only possible on a column of a {@link Table} whose the rows are not loaded (if they are loaded, the
+   * assertion is faster on the values in memory).
+   * </p>
+   *
+   * @param column The column.
+   * @return The aggregation on the column or {@code null} if the aggregation is not possible.
+   */
+  static ColumnAggregation of(Column column) {
+    AbstractDbData<?> data = column.getData();
+    if (!(data instanceof Table) || column.isValuesListLoaded() || data.isRowsListLoaded() || !data.canReadRows()) {
+      return null;
+    }
+    return new ColumnAggregation((Table) data, column.getName());
+  }
+
+  /**
+   * Returns the number of rows of the column (counted by the database).
+   *
+   * @return The number of rows.
+   * @see AbstractDbData#getRowsCount()
+   */
+  int getRowsCount() {
+    return table.getRowsCount();
+  }
+
+  /**
+   * Returns if the database proves that all the values of the column are {@code null}.
+   *
+   * @return {@code true} if all the values are {@code null}, {@code false} if it is not proved.
+   */
+  boolean hasOnlyNullValues() {
+    return count(" IS NOT NULL") == 0;
+  }
+
+  /**
+   * Returns if the database proves that all the values of the column are not {@code null}.
+   *
+   * @return {@code true} if all the values are not {@code null}, {@code false} if it is not proved.
+   */
+  boolean hasOnlyNotNullValues() {
+    return count(" IS NULL") == 0;
+  }
+
+  /**
+   * Returns if the database proves that the column contains the expected values (in any order).
+   * <p>
+   * The values of the column are grouped by the database ({@code SELECT column, COUNT(*) FROM table GROUP BY column}) :
+   * only the distinct values are transferred with their number of occurrences. The expected values are compared to the
+   * distinct values with {@link Values#areEqual(Value, Object)}.<br>
+   * As the database groups the values with its own equality, only the {@code null} values and the values of which the
+   * type is {@link ValueType#BOOLEAN}, {@link ValueType#NUMBER}, {@link ValueType#DATE}, {@link ValueType#TIME},
+   * {@link ValueType#DATE_TIME} or {@link ValueType#UUID} are proved (a text can be equal to another text with a
+   * different case for some databases for example).
+   * </p>
+   *
+   * @param expected     The expected values.
+   * @param allowedTypes The types allowed for the values (if empty, all the types are allowed).
+   * @return {@code true} if the column contains the values, {@code false} if it is not proved.
+   */
+  boolean containsValues(Object[] expected, ValueType... allowedTypes) {
+    List<Value> valuesList = new ArrayList<>();
+    List<Long> countsList = new ArrayList<>();
+    String request = "SELECT " + table.encode(columnName) + ", COUNT(*) FROM " + table.encode(table.getName())
+                     + " GROUP BY " + table.encode(columnName);
+    try (Connection connection = table.getConnection()) {
+      try (Statement statement = connection.createStatement()) {
+        try (ResultSet resultSet = statement.executeQuery(request)) {
+          ResultSetReader reader = new ResultSetReader(resultSet, Collections.singletonList(columnName),
+                                                       table.getColumnLetterCase());
+          while (resultSet.next()) {
+            valuesList.add(reader.readValues().get(0));
+            countsList.add(resultSet.getLong(2));
+          }
+        }
+      }
+    } catch (SQLException e) {
+      return false;
+    }
+
+    long total = 0;
+    for (int index = 0; index < valuesList.size(); index++) {
+      Value value = valuesList.get(index);
+      if (!isProvable(value) || !isAllowed(value.getValueType(), allowedTypes)) {
+        return false;
+      }
+      total += countsList.get(index);
+    }
+    if (total != expected.length) {
+      return false;
+    }
+
+    long[] remaining = new long[countsList.size()];
+    for (int index = 0; index < remaining.length; index++) {
+      remaining[index] = countsList.get(index);
+    }
+    for (Object object : expected) {
+      int found = -1;
+      for (int index = 0; index < valuesList.size(); index++) {
+        if (Values.areEqual(valuesList.get(index), object)) {
+          if (found != -1) {
+            // The expected value is equal to many distinct values of the database
+            return false;
+          }
+          found = index;
+        }
+      }
+      if (found == -1 || remaining[found] == 0) {
+        return false;
+      }
+      remaining[found]--;
+    }
+    return true;
+  }
+
+  /**
+   * Counts the rows of the table with a condition on the column.
+   *
+   * @param condition The condition on the column (like {@code " IS NULL"}).
+   * @return The number of rows or {@code -1} if the rows can not be counted.
+   */
+  private long count(String condition) {
+    String request = "SELECT COUNT(*) FROM " + table.encode(table.getName())
+                     + " WHERE " + table.encode(columnName) + condition;
+    try (Connection connection = table.getConnection()) {
+      try (Statement statement = connection.createStatement()) {
+        try (ResultSet resultSet = statement.executeQuery(request)) {
+          resultSet.next();
+          return resultSet.getLong(1);
+        }
+      }
+    } catch (SQLException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * Returns if the equality of the database on a value is the one of {@link Values#areEqual(Value, Object)}.
+   *
+   * @param value The value.
+   * @return {@code true} if the value can be proved, {@code false} otherwise.
+   */
+  private static boolean isProvable(Value value) {
+    if (value.getValue() == null) {
+      return true;
+    }
+    switch (value.getValueType()) {
+      case BOOLEAN:
+      case NUMBER:
+      case DATE:
+      case TIME:
+      case DATE_TIME:
+      case UUID:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Returns if a type is in the allowed types.
+   *
+   * @param valueType    The type.
+   * @param allowedTypes The allowed types (if empty, all the types are allowed).
+   * @return {@code true} if the type is allowed, {@code false} otherwise.
+   */
+  private static boolean isAllowed(ValueType valueType, ValueType... allowedTypes) {
+    if (allowedTypes.length == 0) {
+      return true;
+    }
+    for (ValueType allowedType : allowedTypes) {
+      if (valueType == allowedType) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,553 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.type.lettercase.LetterCase;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Storage of the values of the rows by column (used in {@link StorageMode#COLUMNAR} mode).
+ * <p>
+ * Each column has a store chosen with the class of its first value which is not {@code null} : an array of
+ * primitives and a bitmap of the {@code null} values for {@code Long}, {@code Integer} and {@code Double}, a dictionary
+ * for {@code String} and an array of objects for the others. If a value can not be kept in the store of the column
+ * (a value with another class), the store is replaced by an array of objects.
+ * </p>
+ * <p>
+ * The values of the rows are views on the stores ({@link #getRowValues(int)}) : the {@link Value}s are instantiated
+ * when they are accessed.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.3.0
+ */
+final class ColumnarStorage {
+
+  /**
+   * The initial capacity of the stores.
+   */
+  private static final int INITIAL_CAPACITY = 16;
+
+  /**
+   * The list of the columns name.
+   */
+  private final List<String> columnsNameList;
+  /**
+   * Letter case of the columns.
+   */
+  private final LetterCase columnLetterCase;
+  /**
+   * The stores of the columns.
+   */
+  private final Store[] stores;
+  /**
+   * The number of rows.
+   */
+  private int rowsCount;
+
+  /**
+   * Constructor.
+   *
+   * @param columnsNameList  The list of the columns name.
+   * @param columnLetterCase The letter case of the columns.
+   */
+  ColumnarStorage(List<String> columnsNameList, LetterCase columnLetterCase) {
+    this.columnsNameList = columnsNameList;
+    this.columnLetterCase = columnLetterCase;
+    stores = new Store[columnsNameList.size()];
+    for (int columnIndex = 0; columnIndex < stores.length; columnIndex++) {
+      stores[columnIndex] = new NullStore();
+    }
+  }
+
+  /**
+   * Adds a row.
+   *
+   * @param objects The objects of the row (one for each column).
+   */
+  void addRow(Object[] objects) {
+    for (int columnIndex = 0; columnIndex < stores.length; columnIndex++) {
+      Object object = objects[columnIndex];
+      Store store = stores[columnIndex];
+      if (!store.add(object)) {
+        // The store can not keep the object : it is replaced
+        Store newStore = store instanceof NullStore ? Store.of(object) : new ObjectStore();
+        for (int rowIndex = 0; rowIndex < rowsCount; rowIndex++) {
+          newStore.add(store.get(rowIndex));
+        }
+        newStore.add(object);
+        stores[columnIndex] = newStore;
+      }
+    }
+    rowsCount++;
+  }
+
+  /**
+   * Releases the memory which is only used during the adding of the rows.
+   */
+  void trimToSize() {
+    for (Store store : stores) {
+      store.trimToSize(rowsCount);
+    }
+  }
+
+  /**
+   * Returns the number of rows.
+   *
+   * @return The number of rows.
+   */
+  int getRowsCount() {
+    return rowsCount;
+  }
+
+  /**
+   * Returns the value of a column in a row.
+   *
+   * @param rowIndex    The index of the row (in the order of the adding).
+   * @param columnIndex The index of the column.
+   * @return The value.
+   */
+  Value getValue(int rowIndex, int columnIndex) {
+    return new Value(columnsNameList.get(columnIndex), stores[columnIndex].get(rowIndex), columnLetterCase);
+  }
+
+  /**
+   * Returns the values of a row.
+   *
+   * @param rowIndex The index of the row (in the order of the adding).
+   * @return A view on the values of the row.
+   */
+  List<Value> getRowValues(int rowIndex) {
+    return new RowValues(rowIndex);
+  }
+
+  /**
+   * View on the values of a row.
+   */
+  private final class RowValues extends AbstractList<Value> implements RandomAccess {
+
+    /**
+     * The index of the row.
+     */
+    private final int rowIndex;
+
+    /**
+     * Constructor.
+     *
+     * @param rowIndex The index of the row.
+     */
+    private RowValues(int rowIndex) {
+      this.rowIndex = rowIndex;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Value get(int index) {
+      if (index < 0 || index >= stores.length) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + stores.length);
+      }
+      return getValue(rowIndex, index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+      return stores.length;
+    }
+  }
+
+  /**
+   * Store of the objects of a column.
+   */
+  private abstract static class Store {
+
+    /**
+     * Returns a store for the class of the object.
+     *
+     * @param object The object (not {@code null}).
+     * @return The store.
+     */
+    static Store of(Object object) {
+      Class<?> clazz = object.getClass();
+      if (clazz == Long.class) {
+        return new LongStore();
+      }
+      if (clazz == Integer.class) {
+        return new IntegerStore();
+      }
+      if (clazz == Double.class) {
+        return new DoubleStore();
+      }
+      if (clazz == String.class) {
+        return new StringStore();
+      }
+      return new ObjectStore();
+    }
+
+    /**
+     * Adds an object at the end of the store.
+     *
+     * @param object The object.
+     * @return {@code true} if the object is added, {@code false} if the store can not keep the object.
+     */
+    abstract boolean add(Object object);
+
+    /**
+     * Returns the object at the index.
+     *
+     * @param index The index.
+     * @return The object.
+     */
+    abstract Object get(int index);
+
+    /**
+     * Releases the memory which is not used.
+     *
+     * @param size The number of objects in the store.
+     */
+    abstract void trimToSize(int size);
+  }
+
+  /**
+   * Store of a column which contains only {@code null} values.
+   */
+  private static final class NullStore extends Store {
+
+    @Override
+    boolean add(Object object) {
+      return object == null;
+    }
+
+    @Override
+    Object get(int index) {
+      return null;
+    }
+
+    @Override
+    void trimToSize(int size) {
+      // Nothing to release
+    }
+  }
+
+  /**
+   * Store of a column of primitives with a bitmap of the {@code null} values.
+   */
+  private abstract static class PrimitiveStore extends Store {
+
+    /**
+     * The bitmap of the {@code null} values.
+     */
+    private final BitSet nulls = new BitSet();
+    /**
+     * The number of objects.
+     */
+    private int size;
+
+    @Override
+    final boolean add(Object object) {
+      if (object != null && !accepts(object)) {
+        return false;
+      }
+      if (size == capacity()) {
+        grow(Math.max(INITIAL_CAPACITY, size * 2));
+      }
+      if (object == null) {
+        nulls.set(size);
+      } else {
+        set(size, object);
+      }
+      size++;
+      return true;
+    }
+
+    @Override
+    final Object get(int index) {
+      if (nulls.get(index)) {
+        return null;
+      }
+      return getPrimitive(index);
+    }
+
+    @Override
+    final void trimToSize(int size) {
+      if (size < capacity()) {
+        grow(size);
+      }
+    }
+
+    /**
+     * Returns if the object can be kept in this store.
+     *
+     * @param object The object (not {@code null}).
+     * @return {@code true} if the object can be kept, {@code false} otherwise.
+     */
+    abstract boolean accepts(Object object);
+
+    /**
+     * Returns the capacity of the array.
+     *
+     * @return The capacity.
+     */
+    abstract int capacity();
+
+    /**
+     * Changes the capacity of the array.
+     *
+     * @param capacity The new capacity.
+     */
+    abstract void grow(int capacity);
+
+    /**
+     * Sets the primitive at the index.
+     *
+     * @param index  The index.
+     * @param object The object (not {@code null}).
+     */
+    abstract void set(int index, Object object);
+
+    /**
+     * Returns the primitive at the index (boxed).
+     *
+     * @param index The index.
+     * @return The primitive.
+     */
+    abstract Object getPrimitive(int index);
+  }
+
+  /**
+   * Store of a column of {@code Long}.
+   */
+  private static final class LongStore extends PrimitiveStore {
+
+    /**
+     * The values.
+     */
+    private long[] values = new long[0];
+
+    @Override
+    boolean accepts(Object object) {
+      return object.getClass() == Long.class;
+    }
+
+    @Override
+    int capacity() {
+      return values.length;
+    }
+
+    @Override
+    void grow(int capacity) {
+      values = Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    void set(int index, Object object) {
+      values[index] = (Long) object;
+    }
+
+    @Override
+    Object getPrimitive(int index) {
+      return values[index];
+    }
+  }
+
+  /**
+   * Store of a column of {@code Integer}.
+   */
+  private static final class IntegerStore extends PrimitiveStore {
+
+    /**
+     * The values.
+     */
+    private int[] values = new int[0];
+
+    @Override
+    boolean accepts(Object object) {
+      return object.getClass() == Integer.class;
+    }
+
+    @Override
+    int capacity() {
+      return values.length;
+    }
+
+    @Override
+    void grow(int capacity) {
+      values = Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    void set(int index, Object object) {
+      values[index] = (Integer) object;
+    }
+
+    @Override
+    Object getPrimitive(int index) {
+      return values[index];
+    }
+  }
+
+  /**
+   * Store of a column of {@code Double}.
+   */
+  private static final class DoubleStore extends PrimitiveStore {
+
+    /**
+     * The values.
+     */
+    private double[] values = new double[0];
+
+    @Override
+    boolean accepts(Object object) {
+      return object.getClass() == Double.class;
+    }
+
+    @Override
+    int capacity() {
+      return values.length;
+    }
+
+    @Override
+    void grow(int capacity) {
+      values = Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    void set(int index, Object object) {
+      values[index] = (Double) object;
+    }
+
+    @Override
+    Object getPrimitive(int index) {
+      return values[index];
+    }
+  }
+
+  /**
+   * Store of a column of {@code String} with a dictionary : each distinct string is kept once and the rows keep the
+   * index of the string in the dictionary ({@code -1} for {@code null}).
+   */
+  private static final class StringStore extends Store {
+
+    /**
+     * The distinct strings.
+     */
+    private final ArrayList<String> dictionary = new ArrayList<>();
+    /**
+     * The index of each string in the dictionary (only used during the adding).
+     */
+    private Map<String, Integer> indexes = new HashMap<>();
+    /**
+     * The indexes in the dictionary.
+     */
+    private int[] codes = new int[0];
+    /**
+     * The number of strings.
+     */
+    private int size;
+
+    @Override
+    boolean add(Object object) {
+      if (object != null && object.getClass() != String.class) {
+        return false;
+      }
+      if (size == codes.length) {
+        codes = Arrays.copyOf(codes, Math.max(INITIAL_CAPACITY, size * 2));
+      }
+      int code = -1;
+      if (object != null) {
+        Map<String, Integer> indexes = getIndexes();
+        Integer index = indexes.get(object);
+        if (index == null) {
+          index = dictionary.size();
+          dictionary.add((String) object);
+          indexes.put((String) object, index);
+        }
+        code = index;
+      }
+      codes[size] = code;
+      size++;
+      return true;
+    }
+
+    /**
+     * Returns the index of each string in the dictionary (built again if it was released).
+     *
+     * @return The index of each string in the dictionary.
+     */
+    private Map<String, Integer> getIndexes() {
+      if (indexes == null) {
+        indexes = new HashMap<>();
+        for (int index = 0; index < dictionary.size(); index++) {
+          indexes.put(dictionary.get(index), index);
+        }
+      }
+      return indexes;
+    }
+
+    @Override
+    Object get(int index) {
+      int code = codes[index];
+      if (code == -1) {
+        return null;
+      }
+      return dictionary.get(code);
+    }
+
+    @Override
+    void trimToSize(int size) {
+      if (size < codes.length) {
+        codes = Arrays.copyOf(codes, size);
+      }
+      dictionary.trimToSize();
+      indexes = null;
+    }
+  }
+
+  /**
+   * Store of a column of objects.
+   */
+  private static final class ObjectStore extends Store {
+
+    /**
+     * The objects.
+     */
+    private final ArrayList<Object> objects = new ArrayList<>();
+
+    @Override
+    boolean add(Object object) {
+      return objects.add(object);
+    }
+
+    @Override
+    Object get(int index) {
+      return objects.get(index);
+    }
+
+    @Override
+    void trimToSize(int size) {
+      objects.trimToSize();
+    }
+  }
+}
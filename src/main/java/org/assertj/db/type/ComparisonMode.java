@@ -0,0 +1,58 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+/**
+ * Enumeration of the different modes of comparison between the start point and the end point of {@link Changes}.
+ *
+ * @author Régis Pouiller
+ * @since 1.3.0
+ */
+public enum ComparisonMode {
+
+  /**
+   * The data at start point and at end point are loaded in memory and compared in memory.
+   * <p>This is the default mode.</p>
+   */
+  IN_MEMORY,
+  /**
+   * The tables with primary keys are written at start point in a temporary file (ordered by primary keys) and compared
+   * at end point with the table read in the same order (like a merge join) : only the changes are kept in memory.
+   * <p>The tables without primary key and the requests are compared in memory.</p>
+   */
+  STREAMING,
+  /**
+   * The tables with primary keys are copied at start point in scratch tables of the same database
+   * ({@code CREATE TABLE ... AS SELECT ...}) and compared at end point by the database with {@code EXCEPT} requests :
+   * only the rows which are different are transferred. The scratch tables are dropped after the end point (so a start
+   * point can only be used for one end point).
+   * <p>The tables without primary key and the requests are compared in memory.</p>
+   * <p>
+   * {@code EXCEPT} compares the values with the rules of the database (a case insensitive collation or a collation
+   * which ignores the trailing spaces would find {@code 'abc'}, {@code 'ABC'} and {@code 'abc '} equal). So all the rows
+   * of the tables with text columns, of the tables whose copy has not the same column types and of the tables which
+   * can not be compared with {@code EXCEPT} (on large objects for example) are read and compared in memory.
+   * </p>
+   * <p>
+   * The scratch tables are also dropped by {@link Changes#close()} or, if it is not called, at the shutdown of the JVM.
+   * </p>
+   * <p>
+   * In this mode, the {@link SnapshotMode} is ignored : each table is copied and compared with its own connection (the
+   * copies can not be created in a read-only transaction). The user must be allowed to create and drop tables. A
+   * transaction which is not started by the comparison (like the transaction of the test given by a transaction-aware
+   * {@code DataSource}) is never committed nor rolled back. Otherwise, the requests of the comparison of a table are
+   * executed in one read-only transaction.
+   * </p>
+   */
+  SERVER_SIDE
+}
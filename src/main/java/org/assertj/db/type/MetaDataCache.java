@@ -0,0 +1,470 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.lettercase.LetterCase;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the metadata of the schemas (names of the tables, names of the columns and names of the primary keys).
+ * <p>
+ * Without cache, each {@link Table} reads the metadata from the {@link DatabaseMetaData} when it is instantiated and
+ * when it is loaded. When the cache is enabled, the metadata are read once for each {@link Source} or
+ * {@link DataSource} (with the catalog and the schema of the first connection) and kept in memory.
+ * </p>
+ * <p>
+ * The cache is disabled by default. If the structure of the database changes when the cache is enabled, the cache must
+ * be invalidated.
+ * </p>
+ * <p>
+ * The metadata of a {@link Source} or a {@link DataSource} are kept as long as this {@link Source} or this
+ * {@link DataSource} is referenced elsewhere (the cache only keeps weak references to them), or until the cache is
+ * invalidated or disabled.
+ * </p>
+ * <p>Example of use :</p>
+ * <pre><code class='java'>
+ * MetaDataCache.enable();
+ * // Optionally : read the names of all the tables and all the columns in one time
+ * MetaDataCache.prefetch(source);
+ * ...
+ * // After a change of the structure of the database
+ * MetaDataCache.invalidate(source);
+ * </code></pre>
+ *
+ * @author Régis Pouiller
+ * @since 1.3.0
+ */
+public final class MetaDataCache {
+
+  /**
+   * Metadata of a schema.
+   */
+  private static final class SchemaMetaData {
+
+    /**
+     * The catalog.
+     */
+    private final String catalog;
+    /**
+     * The schema.
+     */
+    private final String schema;
+    /**
+     * The list of the names of the tables (as they are in the database) or {@code null} if not read.
+     */
+    private volatile List<String> tablesNameList;
+    /**
+     * The names of the columns by table name (the name used by {@link Table} to look up the columns, that is to say
+     * the name in the database converted with the {@link LetterCase} of the tables).
+     */
+    private final Map<String, List<String>> columnsNameMap = new ConcurrentHashMap<>();
+    /**
+     * The names of the primary keys by table name.
+     */
+    private final Map<String, List<String>> pksNameMap = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param catalog The catalog.
+     * @param schema  The schema.
+     */
+    private SchemaMetaData(String catalog, String schema) {
+      this.catalog = catalog;
+      this.schema = schema;
+    }
+  }
+
+  /**
+   * The metadata of the schemas by {@link Source} or {@link DataSource}.
+   * <p>
+   * The keys are weak references : the metadata are released when the {@link Source} or the {@link DataSource} is no
+   * longer used.
+   * </p>
+   */
+  private static final Map<Object, SchemaMetaData> SCHEMAS_MAP = new WeakHashMap<>();
+  /**
+   * Indicates if the cache is enabled.
+   */
+  private static volatile boolean enabled = false;
+
+  /**
+   * Private constructor.
+   */
+  private MetaDataCache() {
+    // Empty
+  }
+
+  /**
+   * Enables the cache.
+   */
+  public static void enable() {
+    enabled = true;
+  }
+
+  /**
+   * Disables the cache (and invalidates all the metadata in the cache).
+   */
+  public static void disable() {
+    enabled = false;
+    invalidate();
+  }
+
+  /**
+   * Returns if the cache is enabled.
+   *
+   * @return {@code true} if the cache is enabled, {@code false} otherwise.
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Invalidates all the metadata in the cache.
+   */
+  public static void invalidate() {
+    synchronized (SCHEMAS_MAP) {
+      SCHEMAS_MAP.clear();
+    }
+  }
+
+  /**
+   * Invalidates the metadata in the cache for a {@link Source}.
+   *
+   * @param source The {@link Source}.
+   * @throws NullPointerException If {@code source} is {@code null}.
+   */
+  public static void invalidate(Source source) {
+    if (source == null) {
+      throw new NullPointerException("source must be not null");
+    }
+    synchronized (SCHEMAS_MAP) {
+      SCHEMAS_MAP.remove(source);
+    }
+  }
+
+  /**
+   * Invalidates the metadata in the cache for a {@link DataSource}.
+   *
+   * @param dataSource The {@link DataSource}.
+   * @throws NullPointerException If {@code dataSource} is {@code null}.
+   */
+  public static void invalidate(DataSource dataSource) {
+    if (dataSource == null) {
+      throw new NullPointerException("dataSource must be not null");
+    }
+    synchronized (SCHEMAS_MAP) {
+      SCHEMAS_MAP.remove(dataSource);
+    }
+  }
+
+  /**
+   * Reads in the cache the names of all the tables and all the columns of the schema of a {@link Source}.
+   * <p>
+   * The names of the columns are read with only one call to
+   * {@link DatabaseMetaData#getColumns(String, String, String, String)} for all the tables.
+   * The names of the primary keys are still read table by table, when needed.
+   * </p>
+   * <p>
+   * Nothing is read if the cache is disabled.
+   * </p>
+   *
+   * @param source The {@link Source}.
+   * @throws NullPointerException If {@code source} is {@code null}.
+   * @throws AssertJDBException   If triggered, this exception wrap a possible {@link SQLException}.
+   */
+  public static void prefetch(Source source) {
+    if (source == null) {
+      throw new NullPointerException("source must be not null");
+    }
+    prefetch(new Table().setSource(source));
+  }
+
+  /**
+   * Reads in the cache the names of all the tables and all the columns of the schema of a {@link DataSource}.
+   * <p>
+   * The names of the columns are read with only one call to
+   * {@link DatabaseMetaData#getColumns(String, String, String, String)} for all the tables.
+   * The names of the primary keys are still read table by table, when needed.
+   * </p>
+   * <p>
+   * Nothing is read if the cache is disabled.
+   * </p>
+   *
+   * @param dataSource The {@link DataSource}.
+   * @throws NullPointerException If {@code dataSource} is {@code null}.
+   * @throws AssertJDBException   If triggered, this exception wrap a possible {@link SQLException}.
+   */
+  public static void prefetch(DataSource dataSource) {
+    if (dataSource == null) {
+      throw new NullPointerException("dataSource must be not null");
+    }
+    prefetch(new Table().setDataSource(dataSource));
+  }
+
+  /**
+   * Reads in the cache the names of all the tables and all the columns of the schema of an element.
+   *
+   * @param element The element with the {@link Source} or the {@link DataSource}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException}.
+   */
+  private static void prefetch(AbstractDbElement<?> element) {
+    if (!enabled) {
+      return;
+    }
+    try (Connection connection = element.getConnection()) {
+      SchemaMetaData schemaMetaData = new SchemaMetaData(AbstractDbElement.getCatalog(connection),
+                                                         AbstractDbElement.getSchema(connection));
+      DatabaseMetaData metaData = connection.getMetaData();
+      schemaMetaData.tablesNameList = readTablesNameList(metaData, schemaMetaData.catalog, schemaMetaData.schema);
+
+      Map<String, List<String>> columnsNameMap = new HashMap<>();
+      for (String tableName : schemaMetaData.tablesNameList) {
+        columnsNameMap.put(tableName, new ArrayList<String>());
+      }
+      try (ResultSet resultSet = metaData.getColumns(schemaMetaData.catalog, schemaMetaData.schema, null, null)) {
+        while (resultSet.next()) {
+          List<String> columnsNameList = columnsNameMap.get(resultSet.getString("TABLE_NAME"));
+          if (columnsNameList != null) {
+            columnsNameList.add(resultSet.getString("COLUMN_NAME"));
+          }
+        }
+      }
+      LetterCase tableLetterCase = element.getTableLetterCase();
+      for (Map.Entry<String, List<String>> entry : columnsNameMap.entrySet()) {
+        schemaMetaData.columnsNameMap.put(tableLetterCase.convert(entry.getKey()),
+                                          Collections.unmodifiableList(entry.getValue()));
+      }
+
+      if (enabled) {
+        synchronized (SCHEMAS_MAP) {
+          SCHEMAS_MAP.put(getKey(element), schemaMetaData);
+        }
+      }
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns the key in the cache of an element.
+   *
+   * @param element The element.
+   * @return The {@link Source} or the {@link DataSource} of the element.
+   */
+  private static Object getKey(AbstractDbElement<?> element) {
+    Source source = element.getSource();
+    if (source != null) {
+      return source;
+    }
+    return element.getDataSource();
+  }
+
+  /**
+   * Returns the metadata of the schema of an element (read from the connection if not in the cache).
+   *
+   * @param element    The element.
+   * @param connection The connection to use (or {@code null} to get a connection from the element).
+   * @return The metadata of the schema.
+   * @throws SQLException SQL Exception.
+   */
+  private static SchemaMetaData getSchemaMetaData(AbstractDbElement<?> element, Connection connection)
+          throws SQLException {
+
+    Object key = getKey(element);
+    if (enabled) {
+      synchronized (SCHEMAS_MAP) {
+        SchemaMetaData schemaMetaData = SCHEMAS_MAP.get(key);
+        if (schemaMetaData != null) {
+          return schemaMetaData;
+        }
+      }
+    }
+
+    SchemaMetaData schemaMetaData;
+    if (connection == null) {
+      try (Connection newConnection = element.getConnection()) {
+        schemaMetaData = new SchemaMetaData(AbstractDbElement.getCatalog(newConnection),
+                                            AbstractDbElement.getSchema(newConnection));
+      }
+    } else {
+      schemaMetaData = new SchemaMetaData(AbstractDbElement.getCatalog(connection),
+                                          AbstractDbElement.getSchema(connection));
+    }
+    if (enabled) {
+      synchronized (SCHEMAS_MAP) {
+        SchemaMetaData existing = SCHEMAS_MAP.get(key);
+        if (existing != null) {
+          return existing;
+        }
+        SCHEMAS_MAP.put(key, schemaMetaData);
+      }
+    }
+    return schemaMetaData;
+  }
+
+  /**
+   * Reads the list of the names of the tables.
+   *
+   * @param metaData The metadata of the database.
+   * @param catalog  The catalog.
+   * @param schema   The schema.
+   * @return The list of the names of the tables (as they are in the database).
+   * @throws SQLException SQL Exception.
+   */
+  private static List<String> readTablesNameList(DatabaseMetaData metaData, String catalog, String schema)
+          throws SQLException {
+
+    List<String> tablesNameList = new ArrayList<>();
+    try (ResultSet resultSet = metaData.getTables(catalog, schema, null, new String[] { "TABLE" })) {
+      while (resultSet.next()) {
+        tablesNameList.add(resultSet.getString("TABLE_NAME"));
+      }
+    }
+    return Collections.unmodifiableList(tablesNameList);
+  }
+
+  /**
+   * Returns the list of the names of the tables (as they are in the database).
+   *
+   * @param element    The element with the {@link Source} or the {@link DataSource}.
+   * @param connection The connection to use (or {@code null} to get a connection from the element if needed).
+   * @return The list of the names of the tables.
+   * @throws SQLException SQL Exception.
+   */
+  static List<String> getTablesNameList(AbstractDbElement<?> element, Connection connection) throws SQLException {
+    SchemaMetaData schemaMetaData = getSchemaMetaData(element, connection);
+    List<String> tablesNameList = schemaMetaData.tablesNameList;
+    if (tablesNameList == null) {
+      if (connection == null) {
+        try (Connection newConnection = element.getConnection()) {
+          tablesNameList = readTablesNameList(newConnection.getMetaData(), schemaMetaData.catalog,
+                                              schemaMetaData.schema);
+        }
+      } else {
+        tablesNameList = readTablesNameList(connection.getMetaData(), schemaMetaData.catalog, schemaMetaData.schema);
+      }
+      schemaMetaData.tablesNameList = tablesNameList;
+    }
+    return tablesNameList;
+  }
+
+  /**
+   * Returns the list of the names of the columns of a table (as they are in the database).
+   *
+   * @param element    The element with the {@link Source} or the {@link DataSource}.
+   * @param connection The connection to use (or {@code null} to get a connection from the element if needed).
+   * @param tableName  The name of the table (the name in the database converted with the letter case of the tables).
+   * @return The list of the names of the columns.
+   * @throws SQLException SQL Exception.
+   */
+  static List<String> getColumnsNameList(AbstractDbElement<?> element, Connection connection, String tableName)
+          throws SQLException {
+
+    SchemaMetaData schemaMetaData = getSchemaMetaData(element, connection);
+    List<String> columnsNameList = schemaMetaData.columnsNameMap.get(tableName);
+    if (columnsNameList == null) {
+      if (connection == null) {
+        try (Connection newConnection = element.getConnection()) {
+          columnsNameList = readColumnsNameList(newConnection.getMetaData(), schemaMetaData, tableName);
+        }
+      } else {
+        columnsNameList = readColumnsNameList(connection.getMetaData(), schemaMetaData, tableName);
+      }
+      schemaMetaData.columnsNameMap.put(tableName, columnsNameList);
+    }
+    return columnsNameList;
+  }
+
+  /**
+   * Reads the list of the names of the columns of a table.
+   *
+   * @param metaData       The metadata of the database.
+   * @param schemaMetaData The metadata of the schema.
+   * @param tableName      The name of the table.
+   * @return The list of the names of the columns (as they are in the database).
+   * @throws SQLException SQL Exception.
+   */
+  private static List<String> readColumnsNameList(DatabaseMetaData metaData, SchemaMetaData schemaMetaData,
+                                                  String tableName) throws SQLException {
+
+    List<String> columnsNameList = new ArrayList<>();
+    try (ResultSet resultSet = metaData.getColumns(schemaMetaData.catalog, schemaMetaData.schema, tableName, null)) {
+      while (resultSet.next()) {
+        columnsNameList.add(resultSet.getString("COLUMN_NAME"));
+      }
+    }
+    return Collections.unmodifiableList(columnsNameList);
+  }
+
+  /**
+   * Returns the list of the names of the primary keys of a table (as they are in the database).
+   *
+   * @param element    The element with the {@link Source} or the {@link DataSource}.
+   * @param connection The connection to use (or {@code null} to get a connection from the element if needed).
+   * @param tableName  The name of the table.
+   * @return The list of the names of the primary keys.
+   * @throws SQLException SQL Exception.
+   */
+  static List<String> getPksNameList(AbstractDbElement<?> element, Connection connection, String tableName)
+          throws SQLException {
+
+    SchemaMetaData schemaMetaData = getSchemaMetaData(element, connection);
+    List<String> pksNameList = schemaMetaData.pksNameMap.get(tableName);
+    if (pksNameList == null) {
+      if (connection == null) {
+        try (Connection newConnection = element.getConnection()) {
+          pksNameList = readPksNameList(newConnection.getMetaData(), schemaMetaData, tableName);
+        }
+      } else {
+        pksNameList = readPksNameList(connection.getMetaData(), schemaMetaData, tableName);
+      }
+      schemaMetaData.pksNameMap.put(tableName, pksNameList);
+    }
+    return pksNameList;
+  }
+
+  /**
+   * Reads the list of the names of the primary keys of a table.
+   *
+   * @param metaData       The metadata of the database.
+   * @param schemaMetaData The metadata of the schema.
+   * @param tableName      The name of the table.
+   * @return The list of the names of the primary keys (as they are in the database).
+   * @throws SQLException SQL Exception.
+   */
+  private static List<String> readPksNameList(DatabaseMetaData metaData, SchemaMetaData schemaMetaData,
+                                              String tableName) throws SQLException {
+
+    List<String> pksNameList = new ArrayList<>();
+    try (ResultSet resultSet = metaData.getPrimaryKeys(schemaMetaData.catalog, schemaMetaData.schema, tableName)) {
+      while (resultSet.next()) {
+        pksNameList.add(resultSet.getString("COLUMN_NAME"));
+      }
+    }
+    return Collections.unmodifiableList(pksNameList);
+  }
+}
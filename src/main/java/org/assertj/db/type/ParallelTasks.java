@@ -0,0 +1,258 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Execution of indexed tasks (like the loading of the tables of {@link Changes}) with a bounded parallelism.
+ * <p>
+ * At most {@code parallelism} workers are submitted to the executor and each worker executes the next task which is not
+ * executed : so there are never more than {@code parallelism} tasks executed at the same time (and so never more than
+ * {@code parallelism} connections opened), whatever the executor. The results are in the order of the indexes.
+ * </p>
+ *
+ * @author Régis Pouiller
+ */
+final class ParallelTasks {
+
+  /**
+   * An indexed task.
+   *
+   * @param <T> The type of the result.
+   */
+  interface Task<T> {
+
+    /**
+     * Executes the task.
+     *
+     * @param index The index of the task.
+     * @return The result.
+     */
+    T execute(int index);
+  }
+
+  /**
+   * Private constructor.
+   */
+  private ParallelTasks() {
+    // Empty
+  }
+
+  /**
+   * Executes the tasks.
+   * <p>
+   * If {@code parallelism} is 1, the tasks are executed in the current thread. Otherwise, if {@code executorService} is
+   * {@code null}, an executor is created for the execution (with virtual threads if the JVM provides them, with a
+   * fixed pool of threads otherwise) and shut down after.
+   * </p>
+   * <p>
+   * If a task fails or if the current thread is interrupted, no other task is started and the method waits for the end of
+   * the tasks which are executed (and for the termination of the executor if it is created for the execution) before
+   * throwing : so no task is executed after the return. The failures of the other tasks are added as suppressed.
+   * </p>
+   *
+   * @param count           The number of tasks.
+   * @param task            The task.
+   * @param parallelism     The maximum number of tasks executed at the same time.
+   * @param executorService The executor (can be {@code null}).
+   * @param <T>             The type of the results.
+   * @return The list of the results (in the order of the indexes).
+   * @throws AssertJDBException If the execution is interrupted or if a task throws a checked exception. The
+   *                            {@link RuntimeException}s and the {@link Error}s thrown by the tasks are rethrown.
+   */
+  static <T> List<T> execute(int count, final Task<T> task, int parallelism, ExecutorService executorService) {
+    int workersCount = Math.min(parallelism, count);
+    if (workersCount <= 1) {
+      List<T> resultsList = new ArrayList<>(count);
+      for (int index = 0; index < count; index++) {
+        resultsList.add(task.execute(index));
+      }
+      return resultsList;
+    }
+
+    ExecutorService executor = executorService;
+    if (executor == null) {
+      executor = createExecutorService(workersCount);
+    }
+    final Object[] results = new Object[count];
+    final AtomicInteger nextIndex = new AtomicInteger();
+    final int tasksCount = count;
+    Callable<Void> worker = new Callable<Void>() {
+      @Override
+      public Void call() {
+        int index;
+        try {
+          while ((index = nextIndex.getAndIncrement()) < tasksCount) {
+            results[index] = task.execute(index);
+          }
+        } catch (RuntimeException | Error e) {
+          // Stops the other workers
+          nextIndex.set(tasksCount);
+          throw e;
+        }
+        return null;
+      }
+    };
+    List<Future<Void>> futuresList = new ArrayList<>(workersCount);
+    Throwable failure = null;
+    try {
+      for (int i = 0; i < workersCount; i++) {
+        futuresList.add(executor.submit(worker));
+      }
+    } catch (RuntimeException e) {
+      // Stops the workers which are submitted
+      nextIndex.set(tasksCount);
+      failure = e;
+    }
+    // Waits for all the workers, even after a failure : no task is executed after the return
+    boolean interrupted = false;
+    for (Future<Void> future : futuresList) {
+      boolean done = false;
+      while (!done) {
+        try {
+          future.get();
+          done = true;
+        } catch (InterruptedException e) {
+          // Stops the other workers but waits for the tasks which are executed
+          nextIndex.set(tasksCount);
+          if (!interrupted) {
+            interrupted = true;
+            failure = addFailure(failure, new AssertJDBException(e));
+          }
+        } catch (ExecutionException e) {
+          // Stops the other workers
+          nextIndex.set(tasksCount);
+          failure = addFailure(failure, e.getCause());
+          done = true;
+        }
+      }
+    }
+    if (executorService == null && shutdownAndAwaitTermination(executor) && !interrupted) {
+      interrupted = true;
+      failure = addFailure(failure, new AssertJDBException(new InterruptedException()));
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+    if (failure instanceof RuntimeException) {
+      throw (RuntimeException) failure;
+    }
+    if (failure instanceof Error) {
+      throw (Error) failure;
+    }
+    if (failure != null) {
+      throw new AssertJDBException((Exception) failure);
+    }
+
+    List<T> resultsList = new ArrayList<>(count);
+    for (Object result : results) {
+      @SuppressWarnings("unchecked")
+      T t = (T) result;
+      resultsList.add(t);
+    }
+    return resultsList;
+  }
+
+  /**
+   * Adds a failure : the first failure is kept and the next ones are added to it as suppressed.
+   *
+   * @param failure    The first failure ({@code null} if there is none).
+   * @param newFailure The new failure.
+   * @return The first failure.
+   */
+  private static Throwable addFailure(Throwable failure, Throwable newFailure) {
+    if (failure == null) {
+      return newFailure;
+    }
+    if (failure != newFailure) {
+      failure.addSuppressed(newFailure);
+    }
+    return failure;
+  }
+
+  /**
+   * Shuts down an executor and waits for its termination.
+   * <p>
+   * If the current thread is interrupted, the method still waits for the termination and the interrupted status of the
+   * thread is set again before the return.
+   * </p>
+   *
+   * @param executorService The executor.
+   */
+  static void shutdown(ExecutorService executorService) {
+    if (shutdownAndAwaitTermination(executorService)) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Shuts down an executor and waits for its termination, even if the current thread is interrupted.
+   *
+   * @param executorService The executor.
+   * @return {@code true} if the current thread is interrupted during the wait, {@code false} otherwise.
+   */
+  private static boolean shutdownAndAwaitTermination(ExecutorService executorService) {
+    boolean interrupted = false;
+    executorService.shutdown();
+    while (!executorService.isTerminated()) {
+      try {
+        executorService.awaitTermination(1, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    return interrupted;
+  }
+
+  /**
+   * Creates an executor : with virtual threads if the JVM provides them, with a fixed pool of daemon threads otherwise.
+   * <p>
+   * The executor must be shut down by {@link #shutdown(ExecutorService)}.
+   * </p>
+   *
+   * @param threadsCount The number of threads of the fixed pool.
+   * @return The executor.
+   */
+  static ExecutorService createExecutorService(int threadsCount) {
+    try {
+      // Virtual threads are only available since Java 21
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (Exception exception) {
+      return Executors.newFixedThreadPool(threadsCount, new ThreadFactory() {
+        /**
+         * Default factory.
+         */
+        private final ThreadFactory defaultThreadFactory = Executors.defaultThreadFactory();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+          Thread thread = defaultThreadFactory.newThread(runnable);
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+    }
+  }
+}
@@ -0,0 +1,410 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.type.lettercase.LetterCase;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A source which keeps the connections to the database to reuse them, instead of connecting to the database each time
+ * a connection is needed.
+ * <p>
+ * When a connection got from this source is closed, the connection is kept in the source (if the number of idle
+ * connections is less than the maximum) and is given the next time a connection is needed. The idle connections are
+ * validated before to be given : only with {@link Connection#isClosed()} if they have been idle for a short time, with
+ * {@link Connection#isValid(int)} otherwise.
+ * </p>
+ * <p>
+ * When a connection is released, the current transaction is rolled back and the settings of the connection (the
+ * auto-commit, the read-only mode, the transaction isolation, the catalog and the schema) are restored to the values
+ * that they had at the creation of the connection.
+ * </p>
+ * <p>Example of instantiation :</p>
+ * <pre><code class='java'>
+ * PooledSource source = new PooledSource("jdbc:h2:tcp://localhost/~/test", "sa", "", 5);
+ * Table table = new Table(source, "movie");
+ * ...
+ * // Closes the idle connections (and the connections in use when they are released)
+ * source.close();
+ * </code></pre>
+ *
+ * @author Régis Pouiller
+ * @since 1.3.0
+ */
+public class PooledSource extends SourceWithLetterCase implements AutoCloseable {
+
+  /**
+   * The idle time (in milliseconds) after which a connection is validated with {@link Connection#isValid(int)}.
+   */
+  private static final long VALIDATION_IDLE_TIME = 30000;
+  /**
+   * The timeout (in seconds) of the validation with {@link Connection#isValid(int)}.
+   */
+  private static final int VALIDATION_TIMEOUT = 1;
+
+  /**
+   * The settings of a connection at its creation, which are restored when the connection is released.
+   */
+  private static final class InitialSettings {
+
+    /**
+     * The read-only mode.
+     */
+    private final boolean readOnly;
+    /**
+     * The transaction isolation.
+     */
+    private final int transactionIsolation;
+    /**
+     * The catalog (can be {@code null}).
+     */
+    private final String catalog;
+    /**
+     * Indicates if the driver supports the schema of the connection.
+     */
+    private final boolean schemaSupported;
+    /**
+     * The schema (can be {@code null}).
+     */
+    private final String schema;
+
+    /**
+     * Constructor.
+     *
+     * @param connection The connection just created.
+     * @throws SQLException SQL Exception
+     */
+    private InitialSettings(Connection connection) throws SQLException {
+      readOnly = connection.isReadOnly();
+      transactionIsolation = connection.getTransactionIsolation();
+      catalog = connection.getCatalog();
+      boolean supported = true;
+      String initialSchema = null;
+      try {
+        initialSchema = connection.getSchema();
+      } catch (AbstractMethodError | SQLFeatureNotSupportedException e) {
+        // The driver is older than JDBC 4.1 or does not support the schema
+        supported = false;
+      }
+      schemaSupported = supported;
+      schema = initialSchema;
+    }
+
+    /**
+     * Restores the settings of a connection (only the ones which are changed).
+     * <p>
+     * The auto-commit must be enabled before : some drivers can not change the read-only mode or the transaction
+     * isolation during a transaction.
+     * </p>
+     *
+     * @param connection The connection.
+     * @throws SQLException SQL Exception
+     */
+    private void restore(Connection connection) throws SQLException {
+      if (connection.isReadOnly() != readOnly) {
+        connection.setReadOnly(readOnly);
+      }
+      if (connection.getTransactionIsolation() != transactionIsolation) {
+        connection.setTransactionIsolation(transactionIsolation);
+      }
+      if (catalog != null && !catalog.equals(connection.getCatalog())) {
+        connection.setCatalog(catalog);
+      }
+      if (schemaSupported && schema != null && !schema.equals(connection.getSchema())) {
+        connection.setSchema(schema);
+      }
+    }
+  }
+
+  /**
+   * An idle connection.
+   */
+  private static final class IdleConnection {
+
+    /**
+     * The connection.
+     */
+    private final Connection connection;
+    /**
+     * The settings of the connection at its creation.
+     */
+    private final InitialSettings initialSettings;
+    /**
+     * The time when the connection became idle.
+     */
+    private final long idleSince;
+
+    /**
+     * Constructor.
+     *
+     * @param connection      The connection.
+     * @param initialSettings The settings of the connection at its creation.
+     */
+    private IdleConnection(Connection connection, InitialSettings initialSettings) {
+      this.connection = connection;
+      this.initialSettings = initialSettings;
+      this.idleSince = System.currentTimeMillis();
+    }
+  }
+
+  /**
+   * The maximum number of idle connections kept.
+   */
+  private final int maxIdleConnections;
+  /**
+   * The idle connections (the last connection released is the first given).
+   */
+  private final Deque<IdleConnection> idleConnections = new ArrayDeque<>();
+  /**
+   * Indicates if the source is closed (guarded by {@link #idleConnections}).
+   */
+  private boolean closed;
+
+  /**
+   * Constructor with the informations.
+   *
+   * @param url                URL to the database.
+   * @param user               User to connect.
+   * @param password           Password to connect.
+   * @param maxIdleConnections The maximum number of idle connections kept.
+   * @throws IllegalArgumentException If {@code maxIdleConnections} is less than 1.
+   */
+  public PooledSource(String url, String user, String password, int maxIdleConnections) {
+    this(url, user, password, maxIdleConnections, LetterCase.TABLE_DEFAULT, LetterCase.COLUMN_DEFAULT,
+         LetterCase.PRIMARY_KEY_DEFAULT);
+  }
+
+  /**
+   * Constructor with the informations.
+   *
+   * @param url                  URL to the database.
+   * @param user                 User to connect.
+   * @param password             Password to connect.
+   * @param maxIdleConnections   The maximum number of idle connections kept.
+   * @param tableLetterCase      Letter case of the tables.
+   * @param columnLetterCase     Letter case of the columns.
+   * @param primaryKeyLetterCase Letter case of the primary keys.
+   * @throws IllegalArgumentException If {@code maxIdleConnections} is less than 1.
+   */
+  public PooledSource(String url, String user, String password, int maxIdleConnections,
+                      LetterCase tableLetterCase, LetterCase columnLetterCase, LetterCase primaryKeyLetterCase) {
+
+    super(url, user, password, tableLetterCase, columnLetterCase, primaryKeyLetterCase);
+    if (maxIdleConnections < 1) {
+      throw new IllegalArgumentException("The maximum number of idle connections must be greater than or equal to 1");
+    }
+    this.maxIdleConnections = maxIdleConnections;
+  }
+
+  /**
+   * Returns the maximum number of idle connections kept.
+   *
+   * @return The maximum number of idle connections kept.
+   */
+  public int getMaxIdleConnections() {
+    return maxIdleConnections;
+  }
+
+  /**
+   * Returns the number of idle connections.
+   *
+   * @return The number of idle connections.
+   */
+  public int getIdleConnectionsCount() {
+    synchronized (idleConnections) {
+      return idleConnections.size();
+    }
+  }
+
+  /**
+   * Returns a {@link Connection} to the database : an idle connection if there is a valid one, a new connection
+   * otherwise.
+   * <p>
+   * Closing the returned connection releases it in this source.
+   * </p>
+   *
+   * @return A {@link Connection} to the database.
+   * @throws SQLException SQL Exception (or if the source is closed).
+   */
+  @Override
+  Connection getConnection() throws SQLException {
+    synchronized (idleConnections) {
+      if (closed) {
+        throw new SQLException("The source is closed");
+      }
+    }
+    IdleConnection idleConnection = getIdleConnection();
+    if (idleConnection != null) {
+      return getPooledConnection(idleConnection.connection, idleConnection.initialSettings);
+    }
+    Connection connection = DriverManager.getConnection(getUrl(), getUser(), getPassword());
+    InitialSettings initialSettings;
+    try {
+      initialSettings = new InitialSettings(connection);
+    } catch (SQLException e) {
+      closeQuietly(connection);
+      throw e;
+    }
+    return getPooledConnection(connection, initialSettings);
+  }
+
+  /**
+   * Returns a valid idle connection (the invalid ones are closed).
+   *
+   * @return A valid idle connection or {@code null} if there is none.
+   */
+  private IdleConnection getIdleConnection() {
+    while (true) {
+      IdleConnection idleConnection;
+      synchronized (idleConnections) {
+        idleConnection = idleConnections.pollFirst();
+      }
+      if (idleConnection == null) {
+        return null;
+      }
+      Connection connection = idleConnection.connection;
+      try {
+        if (!connection.isClosed()
+            && (System.currentTimeMillis() - idleConnection.idleSince < VALIDATION_IDLE_TIME
+                || connection.isValid(VALIDATION_TIMEOUT))) {
+
+          return idleConnection;
+        }
+      } catch (SQLException e) {
+        // The connection is not valid
+      }
+      closeQuietly(connection);
+    }
+  }
+
+  /**
+   * Releases a connection : the connection is kept as idle if it can be reused, if the maximum number of idle
+   * connections is not reached and if the source is not closed, it is closed otherwise.
+   * <p>
+   * Before to be kept, the current transaction is rolled back and the settings of the connection at its creation are
+   * restored. If it fails, the connection is closed.
+   * </p>
+   *
+   * @param connection      The connection.
+   * @param initialSettings The settings of the connection at its creation.
+   * @throws SQLException SQL Exception
+   */
+  private void release(Connection connection, InitialSettings initialSettings) throws SQLException {
+    try {
+      if (connection.isClosed()) {
+        return;
+      }
+      if (!connection.getAutoCommit()) {
+        connection.rollback();
+        connection.setAutoCommit(true);
+      }
+      initialSettings.restore(connection);
+    } catch (SQLException e) {
+      closeQuietly(connection);
+      throw e;
+    }
+    synchronized (idleConnections) {
+      if (!closed && idleConnections.size() < maxIdleConnections) {
+        idleConnections.addFirst(new IdleConnection(connection, initialSettings));
+        return;
+      }
+    }
+    connection.close();
+  }
+
+  /**
+   * Returns a connection whose the closing releases the connection in parameter in this source.
+   *
+   * @param connection      The connection.
+   * @param initialSettings The settings of the connection at its creation.
+   * @return The connection to give.
+   */
+  private Connection getPooledConnection(final Connection connection, final InitialSettings initialSettings) {
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+                                               new InvocationHandler() {
+      /**
+       * Indicates if the connection is released.
+       */
+      private boolean released;
+
+      @Override
+      public synchronized Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if ("close".equals(name) && method.getParameterTypes().length == 0) {
+          if (!released) {
+            released = true;
+            release(connection, initialSettings);
+          }
+          return null;
+        }
+        if ("isClosed".equals(name) && method.getParameterTypes().length == 0 && released) {
+          return true;
+        }
+        if (released && method.getDeclaringClass() != Object.class) {
+          throw new SQLException("The connection is closed");
+        }
+        try {
+          return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+          throw e.getCause();
+        }
+      }
+    });
+  }
+
+  /**
+   * Closes a connection without throwing exception.
+   *
+   * @param connection The connection.
+   */
+  private static void closeQuietly(Connection connection) {
+    try {
+      connection.close();
+    } catch (SQLException e) {
+      // Nothing to do
+    }
+  }
+
+  /**
+   * Closes the source : the idle connections are closed, and the connections in use are closed when they are released.
+   * <p>
+   * The source can not be used after : getting a connection fails.
+   * </p>
+   */
+  @Override
+  public void close() {
+    synchronized (idleConnections) {
+      closed = true;
+    }
+    while (true) {
+      IdleConnection idleConnection;
+      synchronized (idleConnections) {
+        idleConnection = idleConnections.pollFirst();
+      }
+      if (idleConnection == null) {
+        return;
+      }
+      closeQuietly(idleConnection.connection);
+    }
+  }
+}
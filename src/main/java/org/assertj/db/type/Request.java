@@ -210,4 +210,64 @@ public class Request extends AbstractDbData<Request> {
       }
     }
   }
+
+  /**
+   * Specific implementation of the opening of the rows for a {@code Request}.
+   *
+   * @see AbstractDbData#openRows(Connection)
+   * @param connection {@link Connection} to the database provided by {@link AbstractDbData#browseRows(RowVisitor)}
+   *                   method or by a {@link RowCursor}.
+   * @return The {@link ResultSet} on the rows.
+   * @throws NullPointerException If the {@link #request} field is {@code null}.
+   * @throws SQLException SQL Exception.
+   */
+  @Override
+  ResultSet openRows(Connection connection) throws SQLException {
+    if (request == null) {
+      throw new NullPointerException("request can not be null");
+    }
+
+    PreparedStatement statement = connection.prepareStatement(request);
+    try {
+      applyFetchSize(statement);
+      for (int i = 0; i < parameters.length; i++) {
+        statement.setObject(i + 1, parameters[i]);
+      }
+      ResultSet resultSet = statement.executeQuery();
+      collectColumnsNameFromResultSet(resultSet);
+      return resultSet;
+    } catch (SQLException | RuntimeException e) {
+      statement.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Specific implementation of the counting for a {@code Request}.
+   * <p>
+   * The request is used as a derived table in a {@code SELECT COUNT(*)} request.
+   * </p>
+   *
+   * @see AbstractDbData#countImpl(Connection)
+   * @param connection {@link Connection} to the database provided by {@link AbstractDbData#getRowsCount()} method.
+   * @return The number of rows.
+   * @throws NullPointerException If the {@link #request} field is {@code null}.
+   * @throws SQLException SQL Exception.
+   */
+  @Override
+  int countImpl(Connection connection) throws SQLException {
+    if (request == null) {
+      throw new NullPointerException("request can not be null");
+    }
+
+    try (PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM (" + request + ") COUNTED")) {
+      for (int i = 0; i < parameters.length; i++) {
+        statement.setObject(i + 1, parameters[i]);
+      }
+      try (ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        return resultSet.getInt(1);
+      }
+    }
+  }
 }
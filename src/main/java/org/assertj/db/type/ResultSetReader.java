@@ -0,0 +1,268 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.type.lettercase.LetterCase;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reader of the values of the rows of a {@link ResultSet}.
+ * <p>
+ * The index of each column and the way to read it (depending of the JDBC type) are resolved once at the instantiation.
+ * After that, the values of each row are read by index.
+ * </p>
+ *
+ * @author Régis Pouiller
+ */
+class ResultSetReader {
+
+  /**
+   * Extractor of a value of a column from a {@link ResultSet}.
+   */
+  enum Extractor {
+
+    /**
+     * Extractor for {@link Types#DATE}.
+     */
+    DATE {
+      @Override
+      Object extract(ResultSet resultSet, int index) throws SQLException {
+        return resultSet.getDate(index);
+      }
+    },
+    /**
+     * Extractor for {@link Types#TIME}.
+     */
+    TIME {
+      @Override
+      Object extract(ResultSet resultSet, int index) throws SQLException {
+        return resultSet.getTime(index);
+      }
+    },
+    /**
+     * Extractor for {@link Types#TIMESTAMP}.
+     */
+    TIMESTAMP {
+      @Override
+      Object extract(ResultSet resultSet, int index) throws SQLException {
+        return resultSet.getTimestamp(index);
+      }
+    },
+    /**
+     * Extractor for {@link Types#BLOB}.
+     */
+    BYTES {
+      @Override
+      Object extract(ResultSet resultSet, int index) throws SQLException {
+        return resultSet.getBytes(index);
+      }
+    },
+    /**
+     * Extractor for {@link Types#CLOB}.
+     */
+    STRING {
+      @Override
+      Object extract(ResultSet resultSet, int index) throws SQLException {
+        return resultSet.getString(index);
+      }
+    },
+    /**
+     * Extractor for the signed {@link Types#BIGINT}.
+     */
+    LONG {
+      @Override
+      Object extract(ResultSet resultSet, int index) throws SQLException {
+        long value = resultSet.getLong(index);
+        if (resultSet.wasNull()) {
+          return null;
+        }
+        return value;
+      }
+    },
+    /**
+     * Extractor for {@link Types#DOUBLE} and {@link Types#FLOAT}.
+     */
+    DOUBLE {
+      @Override
+      Object extract(ResultSet resultSet, int index) throws SQLException {
+        double value = resultSet.getDouble(index);
+        if (resultSet.wasNull()) {
+          return null;
+        }
+        return value;
+      }
+    },
+    /**
+     * Extractor for {@link Types#BOOLEAN}.
+     */
+    BOOLEAN {
+      @Override
+      Object extract(ResultSet resultSet, int index) throws SQLException {
+        boolean value = resultSet.getBoolean(index);
+        if (resultSet.wasNull()) {
+          return null;
+        }
+        return value;
+      }
+    },
+    /**
+     * Extractor for the other types.
+     */
+    OBJECT {
+      @Override
+      Object extract(ResultSet resultSet, int index) throws SQLException {
+        return resultSet.getObject(index);
+      }
+    };
+
+    /**
+     * Extracts the value of the column at the index in parameter for the current row.
+     *
+     * @param resultSet The {@link ResultSet}.
+     * @param index     The index of the column (starting at 1).
+     * @return The value.
+     * @throws SQLException A SQL Exception.
+     */
+    abstract Object extract(ResultSet resultSet, int index) throws SQLException;
+
+    /**
+     * Returns the extractor corresponding to the JDBC type.
+     * <p>
+     * The types whose the Java type depends of the driver (like {@code INTEGER}, {@code DECIMAL} or {@code VARCHAR})
+     * are read with {@link ResultSet#getObject(int)} to keep the value returned by the driver. It is the same for an
+     * unsigned {@code BIGINT} (like {@code BIGINT UNSIGNED} of MySQL) : its values greater than
+     * {@link Long#MAX_VALUE} can not be read with {@link ResultSet#getLong(int)}.
+     * </p>
+     *
+     * @param type   The JDBC type (from {@link Types}).
+     * @param signed {@code true} if the values of the column are signed numbers (see
+     *               {@link ResultSetMetaData#isSigned(int)}).
+     * @return The extractor.
+     */
+    static Extractor of(int type, boolean signed) {
+      switch (type) {
+        case Types.DATE:
+          return DATE;
+        case Types.TIME:
+          return TIME;
+        case Types.TIMESTAMP:
+          return TIMESTAMP;
+        case Types.BLOB:
+          return BYTES;
+        case Types.CLOB:
+          return STRING;
+        case Types.BIGINT:
+          return signed ? LONG : OBJECT;
+        case Types.DOUBLE:
+        case Types.FLOAT:
+          return DOUBLE;
+        case Types.BOOLEAN:
+          return BOOLEAN;
+
+        default:
+          return OBJECT;
+      }
+    }
+  }
+
+  /**
+   * The {@link ResultSet} to read.
+   */
+  private final ResultSet resultSet;
+  /**
+   * The list of the columns name.
+   */
+  private final List<String> columnsNameList;
+  /**
+   * The index in the {@link ResultSet} of each column.
+   */
+  private final int[] indexes;
+  /**
+   * The extractor of each column.
+   */
+  private final Extractor[] extractors;
+  /**
+   * Letter case of the columns.
+   */
+  private final LetterCase columnLetterCase;
+
+  /**
+   * Constructor.
+   *
+   * @param resultSet        The {@link ResultSet} to read.
+   * @param columnsNameList  The list of the columns name to read.
+   * @param columnLetterCase The letter case of the columns.
+   * @throws SQLException A SQL Exception.
+   */
+  ResultSetReader(ResultSet resultSet, List<String> columnsNameList, LetterCase columnLetterCase) throws SQLException {
+    this.resultSet = resultSet;
+    this.columnsNameList = columnsNameList;
+    this.columnLetterCase = columnLetterCase;
+
+    ResultSetMetaData metaData = resultSet.getMetaData();
+    int columnCount = metaData.getColumnCount();
+    String[] labels = new String[columnCount];
+    for (int i = 1; i <= columnCount; i++) {
+      labels[i - 1] = metaData.getColumnLabel(i);
+    }
+
+    indexes = new int[columnsNameList.size()];
+    extractors = new Extractor[columnsNameList.size()];
+    int columnIndex = 0;
+    for (String columnName : columnsNameList) {
+      int index = -1;
+      for (int i = 1; i <= columnCount; i++) {
+        if (columnLetterCase.isEqual(columnName, labels[i - 1])) {
+          index = i;
+          break;
+        }
+      }
+      indexes[columnIndex] = index;
+      extractors[columnIndex] = Extractor.of(metaData.getColumnType(index), metaData.isSigned(index));
+      columnIndex++;
+    }
+  }
+
+  /**
+   * Reads the values of the current row of the {@link ResultSet}.
+   *
+   * @return The values of the current row.
+   * @throws SQLException A SQL Exception.
+   */
+  List<Value> readValues() throws SQLException {
+    List<Value> valuesList = new ArrayList<>(indexes.length);
+    for (int columnIndex = 0; columnIndex < indexes.length; columnIndex++) {
+      Object object = readObject(columnIndex);
+      valuesList.add(new Value(columnsNameList.get(columnIndex), object, columnLetterCase));
+    }
+    return valuesList;
+  }
+
+  /**
+   * Reads the object of a column of the current row of the {@link ResultSet}.
+   *
+   * @param columnIndex The index of the column in the list of the columns name.
+   * @return The object read.
+   * @throws SQLException A SQL Exception.
+   * @since 1.3.0
+   */
+  Object readObject(int columnIndex) throws SQLException {
+    return extractors[columnIndex].extract(resultSet, indexes[columnIndex]);
+  }
+}
@@ -15,7 +15,6 @@ package org.assertj.db.type;
 import org.assertj.db.type.lettercase.LetterCase;
 import org.assertj.db.type.lettercase.WithColumnLetterCase;
 import org.assertj.db.type.lettercase.WithPrimaryKeyLetterCase;
-import org.assertj.db.util.NameComparator;
 import org.assertj.db.util.Values;
 
 import java.util.ArrayList;
@@ -38,27 +37,25 @@ import java.util.List;
 public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLetterCase {
 
   /**
-   * List of the primary key names.
+   * The schema of the row (shared by the rows of a loading).
+   * @since 1.3.0
    */
-  private List<String> pksNameList;
-  /**
-   * The list of columns name.
-   */
-  private final List<String> columnsNameList;
+  private RowSchema schema;
   /**
    * The list of value.
    */
   private final List<Value> valuesList;
   /**
-   * Letter case of the columns.
-   * @since 1.1.0
+   * The fingerprint of the values (only meaningful when {@link #fingerprintComputed} is {@code true}).
+   * @since 1.3.0
    */
-  private final LetterCase columnLetterCase;
+  private long fingerprint;
   /**
-   * Letter case of the primary keys.
-   * @since 1.1.0
+   * Indicates if the fingerprint is computed (written after {@link #fingerprint}, so a thread which reads {@code true}
+   * also reads the fingerprint).
+   * @since 1.3.0
    */
-  private final LetterCase primaryKeyLetterCase;
+  private volatile boolean fingerprintComputed;
 
   /**
    * Constructor of the row with visibility in the package.
@@ -72,11 +69,19 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
   Row(List<String> pksNameList, List<String> columnsNameList, List<Value> valuesList,
       LetterCase columnLetterCase, LetterCase primaryKeyLetterCase) {
 
-    this.pksNameList = pksNameList;
-    this.columnsNameList = columnsNameList;
+    this(new RowSchema(pksNameList, columnsNameList, columnLetterCase, primaryKeyLetterCase), valuesList);
+  }
+
+  /**
+   * Constructor of the row with a schema shared by the rows of a loading, with visibility in the package.
+   *
+   * @param schema The schema of the row.
+   * @param valuesList The values in the row.
+   * @since 1.3.0
+   */
+  Row(RowSchema schema, List<Value> valuesList) {
+    this.schema = schema;
     this.valuesList = valuesList;
-    this.columnLetterCase = columnLetterCase;
-    this.primaryKeyLetterCase = primaryKeyLetterCase;
   }
 
   /**
@@ -84,7 +89,7 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    */
   @Override
   public LetterCase getColumnLetterCase() {
-    return columnLetterCase;
+    return schema.getColumnLetterCase();
   }
 
   /**
@@ -92,7 +97,7 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    */
   @Override
   public LetterCase getPrimaryKeyLetterCase() {
-    return primaryKeyLetterCase;
+    return schema.getPrimaryKeyLetterCase();
   }
 
   /**
@@ -101,7 +106,7 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    * @return The list of the primary keys name.
    */
   public List<String> getPksNameList() {
-    return pksNameList;
+    return schema.getPksNameList();
   }
 
   /**
@@ -110,24 +115,58 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    * @return The list of the primary keys value.
    */
   public List<Value> getPksValueList() {
-    List<Value> pksValueList = new ArrayList<>();
-    if (pksNameList != null) {
-      for (String name : pksNameList) {
-        int index = NameComparator.INSTANCE.indexOf(columnsNameList, name, primaryKeyLetterCase);
-        Value value = valuesList.get(index);
-        pksValueList.add(value);
-      }
+    int pksCount = schema.getPksCount();
+    List<Value> pksValueList = new ArrayList<>(pksCount);
+    for (int index = 0; index < pksCount; index++) {
+      pksValueList.add(getPkValue(index));
     }
     return pksValueList;
   }
 
   /**
-   * Sets the list of the primary keys name.
+   * Returns the number of primary keys.
    *
-   * @param pksNameList The list of the primary keys name.
+   * @return The number of primary keys.
+   * @since 1.3.0
+   */
+  public int getPksCount() {
+    return schema.getPksCount();
+  }
+
+  /**
+   * Returns the value of a primary key (without allocation : the index of the primary key in the columns is computed
+   * once for all the rows of the loading).
+   *
+   * @param index The index of the primary key (in the list of the primary keys name).
+   * @return The value of the primary key.
+   * @throws IndexOutOfBoundsException If the index is out of the bounds of the primary keys.
+   * @since 1.3.0
    */
-  void setPksNameList(List<String> pksNameList) {
-    this.pksNameList = pksNameList;
+  public Value getPkValue(int index) {
+    if (index < 0 || index >= schema.getPksCount()) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + schema.getPksCount());
+    }
+    return valuesList.get(schema.getPkIndex(index));
+  }
+
+  /**
+   * Returns the schema of the row.
+   *
+   * @return The schema of the row.
+   * @since 1.3.0
+   */
+  RowSchema getSchema() {
+    return schema;
+  }
+
+  /**
+   * Sets the schema of the row (when the primary keys name are changed).
+   *
+   * @param schema The schema of the row.
+   * @since 1.3.0
+   */
+  void setSchema(RowSchema schema) {
+    this.schema = schema;
   }
 
   /**
@@ -136,7 +175,7 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    * @return The list of the columns name.
    */
   public List<String> getColumnsNameList() {
-    return columnsNameList;
+    return schema.getColumnsNameList();
   }
 
   /**
@@ -154,15 +193,11 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    * @return The primary keys value.
    */
   public Value[] getPksValues() {
-    List<Value> pksValuesList = new ArrayList<>();
-    if (pksNameList != null) {
-      for (String pkName : pksNameList) {
-        int index = NameComparator.INSTANCE.indexOf(columnsNameList, pkName, primaryKeyLetterCase);
-        Value value = valuesList.get(index);
-        pksValuesList.add(value);
-      }
+    Value[] pksValues = new Value[schema.getPksCount()];
+    for (int index = 0; index < pksValues.length; index++) {
+      pksValues[index] = getPkValue(index);
     }
-    return pksValuesList.toArray(new Value[pksValuesList.size()]);
+    return pksValues;
   }
 
   /**
@@ -172,10 +207,10 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    * @return If the values of the primary keys are equal.
    */
   public boolean hasPksValuesEqualTo(Value[] pksValues) {
-    Value[] pksValues1 = getPksValues();
-    if (pksValues1.length != 0 && pksValues1.length == pksValues.length) {
-      for (int index = 0; index < pksValues1.length; index++) {
-        if (!Values.areEqual(pksValues1[index], pksValues[index].getValue())) {
+    int pksCount = schema.getPksCount();
+    if (pksCount != 0 && pksCount == pksValues.length) {
+      for (int index = 0; index < pksCount; index++) {
+        if (!Values.areEqual(getPkValue(index), pksValues[index].getValue())) {
           return false;
         }
       }
@@ -204,6 +239,30 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
     return true;
   }
 
+  /**
+   * Returns the fingerprint of the row : a 64 bits hash of the values (in the order of the columns) which is
+   * consistent with {@link #hasValues(Row)}.
+   * <p>
+   * Two rows with equal values (compared with {@link Values#areEqual(Value, Object)}) have the same fingerprint, even
+   * if the classes of the values are different (like an {@code Integer 1} and a {@code BigDecimal 1.0}). The
+   * fingerprint is stable (see {@link Values#getFingerprint(Value)}) : it can be kept to compare the rows of two
+   * snapshots, to index or to deduplicate the rows. As two different rows can have the same fingerprint, the values
+   * of the rows with the same fingerprint must be compared to be sure that they are equal.
+   * </p>
+   *
+   * @return The fingerprint.
+   * @since 1.3.0
+   */
+  public long fingerprint() {
+    if (fingerprintComputed) {
+      return fingerprint;
+    }
+    long result = Values.getFingerprint(getValuesList());
+    fingerprint = result;
+    fingerprintComputed = true;
+    return result;
+  }
+
   /**
    * Returns the value corresponding to the column index.
    * 
@@ -226,7 +285,7 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
       throw new NullPointerException("Column name must be not null");
     }
 
-    int index = NameComparator.INSTANCE.indexOf(columnsNameList, columnName, columnLetterCase);
+    int index = schema.getColumnIndex(columnName);
     if (index == -1) {
       return null;
     }
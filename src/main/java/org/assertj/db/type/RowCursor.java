@@ -0,0 +1,175 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Cursor on the rows of a {@link Table} or a {@link Request} : the rows are read from the database one by one when the
+ * cursor is iterated, without keeping them.
+ * <p>
+ * The cursor keeps a connection, a statement and a result set opened : it must be closed (it is closed automatically
+ * after the last row or if an exception is thrown).
+ * </p>
+ * <p>
+ * Note : you never instantiate directly this class. You will get an object of this class from a {@link Table} or a
+ * {@link Request} by using {@link AbstractDbData#openRowCursor()}.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.3.0
+ */
+public final class RowCursor implements Iterator<Row>, AutoCloseable {
+
+  /**
+   * The data on which is the cursor.
+   */
+  private final AbstractDbData<?> data;
+  /**
+   * The connection.
+   */
+  private final Connection connection;
+  /**
+   * The result set on the rows.
+   */
+  private final ResultSet resultSet;
+  /**
+   * The reader of the values.
+   */
+  private final ResultSetReader reader;
+  /**
+   * The next row ({@code null} if it is not read).
+   */
+  private Row nextRow;
+  /**
+   * Indicates if the cursor is closed.
+   */
+  private boolean closed;
+
+  /**
+   * Constructor with visibility in the package.
+   *
+   * @param data The data on which is the cursor.
+   * @throws NullPointerException If the {@code dataSource} and {@code source} fields of the data are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the opening.
+   */
+  RowCursor(AbstractDbData<?> data) {
+    this.data = data;
+    try {
+      connection = data.getConnection();
+      try {
+        resultSet = data.openRows(connection);
+        try {
+          reader = new ResultSetReader(resultSet, data.getColumnsNameList(), data.getColumnLetterCase());
+        } catch (SQLException | RuntimeException e) {
+          resultSet.getStatement().close();
+          throw e;
+        }
+      } catch (SQLException | RuntimeException e) {
+        connection.close();
+        throw e;
+      }
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns if there is another row (the cursor is closed if there is not).
+   *
+   * @return {@code true} if there is another row, {@code false} otherwise.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the reading.
+   */
+  @Override
+  public boolean hasNext() {
+    if (nextRow == null && !closed) {
+      try {
+        if (resultSet.next()) {
+          nextRow = data.createRow(reader.readValues());
+        } else {
+          close();
+        }
+      } catch (SQLException e) {
+        closeQuietly();
+        throw new AssertJDBException(e);
+      }
+    }
+    return nextRow != null;
+  }
+
+  /**
+   * Returns the next row.
+   *
+   * @return The next row.
+   * @throws NoSuchElementException If there is no other row.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the reading.
+   */
+  @Override
+  public Row next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    Row row = nextRow;
+    nextRow = null;
+    return row;
+  }
+
+  /**
+   * Not supported : the rows can not be removed.
+   *
+   * @throws UnsupportedOperationException Always.
+   */
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException("The rows can not be removed");
+  }
+
+  /**
+   * Closes the cursor : the result set, the statement and the connection are closed.
+   *
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the closing.
+   */
+  @Override
+  public void close() {
+    if (!closed) {
+      closed = true;
+      nextRow = null;
+      try {
+        try {
+          resultSet.getStatement().close();
+        } finally {
+          connection.close();
+        }
+      } catch (SQLException e) {
+        throw new AssertJDBException(e);
+      }
+    }
+  }
+
+  /**
+   * Closes the cursor without throwing exception.
+   */
+  private void closeQuietly() {
+    try {
+      close();
+    } catch (AssertJDBException e) {
+      // The exception of the reading is thrown
+    }
+  }
+}
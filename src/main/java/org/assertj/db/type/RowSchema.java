@@ -0,0 +1,179 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.type.lettercase.LetterCase;
+import org.assertj.db.util.NameComparator;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Schema of the {@link Row}s of a loading : the columns name, the primary keys name and the letter cases.
+ * <p>
+ * The schema is shared by all the rows of a loading and is immutable : the indexes of the primary keys in the columns
+ * are computed once and the indexes of the columns found by name are kept (so the comparison with the letter case is
+ * done once for each name).
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.3.0
+ */
+final class RowSchema {
+
+  /**
+   * The list of the primary keys name (can be {@code null}).
+   */
+  private final List<String> pksNameList;
+  /**
+   * The list of the columns name.
+   */
+  private final List<String> columnsNameList;
+  /**
+   * Letter case of the columns.
+   */
+  private final LetterCase columnLetterCase;
+  /**
+   * Letter case of the primary keys.
+   */
+  private final LetterCase primaryKeyLetterCase;
+  /**
+   * The indexes of the primary keys in the columns ({@code -1} if a primary key is not a column).
+   */
+  private final int[] pksIndexes;
+  /**
+   * The indexes of the columns found by name (converted with the letter case of the columns).
+   * <p>
+   * Only the names of the columns which are found are kept : there is at most one entry by column.
+   * </p>
+   */
+  private final ConcurrentMap<String, Integer> columnsIndexesMap = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param pksNameList          The list of the primary keys name (can be {@code null}).
+   * @param columnsNameList      The list of the columns name.
+   * @param columnLetterCase     The letter case of the columns.
+   * @param primaryKeyLetterCase The letter case of the primary keys.
+   */
+  RowSchema(List<String> pksNameList, List<String> columnsNameList, LetterCase columnLetterCase,
+            LetterCase primaryKeyLetterCase) {
+
+    this.pksNameList = pksNameList;
+    this.columnsNameList = columnsNameList;
+    this.columnLetterCase = columnLetterCase;
+    this.primaryKeyLetterCase = primaryKeyLetterCase;
+    if (pksNameList == null) {
+      pksIndexes = new int[0];
+    } else {
+      pksIndexes = new int[pksNameList.size()];
+      for (int index = 0; index < pksIndexes.length; index++) {
+        pksIndexes[index] = NameComparator.INSTANCE.indexOf(columnsNameList, pksNameList.get(index),
+                                                            primaryKeyLetterCase);
+      }
+    }
+  }
+
+  /**
+   * Returns if this schema is the one of the parameters.
+   *
+   * @param pksNameList          The list of the primary keys name (can be {@code null}).
+   * @param columnsNameList      The list of the columns name.
+   * @param columnLetterCase     The letter case of the columns.
+   * @param primaryKeyLetterCase The letter case of the primary keys.
+   * @return {@code true} if the parameters are the ones of this schema, {@code false} otherwise.
+   */
+  boolean isSchemaOf(List<String> pksNameList, List<String> columnsNameList, LetterCase columnLetterCase,
+                     LetterCase primaryKeyLetterCase) {
+
+    return this.pksNameList == pksNameList && this.columnsNameList == columnsNameList
+           && this.columnLetterCase == columnLetterCase && this.primaryKeyLetterCase == primaryKeyLetterCase;
+  }
+
+  /**
+   * Returns the list of the primary keys name.
+   *
+   * @return The list of the primary keys name (can be {@code null}).
+   */
+  List<String> getPksNameList() {
+    return pksNameList;
+  }
+
+  /**
+   * Returns the list of the columns name.
+   *
+   * @return The list of the columns name.
+   */
+  List<String> getColumnsNameList() {
+    return columnsNameList;
+  }
+
+  /**
+   * Returns the letter case of the columns.
+   *
+   * @return The letter case of the columns.
+   */
+  LetterCase getColumnLetterCase() {
+    return columnLetterCase;
+  }
+
+  /**
+   * Returns the letter case of the primary keys.
+   *
+   * @return The letter case of the primary keys.
+   */
+  LetterCase getPrimaryKeyLetterCase() {
+    return primaryKeyLetterCase;
+  }
+
+  /**
+   * Returns the number of primary keys.
+   *
+   * @return The number of primary keys.
+   */
+  int getPksCount() {
+    return pksIndexes.length;
+  }
+
+  /**
+   * Returns the index in the columns of a primary key.
+   *
+   * @param index The index of the primary key.
+   * @return The index in the columns ({@code -1} if the primary key is not a column).
+   */
+  int getPkIndex(int index) {
+    return pksIndexes[index];
+  }
+
+  /**
+   * Returns the index of the column with the name (compared with the letter case of the columns).
+   *
+   * @param columnName The name of the column.
+   * @return The index of the column or {@code -1} if there is no column with the name.
+   */
+  int getColumnIndex(String columnName) {
+    String convertedColumnName = columnLetterCase.convert(columnName);
+    Integer index = columnsIndexesMap.get(convertedColumnName);
+    // The comparison does not convert the names : the column found with the converted name must be checked
+    if (index != null && columnLetterCase.isEqual(columnsNameList.get(index), columnName)) {
+      return index;
+    }
+    int indexOf = NameComparator.INSTANCE.indexOf(columnsNameList, columnName, columnLetterCase);
+    if (indexOf != -1) {
+      columnsIndexesMap.put(convertedColumnName, indexOf);
+    }
+    return indexOf;
+  }
+}
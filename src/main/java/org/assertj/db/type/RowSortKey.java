@@ -0,0 +1,142 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.util.RowComparator;
+
+import java.util.List;
+
+/**
+ * Sort key of a {@link Row} : the objects compared by {@link RowComparator} extracted once from the row instead of at
+ * each comparison.
+ * <p>
+ * The values of the primary keys are extracted at the instantiation. The other values are only extracted (all at the
+ * instantiation) for a row without primary key : the rows of a data with primary keys can not have the same primary
+ * keys, so the other values are only read (at the comparison, without being kept) in the rare case of equal primary
+ * keys. So sorting the rows does not read the values of the columns which are not primary keys (which can be loaded
+ * when they are read, see {@link Table#setDeferredProjection(boolean)}).
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.3.0
+ */
+final class RowSortKey implements Comparable<RowSortKey> {
+
+  /**
+   * The row.
+   */
+  private final Row row;
+  /**
+   * The values of the primary keys.
+   */
+  private final Object[] pksObjects;
+  /**
+   * The number of values of the row.
+   */
+  private final int valuesCount;
+  /**
+   * All the values of the row if it has no primary key ({@code null} otherwise).
+   */
+  private final Object[] objects;
+
+  /**
+   * Constructor.
+   *
+   * @param row The row.
+   */
+  RowSortKey(Row row) {
+    this.row = row;
+    int pksCount = row.getPksCount();
+    pksObjects = new Object[pksCount];
+    for (int index = 0; index < pksCount; index++) {
+      pksObjects[index] = row.getPkValue(index).getValue();
+    }
+    List<Value> valuesList = row.getValuesList();
+    valuesCount = valuesList.size();
+    if (pksCount == 0) {
+      objects = getObjects(valuesList);
+    } else {
+      objects = null;
+    }
+  }
+
+  /**
+   * Returns the objects of the values.
+   *
+   * @param valuesList The list of the values.
+   * @return The objects.
+   */
+  private static Object[] getObjects(List<Value> valuesList) {
+    Object[] objects = new Object[valuesList.size()];
+    int index = 0;
+    for (Value value : valuesList) {
+      objects[index++] = value.getValue();
+    }
+    return objects;
+  }
+
+  /**
+   * Returns the row.
+   *
+   * @return The row.
+   */
+  Row getRow() {
+    return row;
+  }
+
+  /**
+   * Compares this key to another key, in the order of {@link RowComparator#compare(Row, Row)}.
+   * <p>
+   * When the rows have the same number of primary keys and the same number of values (like the rows of a data),
+   * comparing the primary keys then (if they are equal) the values gives the same result as the comparator.
+   * Otherwise, the rows are compared with the comparator.
+   * </p>
+   *
+   * @param other The other key.
+   * @return The result.
+   */
+  @Override
+  public int compareTo(RowSortKey other) {
+    if (pksObjects.length != other.pksObjects.length || valuesCount != other.valuesCount) {
+      return RowComparator.INSTANCE.compare(row, other.row);
+    }
+    int compare = compareObjects(pksObjects, other.pksObjects);
+    if (compare != 0) {
+      return compare;
+    }
+    Object[] thisObjects = objects;
+    Object[] otherObjects = other.objects;
+    if (thisObjects == null) {
+      thisObjects = getObjects(row.getValuesList());
+      otherObjects = getObjects(other.row.getValuesList());
+    }
+    return compareObjects(thisObjects, otherObjects);
+  }
+
+  /**
+   * Compares two arrays of objects of the same length, object by object.
+   *
+   * @param objects1 The first objects.
+   * @param objects2 The second objects.
+   * @return The result.
+   */
+  private static int compareObjects(Object[] objects1, Object[] objects2) {
+    for (int index = 0; index < objects1.length; index++) {
+      int compare = RowComparator.compareObjects(objects1[index], objects2[index]);
+      if (compare != 0) {
+        return compare;
+      }
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,174 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.util.RowComparator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Sorting of the rows in the order of {@link RowComparator}.
+ * <p>
+ * The objects compared (the values of the primary keys, or all the values for a row without primary key) are
+ * extracted once for each row instead of at each comparison (see {@link RowSortKey}), and the rows are sorted with
+ * their keys. The sort is stable : the order is exactly the one of
+ * {@code Collections.sort(rowsList, RowComparator.INSTANCE)}.
+ * </p>
+ * <p>
+ * With a parallelism greater than 1 and enough rows, the rows are sorted by chunks at the same time (with
+ * {@link ParallelTasks}) and the sorted chunks are merged two by two (also at the same time).
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.3.0
+ */
+final class RowSorter {
+
+  /**
+   * The minimum number of rows of a chunk sorted in parallel.
+   */
+  static final int MIN_CHUNK_SIZE = 8192;
+
+  /**
+   * Comparator of the sort keys of the rows, in the order of {@link RowComparator}.
+   */
+  private static final Comparator<RowSortKey> KEY_COMPARATOR = new Comparator<RowSortKey>() {
+    @Override
+    public int compare(RowSortKey key1, RowSortKey key2) {
+      return key1.compareTo(key2);
+    }
+  };
+
+  /**
+   * Private constructor.
+   */
+  private RowSorter() {
+    // Empty
+  }
+
+  /**
+   * Sorts the rows.
+   *
+   * @param rowsList    The rows to sort.
+   * @param parallelism The maximum number of chunks sorted at the same time.
+   */
+  static void sort(List<Row> rowsList, int parallelism) {
+    int size = rowsList.size();
+    if (size < 2) {
+      return;
+    }
+    RowSortKey[] keys = new RowSortKey[size];
+    int index = 0;
+    for (Row row : rowsList) {
+      keys[index++] = new RowSortKey(row);
+    }
+
+    int chunksCount = Math.min(parallelism, size / MIN_CHUNK_SIZE);
+    if (chunksCount <= 1) {
+      Arrays.sort(keys, KEY_COMPARATOR);
+    } else {
+      keys = sortInParallel(keys, chunksCount, parallelism);
+    }
+
+    ListIterator<Row> iterator = rowsList.listIterator();
+    for (RowSortKey key : keys) {
+      iterator.next();
+      iterator.set(key.getRow());
+    }
+  }
+
+  /**
+   * Sorts the keys by chunks at the same time, then merges the sorted chunks two by two.
+   * <p>
+   * The same executor is used to sort the chunks and for all the passes of merge.
+   * </p>
+   *
+   * @param keys        The keys.
+   * @param chunksCount The number of chunks.
+   * @param parallelism The maximum number of tasks executed at the same time.
+   * @return The sorted keys (can be another array).
+   */
+  private static RowSortKey[] sortInParallel(final RowSortKey[] keys, int chunksCount, int parallelism) {
+    final int[] bounds = new int[chunksCount + 1];
+    for (int chunk = 0; chunk <= chunksCount; chunk++) {
+      bounds[chunk] = (int) ((long) keys.length * chunk / chunksCount);
+    }
+    ExecutorService executorService = ParallelTasks.createExecutorService(chunksCount);
+    try {
+      ParallelTasks.execute(chunksCount, new ParallelTasks.Task<Void>() {
+        @Override
+        public Void execute(int chunk) {
+          Arrays.sort(keys, bounds[chunk], bounds[chunk + 1], KEY_COMPARATOR);
+          return null;
+        }
+      }, parallelism, executorService);
+
+      RowSortKey[] source = keys;
+      RowSortKey[] target = new RowSortKey[keys.length];
+      for (int width = 1; width < chunksCount; width *= 2) {
+        final RowSortKey[] from = source;
+        final RowSortKey[] to = target;
+        final int step = width;
+        final int count = bounds.length - 1;
+        ParallelTasks.execute((count + 2 * step - 1) / (2 * step), new ParallelTasks.Task<Void>() {
+          @Override
+          public Void execute(int pair) {
+            int start = pair * 2 * step;
+            int middle = bounds[Math.min(start + step, count)];
+            int end = bounds[Math.min(start + 2 * step, count)];
+            merge(from, to, bounds[start], middle, end);
+            return null;
+          }
+        }, parallelism, executorService);
+        source = to;
+        target = from;
+      }
+      return source;
+    } finally {
+      ParallelTasks.shutdown(executorService);
+    }
+  }
+
+  /**
+   * Merges two sorted ranges (the keys of the first range are before the equal keys of the second range, so the merge
+   * is stable).
+   *
+   * @param from   The array containing the ranges.
+   * @param to     The array in which the merged keys are written.
+   * @param start  The start of the first range.
+   * @param middle The end of the first range and the start of the second range.
+   * @param end    The end of the second range.
+   */
+  private static void merge(RowSortKey[] from, RowSortKey[] to, int start, int middle, int end) {
+    int index1 = start;
+    int index2 = middle;
+    int index = start;
+    while (index1 < middle && index2 < end) {
+      if (KEY_COMPARATOR.compare(from[index1], from[index2]) <= 0) {
+        to[index++] = from[index1++];
+      } else {
+        to[index++] = from[index2++];
+      }
+    }
+    while (index1 < middle) {
+      to[index++] = from[index1++];
+    }
+    while (index2 < end) {
+      to[index++] = from[index2++];
+    }
+  }
+}
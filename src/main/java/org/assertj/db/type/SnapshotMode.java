@@ -0,0 +1,35 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+/**
+ * Enumeration of the different modes of reading of the tables at start point and at end point of {@link Changes}.
+ *
+ * @author Régis Pouiller
+ * @since 1.3.0
+ */
+public enum SnapshotMode {
+
+  /**
+   * Each table is read with its own connection, outside any transaction.
+   * <p>This is the default mode.</p>
+   */
+  CONNECTION_PER_TABLE,
+  /**
+   * All the tables are read with only one connection, in one read-only transaction : so the tables are read at the
+   * same point in time (depending of the transaction isolation) and only one connection is opened.
+   * <p>In this mode, the tables are read one after the other (the parallelism is ignored).</p>
+   * <p>This mode is ignored in {@link ComparisonMode#SERVER_SIDE} mode.</p>
+   */
+  SINGLE_TRANSACTION,
+}
@@ -0,0 +1,138 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+/**
+ * Read-only transaction on one connection, used to read all the data of a snapshot at the same point in time.
+ * <p>
+ * At the instantiation, a connection is got, set read-only, without auto-commit and with the transaction isolation in
+ * parameter (if the database supports it). At the closing, the transaction is rolled back, the connection is restored
+ * as it was and closed.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @see SnapshotMode#SINGLE_TRANSACTION
+ */
+class SnapshotTransaction implements AutoCloseable {
+
+  /**
+   * The connection.
+   */
+  private final Connection connection;
+  /**
+   * The connection which can be given to the elements (the call to {@link Connection#close()} does nothing).
+   */
+  private final Connection unclosableConnection;
+  /**
+   * The read-only status of the connection before the transaction.
+   */
+  private final boolean readOnly;
+  /**
+   * The auto-commit status of the connection before the transaction.
+   */
+  private final boolean autoCommit;
+  /**
+   * The transaction isolation of the connection before the transaction.
+   */
+  private final int transactionIsolation;
+
+  /**
+   * Constructor.
+   *
+   * @param element              The element used to get the connection.
+   * @param transactionIsolation The transaction isolation (like {@link Connection#TRANSACTION_REPEATABLE_READ}).
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException}.
+   */
+  SnapshotTransaction(AbstractDbElement<?> element, int transactionIsolation) {
+    try {
+      connection = element.getConnection();
+      try {
+        readOnly = connection.isReadOnly();
+        autoCommit = connection.getAutoCommit();
+        this.transactionIsolation = connection.getTransactionIsolation();
+
+        DatabaseMetaData metaData = connection.getMetaData();
+        connection.setReadOnly(true);
+        connection.setAutoCommit(false);
+        if (metaData.supportsTransactionIsolationLevel(transactionIsolation)) {
+          connection.setTransactionIsolation(transactionIsolation);
+        }
+      } catch (SQLException e) {
+        connection.close();
+        throw e;
+      }
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+
+    unclosableConnection = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                                                               new Class<?>[] { Connection.class },
+                                                               new InvocationHandler() {
+      @Override
+      public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if ("close".equals(method.getName()) && method.getParameterTypes().length == 0) {
+          return null;
+        }
+        try {
+          return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+          throw e.getCause();
+        }
+      }
+    });
+  }
+
+  /**
+   * Returns the connection to give to the elements to read the data in the transaction.
+   * <p>
+   * The call to {@link Connection#close()} on this connection does nothing : the connection is closed by
+   * {@link #close()}.
+   * </p>
+   *
+   * @return The connection.
+   */
+  Connection getConnection() {
+    return unclosableConnection;
+  }
+
+  /**
+   * Ends the transaction, restores the connection and closes it.
+   *
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException}.
+   */
+  @Override
+  public void close() {
+    try {
+      try {
+        connection.rollback();
+        connection.setAutoCommit(autoCommit);
+        connection.setTransactionIsolation(transactionIsolation);
+        connection.setReadOnly(readOnly);
+      } finally {
+        connection.close();
+      }
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+}
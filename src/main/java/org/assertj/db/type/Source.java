@@ -12,6 +12,10 @@
  */
 package org.assertj.db.type;
 
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
 /**
  * A source to indicates the informations to connect to the database. It contains the url, user and password to the
  * database. A source is used by a {@link Table} or a {@link Request}.
@@ -78,4 +82,15 @@ public class Source {
   public String getPassword() {
     return password;
   }
+
+  /**
+   * Returns a {@link Connection} to the database.
+   *
+   * @return A {@link Connection} to the database.
+   * @throws SQLException SQL Exception
+   * @since 1.3.0
+   */
+  Connection getConnection() throws SQLException {
+    return DriverManager.getConnection(url, user, password);
+  }
 }
@@ -0,0 +1,39 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+/**
+ * Enumeration of the different modes of storage of the rows of an {@link AbstractDbData} ({@link Table} or
+ * {@link Request}) in memory.
+ *
+ * @author Régis Pouiller
+ * @since 1.3.0
+ */
+public enum StorageMode {
+
+  /**
+   * Each row keeps the list of its {@link Value}s.
+   * <p>This is the default mode.</p>
+   */
+  ROWS,
+  /**
+   * The values are kept by column : in arrays of primitives with a bitmap of the {@code null} values for the columns
+   * of {@code Long}, {@code Integer} and {@code Double}, with a dictionary for the columns of {@code String} and in an
+   * array of objects for the others.
+   * <p>
+   * The {@link Row}s and their {@link Value}s are views on these arrays : the {@link Value}s are instantiated when they
+   * are accessed. This mode uses less memory for large data but the access to the values is slower.
+   * </p>
+   */
+  COLUMNAR,
+}
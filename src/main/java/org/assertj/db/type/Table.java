@@ -15,12 +15,19 @@ package org.assertj.db.type;
 import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.type.lettercase.LetterCase;
 import org.assertj.db.util.NameComparator;
+import org.assertj.db.util.ValuesKey;
 
 import javax.sql.DataSource;
 import java.sql.*;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
 
 /**
  * A table in the database to read to get the values.
@@ -101,6 +108,34 @@ public class Table extends AbstractDbData<Table> {
    * @since 1.2.0
    */
   private Character endDelimiter = null;
+  /**
+   * Indicates if the loading of the columns is deferred.
+   * @since 1.3.0
+   */
+  private boolean deferredProjection;
+  /**
+   * The columns (indexes) requested before the loading of the rows in deferred projection.
+   * @since 1.3.0
+   */
+  private final BitSet requestedColumns = new BitSet();
+  /**
+   * The columns (indexes) loaded in the rows in deferred projection ({@code null} if the rows are not loaded with a
+   * deferred projection).
+   * @since 1.3.0
+   */
+  private BitSet loadedColumns;
+  /**
+   * Indicates if the rows are read from the database in the order of the primary keys (when there is no column to
+   * order).
+   * @since 1.3.0
+   */
+  private boolean orderedByPrimaryKey;
+  /**
+   * The primary keys used in {@code ORDER BY} during the loading ({@code null} if the rows are not read in the order of
+   * the primary keys).
+   * @since 1.3.0
+   */
+  private List<String> pksNameToOrder;
 
   /**
    * Indicates an order with the name on which is the order and the type.
@@ -483,30 +518,18 @@ public class Table extends AbstractDbData<Table> {
 
   /**
    * Set the name from the corresponding name in the database.
+   * <p>
+   * When the {@link MetaDataCache} is enabled, a connection is only got if the metadata are not in the cache.
+   * </p>
    */
   private void setNameFromDb() {
     if (name != null && (getSource() != null || getDataSource() != null)) {
-      try (Connection connection = getConnection()) {
-        LetterCase tableLetterCase = getTableLetterCase();
-        LetterCase columnLetterCase = getColumnLetterCase();
-
-        DatabaseMetaData metaData = connection.getMetaData();
-        try (ResultSet tableResultSet = metaData.getTables(getCatalog(connection), getSchema(connection), null,
-                                                 new String[] { "TABLE" })) {
-          while (tableResultSet.next()) {
-            String tableName = tableResultSet.getString("TABLE_NAME");
-            if (tableLetterCase.isEqual(tableName, name)) {
-              name = tableLetterCase.convert(tableName);
-              break;
-            }
-          }
-        }
-
-        columnsList = new ArrayList<>();
-        try (ResultSet columnsResultSet = metaData.getColumns(getCatalog(connection), getSchema(connection), name, null)) {
-          while (columnsResultSet.next()) {
-            String column = columnsResultSet.getString("COLUMN_NAME");
-            columnsList.add(columnLetterCase.convert(column));
+      try {
+        if (MetaDataCache.isEnabled()) {
+          setNameFromDb(null);
+        } else {
+          try (Connection connection = getConnection()) {
+            setNameFromDb(connection);
           }
         }
       } catch (SQLException e) {
@@ -515,6 +538,29 @@ public class Table extends AbstractDbData<Table> {
     }
   }
 
+  /**
+   * Set the name from the corresponding name in the database.
+   *
+   * @param connection The {@code Connection} to the database (or {@code null} to get a connection if needed).
+   * @throws SQLException SQL Exception.
+   */
+  private void setNameFromDb(Connection connection) throws SQLException {
+    LetterCase tableLetterCase = getTableLetterCase();
+    LetterCase columnLetterCase = getColumnLetterCase();
+
+    for (String tableName : MetaDataCache.getTablesNameList(this, connection)) {
+      if (tableLetterCase.isEqual(tableName, name)) {
+        name = tableLetterCase.convert(tableName);
+        break;
+      }
+    }
+
+    columnsList = new ArrayList<>();
+    for (String column : MetaDataCache.getColumnsNameList(this, connection, name)) {
+      columnsList.add(columnLetterCase.convert(column));
+    }
+  }
+
   /**
    * Returns the columns to check (which are present in {@link AbstractDbData#getColumnsNameList()}).
    *
@@ -704,12 +750,75 @@ public class Table extends AbstractDbData<Table> {
     return this;
   }
 
+  /**
+   * Returns if the loading of the columns is deferred.
+   *
+   * @return {@code true} if the loading of the columns is deferred, {@code false} otherwise.
+   * @see #setDeferredProjection(boolean)
+   * @since 1.3.0
+   */
+  public boolean isDeferredProjection() {
+    return deferredProjection;
+  }
+
+  /**
+   * Sets if the loading of the columns is deferred (used at the next loading of the rows).
+   * <p>
+   * With a deferred projection, the loading of the rows only reads the primary keys and the columns whose the values
+   * are already requested (by {@link #getColumn(int)} for example) : the values of another column are read at the first
+   * access by a request on the primary keys and this column, and are merged into the rows.<br>
+   * The columns read later reflect the state of the database at the time of their first access and not at the time of
+   * the loading of the rows : the rows can mix values from different points in time. If a row is deleted in the
+   * meantime, the access to a column which is not read throws an {@link AssertJDBException}.<br>
+   * If the table has no primary key (in the columns to check), all the columns are loaded at the same time.
+   * </p>
+   *
+   * @param deferredProjection {@code true} to defer the loading of the columns, {@code false} otherwise.
+   * @return The actual instance.
+   * @see #isDeferredProjection()
+   * @since 1.3.0
+   */
+  public Table setDeferredProjection(boolean deferredProjection) {
+    this.deferredProjection = deferredProjection;
+    return this;
+  }
+
+  /**
+   * Returns if the rows are read from the database in the order of the primary keys.
+   *
+   * @return {@code true} if the rows are read in the order of the primary keys, {@code false} otherwise.
+   * @see #setOrderedByPrimaryKey(boolean)
+   * @since 1.3.0
+   */
+  public boolean isOrderedByPrimaryKey() {
+    return orderedByPrimaryKey;
+  }
+
+  /**
+   * Sets if the rows are read from the database in the order of the primary keys (used at the next loading of the
+   * rows, when there is no column to order).
+   * <p>
+   * The primary keys are read from the metadata before the request on the rows and are used in {@code ORDER BY}. The
+   * rows are still sorted after the loading (so the order of the rows is the same) but the sort of rows which are
+   * already nearly in order is much faster.
+   * </p>
+   *
+   * @param orderedByPrimaryKey {@code true} to read the rows in the order of the primary keys, {@code false} otherwise.
+   * @return The actual instance.
+   * @see #isOrderedByPrimaryKey()
+   * @since 1.3.0
+   */
+  public Table setOrderedByPrimaryKey(boolean orderedByPrimaryKey) {
+    this.orderedByPrimaryKey = orderedByPrimaryKey;
+    return this;
+  }
+
   /**
    * Encode the column name and table name.
    * @param name The column name or table name.
    * The encoded column name or table name.
    */
-  private String encode(String name) {
+  String encode(String name) {
     StringBuilder stringBuilder = new StringBuilder();
     if (startDelimiter != null) {
       stringBuilder.append(startDelimiter);
@@ -729,16 +838,29 @@ public class Table extends AbstractDbData<Table> {
    * @see AbstractDbData#getRequest()
    */
   public String getRequest() {
+    return getRequest(null, false, true);
+  }
+
+  /**
+   * Returns the SQL request.
+   *
+   * @param columns     The columns to read (or {@code null} to read the columns to check).
+   * @param withoutRows {@code true} to get a request which returns no row, {@code false} otherwise.
+   * @param ordered     {@code true} to order the rows with the columns to order, {@code false} otherwise.
+   * @return The SQL request.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   */
+  private String getRequest(List<String> columns, boolean withoutRows, boolean ordered) {
     if (name == null) {
       throw new NullPointerException("name can not be null");
     }
 
     // Get the request about the name of the table and the columns to check
     StringBuilder stringBuilder = new StringBuilder("SELECT ");
-    if (columnsToCheck == null) {
+    if (columns == null && columnsToCheck == null) {
       stringBuilder.append("*");
     } else {
-      for (String column : columnsToCheck) {
+      for (String column : columns == null ? Arrays.asList(columnsToCheck) : columns) {
         if (stringBuilder.length() > 7) {
           stringBuilder.append(", ");
         }
@@ -747,7 +869,10 @@ public class Table extends AbstractDbData<Table> {
     }
     stringBuilder.append(" FROM ");
     stringBuilder.append(encode(name));
-    if (columnsToOrder != null) {
+    if (withoutRows) {
+      stringBuilder.append(" WHERE 1 = 0");
+    }
+    else if (ordered && columnsToOrder != null) {
       for (int index = 0 ; index < columnsToOrder.length ; index++) {
         if (index == 0) {
           stringBuilder.append(" ORDER BY ");
@@ -761,6 +886,12 @@ public class Table extends AbstractDbData<Table> {
         }
       }
     }
+    else if (ordered && pksNameToOrder != null && !pksNameToOrder.isEmpty()) {
+      for (int index = 0 ; index < pksNameToOrder.size() ; index++) {
+        stringBuilder.append(index == 0 ? " ORDER BY " : ", ");
+        stringBuilder.append(encode(pksNameToOrder.get(index)));
+      }
+    }
     return stringBuilder.toString();
   }
 
@@ -805,34 +936,88 @@ public class Table extends AbstractDbData<Table> {
    * @throws SQLException SQL Exception.
    */
   private void collectPrimaryKeyName(Connection connection) throws SQLException {
-    String catalog = getCatalog(connection);
-    String schema = getSchema(connection);
+    setPksNameList(getPrimaryKeyName(connection, getColumnsNameList()));
+  }
+
+  /**
+   * Returns the primary key name from the {@code Connection} to the database.
+   * <p>
+   * This method use the {@link DatabaseMetaData} from the {@code Connection} parameter (or the {@link MetaDataCache})
+   * to list the primary keys of the table which are in the columns.
+   * </p>
+   *
+   * @param connection The {@code Connection} to the database (or {@code null} to get a connection if needed).
+   * @param columnsNameList The list of the columns name.
+   * @return The list of the primary keys name.
+   * @throws SQLException SQL Exception.
+   */
+  private List<String> getPrimaryKeyName(Connection connection, List<String> columnsNameList) throws SQLException {
     List<String> pksNameList = new ArrayList<>();
-    DatabaseMetaData metaData = connection.getMetaData();
 
     String tableName = name;
-    try (ResultSet resultSet = metaData.getTables(catalog, schema, null, new String[] { "TABLE" })) {
-      LetterCase letterCase = getTableLetterCase();
-      while (resultSet.next()) {
-        String tableResult = resultSet.getString("TABLE_NAME");
-        if (letterCase.isEqual(tableName, tableResult)) {
-          tableName = tableResult;
-          break;
-        }
+    LetterCase tableLetterCase = getTableLetterCase();
+    for (String tableResult : MetaDataCache.getTablesNameList(this, connection)) {
+      if (tableLetterCase.isEqual(tableName, tableResult)) {
+        tableName = tableResult;
+        break;
       }
     }
 
-    try (ResultSet resultSet = metaData.getPrimaryKeys(catalog, schema, tableName)) {
-      LetterCase letterCase = getPrimaryKeyLetterCase();
-      while (resultSet.next()) {
-        String columnName = resultSet.getString("COLUMN_NAME");
-        if (NameComparator.INSTANCE.contains(getColumnsNameList(), columnName, letterCase)) {
-          String pkName = letterCase.convert(columnName);
-          pksNameList.add(pkName);
-        }
+    LetterCase letterCase = getPrimaryKeyLetterCase();
+    for (String columnName : MetaDataCache.getPksNameList(this, connection, tableName)) {
+      if (NameComparator.INSTANCE.contains(columnsNameList, columnName, letterCase)) {
+        String pkName = letterCase.convert(columnName);
+        pksNameList.add(pkName);
       }
     }
-    setPksNameList(pksNameList);
+    return pksNameList;
+  }
+
+  /**
+   * Returns the columns name of the table which are in the columns to check and not in the columns to exclude, without
+   * loading the data.
+   *
+   * @return The list of the columns name.
+   */
+  List<String> getColumnsNameListFromMetaData() {
+    LetterCase letterCase = getColumnLetterCase();
+    List<String> columnsNameList = new ArrayList<>();
+    for (String column : columnsToCheck == null ? columnsList : Arrays.asList(columnsToCheck)) {
+      if (columnsToExclude == null
+          || !NameComparator.INSTANCE.contains(Arrays.asList(columnsToExclude), column, letterCase)) {
+
+        columnsNameList.add(column);
+      }
+    }
+    return columnsNameList;
+  }
+
+  /**
+   * Returns the primary key name from the database, without loading the data.
+   * <p>
+   * The primary keys are the ones which are in the columns to check and not in the columns to exclude.
+   * </p>
+   *
+   * @return The list of the primary keys name.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException}.
+   */
+  List<String> getPksNameListFromMetaData() {
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+
+    List<String> columnsNameList = getColumnsNameListFromMetaData();
+    try {
+      if (MetaDataCache.isEnabled()) {
+        return getPrimaryKeyName(null, columnsNameList);
+      }
+      try (Connection connection = getConnection()) {
+        return getPrimaryKeyName(connection, columnsNameList);
+      }
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
   }
 
   /**
@@ -849,15 +1034,274 @@ public class Table extends AbstractDbData<Table> {
       throw new NullPointerException("name can not be null");
     }
 
-    try (Statement statement = connection.createStatement()) {
-      try (ResultSet resultSet = statement.executeQuery(getRequest())) {
-        collectColumnsNameFromResultSet(resultSet);
-        collectRowsFromResultSet(resultSet);
+    loadedColumns = null;
+    if (orderedByPrimaryKey && columnsToOrder == null) {
+      pksNameToOrder = getPrimaryKeyName(connection, getColumnsNameListFromMetaData());
+    }
+    try {
+      if (deferredProjection && loadWithDeferredProjection(connection)) {
+        return;
+      }
+      try (Statement statement = connection.createStatement()) {
+        try (ResultSet resultSet = statement.executeQuery(getRequest())) {
+          collectColumnsNameFromResultSet(resultSet);
+          collectRowsFromResultSet(resultSet);
+        }
       }
+    } finally {
+      pksNameToOrder = null;
+    }
+    collectPrimaryKeyName(connection);
+    if (columnsToOrder == null) {
+      sortRows();
     }
+  }
+
+  /**
+   * Loads the rows with a deferred projection : only the primary keys and the requested columns are read.
+   *
+   * @param connection {@link Connection} to the database.
+   * @return {@code true} if the rows are loaded, {@code false} if the deferred projection is not possible (no primary
+   *         key or the request on the columns is not accepted by the database).
+   * @throws SQLException SQL Exception.
+   * @see #setDeferredProjection(boolean)
+   */
+  private boolean loadWithDeferredProjection(Connection connection) throws SQLException {
+    collectColumnsNameImpl(connection);
     collectPrimaryKeyName(connection);
+    List<String> columnsNameList = getColumnsNameList();
+    List<String> pksNameList = getPksNameList();
+    if (pksNameList.isEmpty()) {
+      return false;
+    }
+
+    BitSet loadedColumns = new BitSet();
+    for (String pkName : pksNameList) {
+      loadedColumns.set(NameComparator.INSTANCE.indexOf(columnsNameList, pkName, getPrimaryKeyLetterCase()));
+    }
+    loadedColumns.or(requestedColumns);
+    List<String> loadedColumnsNameList = new ArrayList<>();
+    for (int index = loadedColumns.nextSetBit(0); index >= 0; index = loadedColumns.nextSetBit(index + 1)) {
+      loadedColumnsNameList.add(columnsNameList.get(index));
+    }
+
+    List<Row> rowsList = new ArrayList<>();
+    try (Statement statement = connection.createStatement()) {
+      try (ResultSet resultSet = statement.executeQuery(getRequest(loadedColumnsNameList, false, true))) {
+        ResultSetReader reader = new ResultSetReader(resultSet, loadedColumnsNameList, getColumnLetterCase());
+        while (resultSet.next()) {
+          List<Value> valuesList = reader.readValues();
+          Value[] values = new Value[columnsNameList.size()];
+          int valueIndex = 0;
+          for (int index = loadedColumns.nextSetBit(0); index >= 0; index = loadedColumns.nextSetBit(index + 1)) {
+            values[index] = valuesList.get(valueIndex++);
+          }
+          rowsList.add(createRow(new DeferredValuesList(values)));
+        }
+      }
+    } catch (SQLException e) {
+      // The rows are loaded with all the columns
+      return false;
+    }
+    setRowsList(rowsList);
+    this.loadedColumns = loadedColumns;
     if (columnsToOrder == null) {
+      // Only the values of the primary keys are read to sort the rows (see RowSortKey) : no column is loaded
       sortRows();
     }
+    return true;
+  }
+
+  /**
+   * Loads the values of a column in the rows loaded with a deferred projection.
+   * <p>
+   * The values are read with a request on the primary keys and the column, and are merged into the rows with the
+   * values of the primary keys.
+   * </p>
+   *
+   * @param index The index of the column.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException}.
+   */
+  private synchronized void loadColumn(int index) {
+    if (loadedColumns.get(index)) {
+      return;
+    }
+
+    List<String> columnsNameList = getColumnsNameList();
+    List<String> pksNameList = getPksNameList();
+    Map<ValuesKey, Row> rowsMap = new HashMap<>();
+    for (Row row : getRowsList()) {
+      rowsMap.put(new ValuesKey(row.getPksValues()), row);
+    }
+
+    // The values are merged into the rows only if all the rows are found
+    Map<Row, Value> readValuesMap = new IdentityHashMap<>();
+    List<String> readColumnsNameList = new ArrayList<>(pksNameList);
+    readColumnsNameList.add(columnsNameList.get(index));
+    try (Connection connection = getConnection()) {
+      try (Statement statement = connection.createStatement()) {
+        try (ResultSet resultSet = statement.executeQuery(getRequest(readColumnsNameList, false, false))) {
+          ResultSetReader reader = new ResultSetReader(resultSet, readColumnsNameList, getColumnLetterCase());
+          int pksCount = pksNameList.size();
+          while (resultSet.next()) {
+            List<Value> valuesList = reader.readValues();
+            Row row = rowsMap.get(new ValuesKey(valuesList.subList(0, pksCount).toArray(new Value[pksCount])));
+            if (row != null) {
+              readValuesMap.put(row, valuesList.get(pksCount));
+            }
+          }
+        }
+      }
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+    for (Row row : rowsMap.values()) {
+      if (!readValuesMap.containsKey(row)) {
+        List<Object> pksValuesList = new ArrayList<>();
+        for (Value value : row.getPksValues()) {
+          pksValuesList.add(value.getValue());
+        }
+        throw new AssertJDBException("The row with primary keys %s of %s is deleted since the loading of the rows : "
+                                     + "the values of the column %s can not be read", pksValuesList, getName(),
+                                     columnsNameList.get(index));
+      }
+    }
+    for (Map.Entry<Row, Value> entry : readValuesMap.entrySet()) {
+      ((DeferredValuesList) entry.getKey().getValuesList()).values[index] = entry.getValue();
+    }
+    loadedColumns.set(index);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * With a deferred projection, the column is requested : it is read with the primary keys if the rows are not loaded.
+   * </p>
+   */
+  @Override
+  List<Value> getValuesList(int index) {
+    if (deferredProjection && !isRowsListLoaded()) {
+      requestedColumns.set(index);
+    }
+    return super.getValuesList(index);
+  }
+
+  /**
+   * Values of a row loaded with a deferred projection : the values of a column which is not loaded are loaded in all
+   * the rows at the first access.
+   */
+  private final class DeferredValuesList extends AbstractList<Value> implements RandomAccess {
+
+    /**
+     * The values ({@code null} if the column is not loaded).
+     */
+    private final Value[] values;
+
+    /**
+     * Constructor.
+     *
+     * @param values The values.
+     */
+    private DeferredValuesList(Value[] values) {
+      this.values = values;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Value get(int index) {
+      Value value = values[index];
+      if (value == null) {
+        loadColumn(index);
+        value = values[index];
+      }
+      return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+      return values.length;
+    }
+  }
+
+  /**
+   * Specific implementation of the opening of the rows for a {@code Table}.
+   * <p>
+   * The rows are browsed in the order of the database (they are not sorted).
+   * </p>
+   *
+   * @param connection {@link Connection} to the database provided by {@link AbstractDbData#browseRows(RowVisitor)}
+   *                   method or by a {@link RowCursor}.
+   * @return The {@link ResultSet} on the rows.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @throws SQLException         SQL Exception.
+   * @see AbstractDbData#openRows(Connection)
+   */
+  @Override
+  ResultSet openRows(Connection connection) throws SQLException {
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+
+    Statement statement = connection.createStatement();
+    try {
+      applyFetchSize(statement);
+      ResultSet resultSet = statement.executeQuery(getRequest());
+      collectColumnsNameFromResultSet(resultSet);
+      collectPrimaryKeyName(connection);
+      return resultSet;
+    } catch (SQLException | RuntimeException e) {
+      statement.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Specific implementation of the collecting of the columns name for a {@code Table}.
+   * <p>
+   * The columns name are collected from the {@link ResultSetMetaData} of the request of the table with a condition
+   * which is always false (so no row is read).
+   * </p>
+   *
+   * @param connection {@link Connection} to the database provided by
+   *                   {@link AbstractDbData#getColumnsNameListWithoutRows()} method.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @throws SQLException         SQL Exception.
+   * @see AbstractDbData#collectColumnsNameImpl(Connection)
+   */
+  @Override
+  void collectColumnsNameImpl(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      try (ResultSet resultSet = statement.executeQuery(getRequest(null, true, false))) {
+        collectColumnsNameFromResultSet(resultSet);
+      }
+    }
+  }
+
+  /**
+   * Specific implementation of the counting for a {@code Table}.
+   *
+   * @param connection {@link Connection} to the database provided by {@link AbstractDbData#getRowsCount()} method.
+   * @return The number of rows.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @throws SQLException         SQL Exception.
+   * @see AbstractDbData#countImpl(Connection)
+   */
+  @Override
+  int countImpl(Connection connection) throws SQLException {
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+
+    try (Statement statement = connection.createStatement()) {
+      try (ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + encode(name))) {
+        resultSet.next();
+        return resultSet.getInt(1);
+      }
+    }
   }
 }
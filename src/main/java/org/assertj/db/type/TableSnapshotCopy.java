@@ -0,0 +1,409 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.lettercase.LetterCase;
+import org.assertj.db.util.ValuesKey;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.db.type.Change.createCreationChange;
+import static org.assertj.db.type.Change.createDeletionChange;
+import static org.assertj.db.type.Change.createModificationChange;
+
+/**
+ * Snapshot of a {@link Table} with primary keys copied in a scratch table of the same database.
+ * <p>
+ * The rows are copied by the database ({@code CREATE TABLE ... AS SELECT ...}) : they are not transferred. The changes
+ * are computed with {@code EXCEPT} requests between the table at end point and the copy : only the rows which are
+ * different are transferred and they are matched in memory with the values of their primary keys.
+ * </p>
+ * <p>
+ * {@code EXCEPT} compares the values with the rules of the database and not with the rules of the library : a text
+ * compared with a case insensitive collation or with trailing spaces ignored would not be found as modified. So all the
+ * rows of the copy and of the table are read and compared in memory if the table has text columns, if the copy has not
+ * the same column types than the table or if the database can not compare the rows with {@code EXCEPT} (on large
+ * objects for example).
+ * </p>
+ * <p>
+ * The copy is created, compared and dropped with a connection got for each of these operations and closed after. A
+ * transaction which is not started here is never committed nor rolled back : if the connection is in auto-commit mode,
+ * the creation and the dropping are committed by the auto-commit and the requests of the comparison are executed in
+ * one read-only transaction (started and rolled back here, so the requests read the same state of the database). If
+ * the connection is in a transaction (like the transaction of the test given by a transaction-aware
+ * {@code DataSource}), the statements are executed in this transaction, which is left to its owner.
+ * </p>
+ * <p>
+ * The scratch tables which are not dropped are dropped at the shutdown of the JVM.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @see ComparisonMode#SERVER_SIDE
+ */
+class TableSnapshotCopy {
+
+  /**
+   * The prefix of the name of the scratch tables.
+   */
+  static final String NAME_PREFIX = "ASSERTJ_DB_COPY_";
+  /**
+   * The transaction isolation of the comparison (if the database supports it).
+   */
+  private static final int TRANSACTION_ISOLATION = Connection.TRANSACTION_REPEATABLE_READ;
+  /**
+   * The copies which are not dropped.
+   */
+  private static final Set<TableSnapshotCopy> COPIES_NOT_DROPPED = Collections.newSetFromMap(
+          new ConcurrentHashMap<TableSnapshotCopy, Boolean>());
+
+  static {
+    // The scratch tables must not stay in the database if the copies are not dropped
+    Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+      @Override
+      public void run() {
+        for (TableSnapshotCopy tableSnapshotCopy : COPIES_NOT_DROPPED) {
+          try {
+            tableSnapshotCopy.drop();
+          } catch (RuntimeException e) {
+            // The other copies are dropped
+          }
+        }
+      }
+    }, "assertj-db-copies-drop"));
+  }
+
+  /**
+   * The table at start point (which gives the connections, the delimiters and the letter cases).
+   */
+  private final Table table;
+  /**
+   * The list of the primary keys name.
+   */
+  private final List<String> pksNameList;
+  /**
+   * The list of the columns name.
+   */
+  private final List<String> columnsNameList;
+  /**
+   * The name of the scratch table.
+   */
+  private final String copyName;
+  /**
+   * Indicates if the rows are compared with {@code EXCEPT} (or all read and compared in memory otherwise).
+   */
+  private final boolean comparedWithExcept;
+  /**
+   * Indicates if the scratch table is dropped.
+   */
+  private final AtomicBoolean dropped = new AtomicBoolean();
+
+  /**
+   * Constructor : copies the rows of the table in a scratch table.
+   *
+   * @param table       The table.
+   * @param pksNameList The list of the primary keys name (not empty).
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the copy.
+   */
+  TableSnapshotCopy(Table table, List<String> pksNameList) {
+    this.table = table;
+    this.pksNameList = pksNameList;
+    columnsNameList = table.getColumnsNameListFromMetaData();
+    String suffix = UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+    copyName = NAME_PREFIX + suffix.toUpperCase(Locale.ENGLISH);
+
+    String select = getSelect(table.getName());
+    boolean created = false;
+    try (Connection connection = table.getConnection()) {
+      try (Statement statement = connection.createStatement()) {
+        try {
+          statement.executeUpdate("CREATE TABLE " + table.encode(copyName) + " AS " + select);
+        } catch (SQLException e) {
+          // Syntax of the SQL standard (for HSQLDB for example)
+          try {
+            statement.executeUpdate("CREATE TABLE " + table.encode(copyName) + " AS (" + select + ") WITH DATA");
+          } catch (SQLException standardException) {
+            e.addSuppressed(standardException);
+            throw e;
+          }
+        }
+      }
+      created = true;
+      COPIES_NOT_DROPPED.add(this);
+      comparedWithExcept = isComparableWithExcept(connection);
+    } catch (SQLException e) {
+      if (created) {
+        try {
+          drop();
+        } catch (AssertJDBException dropException) {
+          e.addSuppressed(dropException);
+        }
+      }
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns if the rows of the copy and of the table can be compared with {@code EXCEPT} : there is no text column
+   * (the comparison of the texts depends on the collation) and the columns of the copy have the same types than the
+   * columns of the table.
+   *
+   * @param connection The connection.
+   * @return {@code true} if the rows can be compared with {@code EXCEPT}, {@code false} otherwise.
+   * @throws SQLException SQL Exception.
+   */
+  private boolean isComparableWithExcept(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement();
+         Statement copyStatement = connection.createStatement()) {
+      try (ResultSet resultSet = statement.executeQuery(getSelect(table.getName()) + " WHERE 1 = 0");
+           ResultSet copyResultSet = copyStatement.executeQuery(getSelect(copyName) + " WHERE 1 = 0")) {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        ResultSetMetaData copyMetaData = copyResultSet.getMetaData();
+        for (int index = 1; index <= metaData.getColumnCount(); index++) {
+          int type = metaData.getColumnType(index);
+          if (isText(type)
+              || type != copyMetaData.getColumnType(index)
+              || metaData.getPrecision(index) != copyMetaData.getPrecision(index)
+              || metaData.getScale(index) != copyMetaData.getScale(index)) {
+
+            return false;
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns if a type of column is a type of text.
+   *
+   * @param type The type of column (from {@link Types}).
+   * @return {@code true} if it is a type of text, {@code false} otherwise.
+   */
+  private static boolean isText(int type) {
+    switch (type) {
+      case Types.CHAR:
+      case Types.VARCHAR:
+      case Types.LONGVARCHAR:
+      case Types.NCHAR:
+      case Types.NVARCHAR:
+      case Types.LONGNVARCHAR:
+      case Types.CLOB:
+      case Types.NCLOB:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Returns if the rows are compared with {@code EXCEPT} (or all read and compared in memory otherwise).
+   *
+   * @return {@code true} if the rows are compared with {@code EXCEPT}, {@code false} otherwise.
+   */
+  boolean isComparedWithExcept() {
+    return comparedWithExcept;
+  }
+
+  /**
+   * Returns the request which selects the columns in a table.
+   *
+   * @param tableName The name of the table.
+   * @return The request.
+   */
+  private String getSelect(String tableName) {
+    StringBuilder stringBuilder = new StringBuilder("SELECT ");
+    for (int index = 0; index < columnsNameList.size(); index++) {
+      if (index > 0) {
+        stringBuilder.append(", ");
+      }
+      stringBuilder.append(table.encode(columnsNameList.get(index)));
+    }
+    stringBuilder.append(" FROM ");
+    stringBuilder.append(table.encode(tableName));
+    return stringBuilder.toString();
+  }
+
+  /**
+   * Reads the rows returned by a request.
+   *
+   * @param connection The connection.
+   * @param request    The request.
+   * @param rowSchema  The schema of the rows.
+   * @return The rows.
+   * @throws SQLException SQL Exception.
+   */
+  private List<Row> readRows(Connection connection, String request, RowSchema rowSchema) throws SQLException {
+    List<Row> rowsList = new ArrayList<>();
+    try (Statement statement = connection.createStatement()) {
+      try (ResultSet resultSet = statement.executeQuery(request)) {
+        ResultSetReader reader = new ResultSetReader(resultSet, columnsNameList, rowSchema.getColumnLetterCase());
+        while (resultSet.next()) {
+          rowsList.add(new Row(rowSchema, reader.readValues()));
+        }
+      }
+    }
+    return rowsList;
+  }
+
+  /**
+   * Returns the list of changes between the copy and the table at end point.
+   *
+   * @param tableAtEndPoint      The table at end point.
+   * @param tableLetterCase      The letter case of the tables.
+   * @param columnLetterCase     The letter case of the columns.
+   * @param primaryKeyLetterCase The letter case of the primary keys.
+   * @return The list of changes.
+   * @throws AssertJDBException If the copy is dropped or if triggered, this exception wrap a possible
+   *                            {@link SQLException} during the reading.
+   */
+  List<Change> getChangesList(Table tableAtEndPoint, LetterCase tableLetterCase, LetterCase columnLetterCase,
+                              LetterCase primaryKeyLetterCase) {
+
+    if (dropped.get()) {
+      throw new AssertJDBException("The copy of %s at start point is dropped : the start point must be set again",
+                                   table.getName());
+    }
+
+    String name = table.getName();
+    RowSchema rowSchema = new RowSchema(pksNameList, columnsNameList, columnLetterCase, primaryKeyLetterCase);
+    String selectAtStartPoint = getSelect(copyName);
+    String selectAtEndPoint = getSelect(name);
+    List<Row> rowsAtStartPointList = null;
+    List<Row> rowsAtEndPointList = null;
+    try (Connection connection = tableAtEndPoint.getConnection()) {
+      // Only a transaction started here is ended here
+      boolean ownTransaction = connection.getAutoCommit();
+      boolean readOnly = connection.isReadOnly();
+      int transactionIsolation = connection.getTransactionIsolation();
+      if (ownTransaction) {
+        beginReadOnlyTransaction(connection);
+      }
+      try {
+        if (comparedWithExcept) {
+          try {
+            rowsAtStartPointList = readRows(connection, selectAtStartPoint + " EXCEPT " + selectAtEndPoint, rowSchema);
+            rowsAtEndPointList = readRows(connection, selectAtEndPoint + " EXCEPT " + selectAtStartPoint, rowSchema);
+          } catch (SQLException e) {
+            // The database can not compare the rows
+            rowsAtEndPointList = null;
+            if (ownTransaction) {
+              // Some databases can not execute other requests in a transaction after a failure
+              connection.rollback();
+            }
+          }
+        }
+        if (rowsAtEndPointList == null) {
+          // All the rows are compared in memory
+          rowsAtStartPointList = readRows(connection, selectAtStartPoint, rowSchema);
+          rowsAtEndPointList = readRows(connection, selectAtEndPoint, rowSchema);
+        }
+      } finally {
+        if (ownTransaction) {
+          endReadOnlyTransaction(connection, readOnly, transactionIsolation);
+        }
+      }
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+
+    Map<ValuesKey, Row> rowsAtEndPointMap = new LinkedHashMap<>();
+    for (Row rowAtEndPoint : rowsAtEndPointList) {
+      rowsAtEndPointMap.put(new ValuesKey(rowAtEndPoint.getPksValues()), rowAtEndPoint);
+    }
+    List<Change> changesList = new ArrayList<>();
+    for (Row rowAtStartPoint : rowsAtStartPointList) {
+      Row rowAtEndPoint = rowsAtEndPointMap.remove(new ValuesKey(rowAtStartPoint.getPksValues()));
+      if (rowAtEndPoint == null) {
+        // The row is not present at the end point
+        changesList.add(createDeletionChange(DataType.TABLE, name, rowAtStartPoint,
+                                             tableLetterCase, columnLetterCase, primaryKeyLetterCase));
+      } else if (!rowAtStartPoint.hasValues(rowAtEndPoint)) {
+        // At least one value in the rows is different
+        changesList.add(createModificationChange(DataType.TABLE, name, rowAtStartPoint, rowAtEndPoint,
+                                                 tableLetterCase, columnLetterCase, primaryKeyLetterCase));
+      }
+    }
+    for (Row rowAtEndPoint : rowsAtEndPointMap.values()) {
+      // The row is not present at the start point
+      changesList.add(createCreationChange(DataType.TABLE, name, rowAtEndPoint,
+                                           tableLetterCase, columnLetterCase, primaryKeyLetterCase));
+    }
+    return changesList;
+  }
+
+  /**
+   * Begins a read-only transaction on a connection in auto-commit mode.
+   *
+   * @param connection The connection.
+   * @throws SQLException SQL Exception.
+   */
+  private static void beginReadOnlyTransaction(Connection connection) throws SQLException {
+    connection.setReadOnly(true);
+    connection.setAutoCommit(false);
+    if (connection.getMetaData().supportsTransactionIsolationLevel(TRANSACTION_ISOLATION)) {
+      connection.setTransactionIsolation(TRANSACTION_ISOLATION);
+    }
+  }
+
+  /**
+   * Ends a read-only transaction begun by {@link #beginReadOnlyTransaction(Connection)} : the transaction is rolled
+   * back and the connection is restored as it was.
+   *
+   * @param connection           The connection.
+   * @param readOnly             The read-only status of the connection before the transaction.
+   * @param transactionIsolation The transaction isolation of the connection before the transaction.
+   * @throws SQLException SQL Exception.
+   */
+  private static void endReadOnlyTransaction(Connection connection, boolean readOnly, int transactionIsolation)
+          throws SQLException {
+
+    connection.rollback();
+    connection.setAutoCommit(true);
+    connection.setTransactionIsolation(transactionIsolation);
+    connection.setReadOnly(readOnly);
+  }
+
+  /**
+   * Drops the scratch table (nothing is done if it is already dropped).
+   *
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the dropping.
+   */
+  void drop() {
+    if (dropped.compareAndSet(false, true)) {
+      COPIES_NOT_DROPPED.remove(this);
+      try (Connection connection = table.getConnection()) {
+        try (Statement statement = connection.createStatement()) {
+          statement.executeUpdate("DROP TABLE " + table.encode(copyName));
+        }
+      } catch (SQLException e) {
+        throw new AssertJDBException(e);
+      }
+    }
+  }
+}
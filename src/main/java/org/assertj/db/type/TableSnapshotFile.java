@@ -0,0 +1,404 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.lettercase.LetterCase;
+import org.assertj.db.util.RowComparator;
+import org.assertj.db.util.ValuesKey;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.db.type.Change.createCreationChange;
+import static org.assertj.db.type.Change.createDeletionChange;
+import static org.assertj.db.type.Change.createModificationChange;
+
+/**
+ * Snapshot of a {@link Table} with primary keys written in a temporary file.
+ * <p>
+ * The rows are written in the order of the primary keys (the {@link Table} must be ordered on its primary keys) and
+ * they are not kept in memory. The changes are computed by reading the file and the {@link Table} at end point in the
+ * same order, like a merge join : only the changed rows are kept in memory.
+ * </p>
+ * <p>
+ * The order of the database must be the order of the comparison ({@link RowComparator}) : it is not with some
+ * collations of the texts for example. If it is not at start point, there is no file (see {@link #of(Table)}) and if
+ * it is not at end point, all the rows are compared in memory.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @see ComparisonMode#STREAMING
+ */
+class TableSnapshotFile {
+
+  /**
+   * The name of the table.
+   */
+  private final String name;
+  /**
+   * The list of the columns name.
+   */
+  private final List<String> columnsNameList;
+  /**
+   * Letter case of the columns.
+   */
+  private final LetterCase columnLetterCase;
+  /**
+   * The schema of the rows read from the file.
+   */
+  private final RowSchema rowSchema;
+  /**
+   * The temporary file containing the rows.
+   */
+  private final File file;
+  /**
+   * Indicates if the rows are written in the order of the comparison.
+   */
+  private final boolean ordered;
+
+  /**
+   * Constructor : writes the rows of the table in a temporary file.
+   *
+   * @param table The table (ordered on the primary keys).
+   * @throws AssertJDBException If an error occurs during the writing.
+   */
+  private TableSnapshotFile(Table table) {
+    name = table.getName();
+    columnLetterCase = table.getColumnLetterCase();
+    try {
+      file = File.createTempFile("assertj-db-", ".tmp");
+      file.deleteOnExit();
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+
+    try (ObjectOutputStream output = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+      WriteVisitor visitor = new WriteVisitor(output);
+      table.browseRows(visitor);
+      output.writeObject(null);
+      ordered = visitor.ordered;
+    } catch (IOException | RuntimeException e) {
+      delete();
+      if (e instanceof AssertJDBException) {
+        throw (AssertJDBException) e;
+      }
+      throw new AssertJDBException(e);
+    }
+    columnsNameList = table.getColumnsNameList();
+    rowSchema = table.getRowSchema();
+  }
+
+  /**
+   * Writes the rows of the table in a temporary file.
+   *
+   * @param table The table (ordered on the primary keys).
+   * @return The file or {@code null} if the database does not order the primary keys like the comparison (the file is
+   *         deleted).
+   * @throws AssertJDBException If an error occurs during the writing.
+   */
+  static TableSnapshotFile of(Table table) {
+    TableSnapshotFile tableSnapshotFile = new TableSnapshotFile(table);
+    if (!tableSnapshotFile.ordered) {
+      tableSnapshotFile.delete();
+      return null;
+    }
+    return tableSnapshotFile;
+  }
+
+  /**
+   * Returns if the primary keys values are after the previous ones in the order of the comparison.
+   *
+   * @param previousPksValues The previous primary keys values ({@code null} for the first row).
+   * @param pksValues         The primary keys values.
+   * @return {@code true} if the primary keys values are after the previous ones, {@code false} otherwise.
+   */
+  private static boolean isAfter(Value[] previousPksValues, Value[] pksValues) {
+    return previousPksValues == null || RowComparator.compare(previousPksValues, pksValues) < 0;
+  }
+
+  /**
+   * Reads the next row from the file.
+   *
+   * @param input The input on the file.
+   * @return The row or {@code null} if there is no more row.
+   * @throws AssertJDBException If an error occurs during the reading.
+   */
+  private Row readRow(ObjectInputStream input) {
+    try {
+      Object[] objects = (Object[]) input.readObject();
+      if (objects == null) {
+        return null;
+      }
+      List<Value> valuesList = new ArrayList<>(objects.length);
+      for (int index = 0; index < objects.length; index++) {
+        valuesList.add(new Value(columnsNameList.get(index), objects[index], columnLetterCase));
+      }
+      return new Row(rowSchema, valuesList);
+    } catch (IOException | ClassNotFoundException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns the list of changes between the rows in the file and the table at end point.
+   * <p>
+   * If the database does not order the rows at end point like the comparison, all the rows are compared in memory.
+   * </p>
+   *
+   * @param tableAtEndPoint      The table at end point (ordered on the primary keys like the table at start point).
+   * @param tableLetterCase      The letter case of the tables.
+   * @param columnLetterCase     The letter case of the columns.
+   * @param primaryKeyLetterCase The letter case of the primary keys.
+   * @return The list of changes.
+   * @throws AssertJDBException If an error occurs during the reading.
+   */
+  List<Change> getChangesList(Table tableAtEndPoint, LetterCase tableLetterCase, LetterCase columnLetterCase,
+                              LetterCase primaryKeyLetterCase) {
+
+    try (ObjectInputStream input = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      MergeVisitor visitor = new MergeVisitor(input, tableLetterCase, columnLetterCase, primaryKeyLetterCase);
+      tableAtEndPoint.browseRows(visitor);
+      if (visitor.ordered) {
+        return visitor.finish();
+      }
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return getChangesListInMemory(tableAtEndPoint, tableLetterCase, columnLetterCase, primaryKeyLetterCase);
+  }
+
+  /**
+   * Returns the list of changes between the rows in the file and the table at end point, compared in memory (the rows
+   * are matched with the values of their primary keys).
+   *
+   * @param tableAtEndPoint      The table at end point.
+   * @param tableLetterCase      The letter case of the tables.
+   * @param columnLetterCase     The letter case of the columns.
+   * @param primaryKeyLetterCase The letter case of the primary keys.
+   * @return The list of changes.
+   * @throws AssertJDBException If an error occurs during the reading.
+   */
+  private List<Change> getChangesListInMemory(Table tableAtEndPoint, LetterCase tableLetterCase,
+                                              LetterCase columnLetterCase, LetterCase primaryKeyLetterCase) {
+
+    Map<ValuesKey, Row> rowsAtEndPointMap = new LinkedHashMap<>();
+    for (Row rowAtEndPoint : tableAtEndPoint.getRowsList()) {
+      rowsAtEndPointMap.put(new ValuesKey(rowAtEndPoint.getPksValues()), rowAtEndPoint);
+    }
+    List<Change> changesList = new ArrayList<>();
+    try (ObjectInputStream input = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      Row rowAtStartPoint;
+      while ((rowAtStartPoint = readRow(input)) != null) {
+        Row rowAtEndPoint = rowsAtEndPointMap.remove(new ValuesKey(rowAtStartPoint.getPksValues()));
+        if (rowAtEndPoint == null) {
+          // The row is not present at the end point
+          changesList.add(createDeletionChange(DataType.TABLE, name, rowAtStartPoint,
+                                               tableLetterCase, columnLetterCase, primaryKeyLetterCase));
+        } else if (!rowAtStartPoint.hasValues(rowAtEndPoint)) {
+          // At least one value in the rows is different
+          changesList.add(createModificationChange(DataType.TABLE, name, rowAtStartPoint, rowAtEndPoint,
+                                                   tableLetterCase, columnLetterCase, primaryKeyLetterCase));
+        }
+      }
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    for (Row rowAtEndPoint : rowsAtEndPointMap.values()) {
+      // The row is not present at the start point
+      changesList.add(createCreationChange(DataType.TABLE, name, rowAtEndPoint,
+                                           tableLetterCase, columnLetterCase, primaryKeyLetterCase));
+    }
+    return changesList;
+  }
+
+  /**
+   * Visitor of the rows at start point which writes them in the file.
+   */
+  private class WriteVisitor implements AbstractDbData.RowVisitor {
+
+    /**
+     * The output on the file.
+     */
+    private final ObjectOutputStream output;
+    /**
+     * Indicates if the rows are in the order of the comparison (the browsing is stopped if they are not).
+     */
+    private boolean ordered = true;
+    /**
+     * The primary keys values of the previous row.
+     */
+    private Value[] previousPksValues;
+
+    /**
+     * Constructor.
+     *
+     * @param output The output on the file.
+     */
+    private WriteVisitor(ObjectOutputStream output) {
+      this.output = output;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean visit(Row row) {
+      Value[] pksValues = row.getPksValues();
+      if (!isAfter(previousPksValues, pksValues)) {
+        ordered = false;
+        return false;
+      }
+      previousPksValues = pksValues;
+      List<Value> valuesList = row.getValuesList();
+      Object[] objects = new Object[valuesList.size()];
+      for (int index = 0; index < objects.length; index++) {
+        objects[index] = valuesList.get(index).getValue();
+      }
+      try {
+        output.writeObject(objects);
+        // Nothing is shared between the rows : reset to free the references kept by the stream
+        output.reset();
+      } catch (IOException e) {
+        throw new AssertJDBException(e);
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Visitor of the rows at end point which merges them with the rows at start point read from the file.
+   */
+  private class MergeVisitor implements AbstractDbData.RowVisitor {
+
+    /**
+     * The input on the file.
+     */
+    private final ObjectInputStream input;
+    /**
+     * Letter case of the tables.
+     */
+    private final LetterCase tableLetterCase;
+    /**
+     * Letter case of the columns.
+     */
+    private final LetterCase columnLetterCase;
+    /**
+     * Letter case of the primary keys.
+     */
+    private final LetterCase primaryKeyLetterCase;
+    /**
+     * The list of the changes.
+     */
+    private final List<Change> changesList = new ArrayList<>();
+    /**
+     * The current row at start point ({@code null} if there is no more row in the file).
+     */
+    private Row rowAtStartPoint;
+    /**
+     * The primary keys values of the previous row at end point.
+     */
+    private Value[] previousPksValues;
+    /**
+     * Indicates if the rows at end point are in the order of the comparison (the browsing is stopped if they are not).
+     */
+    private boolean ordered = true;
+
+    /**
+     * Constructor.
+     *
+     * @param input                The input on the file.
+     * @param tableLetterCase      The letter case of the tables.
+     * @param columnLetterCase     The letter case of the columns.
+     * @param primaryKeyLetterCase The letter case of the primary keys.
+     */
+    private MergeVisitor(ObjectInputStream input, LetterCase tableLetterCase, LetterCase columnLetterCase,
+                         LetterCase primaryKeyLetterCase) {
+      this.input = input;
+      this.tableLetterCase = tableLetterCase;
+      this.columnLetterCase = columnLetterCase;
+      this.primaryKeyLetterCase = primaryKeyLetterCase;
+      rowAtStartPoint = readRow(input);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean visit(Row rowAtEndPoint) {
+      Value[] pksValues = rowAtEndPoint.getPksValues();
+      if (!isAfter(previousPksValues, pksValues)) {
+        ordered = false;
+        return false;
+      }
+      previousPksValues = pksValues;
+
+      while (rowAtStartPoint != null) {
+        int compare = RowComparator.compare(rowAtStartPoint.getPksValues(), pksValues);
+        if (compare > 0) {
+          break;
+        }
+        if (compare < 0) {
+          // The row is not present at the end point
+          changesList.add(createDeletionChange(DataType.TABLE, name, rowAtStartPoint,
+                                               tableLetterCase, columnLetterCase, primaryKeyLetterCase));
+        } else if (!rowAtStartPoint.hasValues(rowAtEndPoint)) {
+          // At least one value in the rows is different
+          changesList.add(createModificationChange(DataType.TABLE, name, rowAtStartPoint, rowAtEndPoint,
+                                                   tableLetterCase, columnLetterCase, primaryKeyLetterCase));
+        }
+        rowAtStartPoint = readRow(input);
+        if (compare == 0) {
+          return true;
+        }
+      }
+      // The row is not present at the start point
+      changesList.add(createCreationChange(DataType.TABLE, name, rowAtEndPoint,
+                                           tableLetterCase, columnLetterCase, primaryKeyLetterCase));
+      return true;
+    }
+
+    /**
+     * Finishes the merge : the remaining rows at start point are not present at the end point.
+     *
+     * @return The list of the changes.
+     */
+    private List<Change> finish() {
+      while (rowAtStartPoint != null) {
+        changesList.add(createDeletionChange(DataType.TABLE, name, rowAtStartPoint,
+                                             tableLetterCase, columnLetterCase, primaryKeyLetterCase));
+        rowAtStartPoint = readRow(input);
+      }
+      return changesList;
+    }
+  }
+
+  /**
+   * Deletes the temporary file.
+   */
+  void delete() {
+    if (file != null) {
+      file.delete();
+    }
+  }
+}
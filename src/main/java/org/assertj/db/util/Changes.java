@@ -13,12 +13,6 @@
 package org.assertj.db.util;
 
 import org.assertj.db.type.Change;
-import org.assertj.db.type.Row;
-import org.assertj.db.type.Value;
-
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 
 /**
  * Utility methods related to changes.
@@ -35,54 +29,19 @@ public class Changes {
   }
 
   /**
-   * Returns the indexes of the modified columns.
+   * Returns the indexes of the modified columns (in ascending order).
    * @param change    The change.
    * @return The indexes.
+   * @see Change#getModifiedColumnsIndexes()
    */
   public static Integer[] getIndexesOfModifiedColumns(Change change) {
-    List<Integer> indexesList = new ArrayList<>();
-    Row rowAtStartPoint = change.getRowAtStartPoint();
-    Row rowAtEndPoint = change.getRowAtEndPoint();
-    if (rowAtStartPoint != null && rowAtEndPoint != null) {
-      List<Value> valuesListAtStartPoint = rowAtStartPoint.getValuesList();
-      List<Value> valuesListAtEndPoint = rowAtEndPoint.getValuesList();
-      Iterator<Value> iteratorAtEndPoint = valuesListAtEndPoint.iterator();
-      int index = 0;
-      for (Value valueAtStartPoint : valuesListAtStartPoint) {
-        Value valueAtEndPoint  = iteratorAtEndPoint.next();
-        Object objectAtStartPoint = valueAtStartPoint.getValue();
-        Object objectAtEndPoint = valueAtEndPoint.getValue();
-
-        if ((objectAtStartPoint == null && objectAtEndPoint != null) ||
-            (objectAtStartPoint != null && !objectAtStartPoint.equals(objectAtEndPoint))) {
-
-          indexesList.add(index);
-        }
-        index++;
-      }
+    Integer[] indexes = new Integer[change.getModifiedColumnsCount()];
+    int index = change.getNextModifiedColumnIndex(0);
+    for (int i = 0; i < indexes.length; i++) {
+      indexes[i] = index;
+      index = change.getNextModifiedColumnIndex(index + 1);
     }
-    else if (rowAtStartPoint != null) {
-      List<Value> valuesListAtStartPoint = rowAtStartPoint.getValuesList();
-      int index = 0;
-      for (Value valueAtStartPoint : valuesListAtStartPoint) {
-        if (valueAtStartPoint.getValue() != null) {
-          indexesList.add(index);
-        }
-        index++;
-      }
-    }
-    else {
-      List<Value> valuesListAtEndPoint = rowAtEndPoint.getValuesList();
-      int index = 0;
-      for (Value valueAtEndPoint : valuesListAtEndPoint) {
-        if (valueAtEndPoint.getValue() != null) {
-          indexesList.add(index);
-        }
-        index++;
-      }
-    }
-
-    return indexesList.toArray(new Integer[indexesList.size()]);
+    return indexes;
   }
 
 }
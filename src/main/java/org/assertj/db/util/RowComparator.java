@@ -38,45 +38,81 @@ public enum RowComparator implements Comparator<Row>{
    * @return The result.
    * @see Comparator#compare(Object, Object)
    */
-  private static int compare(Value[] values1, Value[] values2) {
+  public static int compare(Value[] values1, Value[] values2) {
     if (values1.length == values2.length) {
       for (int index = 0; index < values1.length; index++) {
-        Value value1 = values1[index];
-        Value value2 = values2[index];
-        Object object1 = value1.getValue();
-        Object object2 = value2.getValue();
-        if (object1 == null && object2 != null) {
-          return 1;
-        }
-        if (object1 != null && object2 == null) {
-          return -1;
-        }
-        if (object1 instanceof Comparable && object2 instanceof Comparable) {
-          @SuppressWarnings("unchecked")
-          Comparable<Object> comparable1 = Comparable.class.cast(object1);
-          int compare = comparable1.compareTo(object2);
-          if (compare != 0) {
-            return compare;
-          }
+        int compare = compare(values1[index], values2[index]);
+        if (compare != 0) {
+          return compare;
         }
       }
     }
     return 0;
   }
 
-  /** {@inheritDoc} */
+  /**
+   * Compare one value to another.
+   * @param value1 The first value.
+   * @param value2 The second value.
+   * @return The result ({@code 0} if the values are not comparable).
+   * @see Comparator#compare(Object, Object)
+   */
+  private static int compare(Value value1, Value value2) {
+    return compareObjects(value1.getValue(), value2.getValue());
+  }
+
+  /**
+   * Compare one object of a value to another (with the same order as the one of the rows : the {@code null} objects
+   * are after the others and the objects which are not {@link Comparable} are equal).
+   * @param object1 The first object.
+   * @param object2 The second object.
+   * @return The result.
+   * @see Comparator#compare(Object, Object)
+   * @since 1.3.0
+   */
+  public static int compareObjects(Object object1, Object object2) {
+    if (object1 == null && object2 != null) {
+      return 1;
+    }
+    if (object1 != null && object2 == null) {
+      return -1;
+    }
+    if (object1 instanceof Comparable && object2 instanceof Comparable) {
+      @SuppressWarnings("unchecked")
+      Comparable<Object> comparable1 = Comparable.class.cast(object1);
+      return comparable1.compareTo(object2);
+    }
+    return 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The values are compared in the rows (without copying them in arrays).
+   * </p>
+   */
   @Override
   public int compare(Row row1, Row row2) {
-    Value[] pksValues1 = row1.getPksValues();
-    Value[] pksValues2 = row2.getPksValues();
-    int compare = compare(pksValues1, pksValues2);
-    if (compare != 0) {
-      return compare;
+    int pksCount = row1.getPksCount();
+    if (pksCount == row2.getPksCount()) {
+      for (int index = 0; index < pksCount; index++) {
+        int compare = compare(row1.getPkValue(index), row2.getPkValue(index));
+        if (compare != 0) {
+          return compare;
+        }
+      }
     }
     List<Value> valuesList1 = row1.getValuesList();
     List<Value> valuesList2 = row2.getValuesList();
-    Value[] values1 = valuesList1.toArray(new Value[valuesList1.size()]);
-    Value[] values2 = valuesList2.toArray(new Value[valuesList2.size()]);
-    return compare(values1, values2);
+    int size = valuesList1.size();
+    if (size == valuesList2.size()) {
+      for (int index = 0; index < size; index++) {
+        int compare = compare(valuesList1.get(index), valuesList2.get(index));
+        if (compare != 0) {
+          return compare;
+        }
+      }
+    }
+    return 0;
   }
 }
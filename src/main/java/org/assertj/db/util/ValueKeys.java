@@ -0,0 +1,349 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import org.assertj.db.type.DateTimeValue;
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.TimeValue;
+import org.assertj.db.type.Value;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Keys of the values used to index them : the key of a value is its hash code ({@link Values#getHashCode(Value)}) and
+ * the key of an expected value is the hash code that a value of a kind has if it is equal to the expected value with
+ * {@link Values#areEqual(Value, Object)}.
+ * <p>
+ * So an expected value only needs to be compared to the values with the same kind and the same key. The key of an
+ * expected value can not always be computed (a {@code String} which can not be parsed for example) : in this case, the
+ * expected value must be compared to all the values of the kind (which keeps the exceptions of the comparison).
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.3.0
+ */
+public final class ValueKeys {
+
+  /**
+   * Kind of the objects of the values (the values of a kind are compared in the same way).
+   */
+  public enum Kind {
+
+    /**
+     * {@code null}.
+     */
+    NULL,
+    /**
+     * {@code Boolean}.
+     */
+    BOOLEAN,
+    /**
+     * {@code Byte}, {@code Short}, {@code Integer} or {@code Long}.
+     */
+    INTEGRAL,
+    /**
+     * {@code BigInteger}.
+     */
+    BIG_INTEGER,
+    /**
+     * {@code BigDecimal}.
+     */
+    BIG_DECIMAL,
+    /**
+     * {@code Double}.
+     */
+    DOUBLE,
+    /**
+     * Array of {@code byte}.
+     */
+    BYTES,
+    /**
+     * {@code String}.
+     */
+    STRING,
+    /**
+     * {@code UUID}.
+     */
+    UUID,
+    /**
+     * {@code Date}.
+     */
+    DATE,
+    /**
+     * {@code Time}.
+     */
+    TIME,
+    /**
+     * {@code Timestamp}.
+     */
+    TIMESTAMP,
+    /**
+     * The other objects (compared to all the expected values).
+     */
+    OTHER
+  }
+
+  /**
+   * Indicates that an expected value can not be equal to the values of a kind.
+   */
+  public static final Object NOT_EQUAL = new Object();
+  /**
+   * The greatest {@code long} which is exactly represented by a {@code float}.
+   */
+  private static final double FLOAT_EXACT_LIMIT = 1L << 24;
+  /**
+   * The greatest {@code long} which is exactly represented by a {@code double}.
+   */
+  private static final double DOUBLE_EXACT_LIMIT = 1L << 53;
+
+  /**
+   * Private constructor.
+   */
+  private ValueKeys() {
+    // Empty
+  }
+
+  /**
+   * Returns the kind of an object.
+   *
+   * @param object The object.
+   * @return The kind.
+   */
+  public static Kind getKind(Object object) {
+    if (object == null) {
+      return Kind.NULL;
+    }
+    if (object instanceof Boolean) {
+      return Kind.BOOLEAN;
+    }
+    if (object instanceof Byte || object instanceof Short || object instanceof Integer || object instanceof Long) {
+      return Kind.INTEGRAL;
+    }
+    if (object instanceof BigInteger) {
+      return Kind.BIG_INTEGER;
+    }
+    if (object instanceof BigDecimal) {
+      return Kind.BIG_DECIMAL;
+    }
+    if (object instanceof Double) {
+      return Kind.DOUBLE;
+    }
+    if (object instanceof byte[]) {
+      return Kind.BYTES;
+    }
+    if (object instanceof String) {
+      return Kind.STRING;
+    }
+    if (object instanceof UUID) {
+      return Kind.UUID;
+    }
+    if (object instanceof Date) {
+      return Kind.DATE;
+    }
+    if (object instanceof Time) {
+      return Kind.TIME;
+    }
+    if (object instanceof Timestamp) {
+      return Kind.TIMESTAMP;
+    }
+    return Kind.OTHER;
+  }
+
+  /**
+   * Returns the hash code that a value of a kind has if it is equal to the expected value.
+   *
+   * @param kind     The kind of the values.
+   * @param expected The expected value.
+   * @return The hash code, {@code null} if it can not be computed (the expected value must be compared to all the
+   *         values of the kind) or {@link #NOT_EQUAL} if no value of the kind can be equal.
+   */
+  public static Object getExpectedKey(Kind kind, Object expected) {
+    if (expected == null) {
+      return kind == Kind.NULL ? 0 : NOT_EQUAL;
+    }
+    switch (kind) {
+      case BOOLEAN:
+        return expected instanceof Boolean ? expected.hashCode() : NOT_EQUAL;
+      case INTEGRAL:
+      case BIG_INTEGER:
+      case BIG_DECIMAL:
+      case DOUBLE:
+        if (expected instanceof Number) {
+          return getExpectedNumberKey(kind, (Number) expected);
+        }
+        if (expected instanceof String) {
+          return getExpectedNumberKey(kind, (String) expected);
+        }
+        return NOT_EQUAL;
+      case BYTES:
+        return expected instanceof byte[] ? Arrays.hashCode((byte[]) expected) : NOT_EQUAL;
+      case STRING:
+        if (expected instanceof String) {
+          return expected.hashCode();
+        }
+        // A Character is compared to the first character of the texts
+        return expected instanceof Character ? null : NOT_EQUAL;
+      case UUID:
+        if (expected instanceof UUID) {
+          return expected.hashCode();
+        }
+        if (expected instanceof String) {
+          try {
+            return java.util.UUID.fromString((String) expected).hashCode();
+          } catch (IllegalArgumentException e) {
+            return null;
+          }
+        }
+        return NOT_EQUAL;
+      case DATE:
+        if (expected instanceof DateValue) {
+          return expected.hashCode();
+        }
+        if (expected instanceof DateTimeValue) {
+          return ((DateTimeValue) expected).getDate().hashCode();
+        }
+        if (expected instanceof Date) {
+          return DateValue.from((Date) expected).hashCode();
+        }
+        if (expected instanceof String) {
+          try {
+            return DateTimeValue.parse((String) expected).getDate().hashCode();
+          } catch (ParseException e) {
+            return null;
+          }
+        }
+        return NOT_EQUAL;
+      case TIME:
+        if (expected instanceof TimeValue) {
+          return expected.hashCode();
+        }
+        if (expected instanceof Time) {
+          return TimeValue.from((Time) expected).hashCode();
+        }
+        if (expected instanceof String) {
+          try {
+            return TimeValue.parse((String) expected).hashCode();
+          } catch (ParseException e) {
+            return null;
+          }
+        }
+        return NOT_EQUAL;
+      case TIMESTAMP:
+        if (expected instanceof DateTimeValue) {
+          return expected.hashCode();
+        }
+        if (expected instanceof DateValue) {
+          return DateTimeValue.of((DateValue) expected).hashCode();
+        }
+        if (expected instanceof Timestamp) {
+          return DateTimeValue.from((Timestamp) expected).hashCode();
+        }
+        if (expected instanceof String) {
+          try {
+            return DateTimeValue.parse((String) expected).hashCode();
+          } catch (ParseException e) {
+            return null;
+          }
+        }
+        return NOT_EQUAL;
+      default:
+        return NOT_EQUAL;
+    }
+  }
+
+  /**
+   * Returns the hash code that a number of a kind has if it is equal to the expected number.
+   *
+   * @param kind     The kind of the values (a kind of number).
+   * @param expected The expected number.
+   * @return The hash code, {@code null} if it can not be computed or {@link #NOT_EQUAL} if no value of the kind can be
+   *         equal.
+   */
+  private static Object getExpectedNumberKey(Kind kind, Number expected) {
+    if (expected instanceof Byte || expected instanceof Short || expected instanceof Integer
+        || expected instanceof Long) {
+
+      long longValue = expected.longValue();
+      if (kind == Kind.DOUBLE && Math.abs((double) longValue) >= DOUBLE_EXACT_LIMIT) {
+        // The long is rounded in the comparison
+        return null;
+      }
+      return Values.getHashCode(expected);
+    }
+    if (expected instanceof BigInteger) {
+      // A BigDecimal or a Double may be not convertible in BigInteger
+      return kind == Kind.INTEGRAL || kind == Kind.BIG_INTEGER ? Values.getHashCode(expected) : null;
+    }
+    if (expected instanceof BigDecimal) {
+      return Values.getHashCode(expected);
+    }
+    if (expected instanceof Float || expected instanceof Double) {
+      double doubleValue = expected.doubleValue();
+      if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+        return null;
+      }
+      switch (kind) {
+        case INTEGRAL:
+          if (doubleValue != Math.rint(doubleValue)) {
+            return NOT_EQUAL;
+          }
+          double limit = expected instanceof Float ? FLOAT_EXACT_LIMIT : DOUBLE_EXACT_LIMIT;
+          if (Math.abs(doubleValue) >= limit) {
+            // The long is rounded in the comparison
+            return null;
+          }
+          return Values.getHashCode((long) doubleValue);
+        case BIG_DECIMAL:
+          return Values.getHashCode(expected);
+        case DOUBLE:
+          return Values.getHashCode(doubleValue);
+        default:
+          // The conversion of the expected value in BigInteger may fail
+          return null;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the hash code that a number of a kind has if it is equal to the {@code String} representation.
+   *
+   * @param kind     The kind of the values (a kind of number).
+   * @param expected The {@code String} representation.
+   * @return The hash code or {@code null} if it can not be computed.
+   */
+  private static Object getExpectedNumberKey(Kind kind, String expected) {
+    try {
+      switch (kind) {
+        case INTEGRAL:
+          return Values.getHashCode(Long.parseLong(expected));
+        case BIG_INTEGER:
+          return Values.getHashCode(new BigInteger(expected));
+        case BIG_DECIMAL:
+          return Values.getHashCode(new BigDecimal(expected));
+        default:
+          return Values.getHashCode(Double.parseDouble(expected));
+      }
+    } catch (NumberFormatException e) {
+      // The comparison throws an exception
+      return null;
+    }
+  }
+}
@@ -21,6 +21,8 @@ import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.text.ParseException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -31,6 +33,15 @@ import java.util.UUID;
  */
 public class Values {
 
+  /**
+   * The offset basis of the FNV-1a hash used in the fingerprints.
+   */
+  private static final long FINGERPRINT_OFFSET = 0xcbf29ce484222325L;
+  /**
+   * The prime of the FNV-1a hash used in the fingerprints.
+   */
+  private static final long FINGERPRINT_PRIME = 0x100000001b3L;
+
   /**
    * Private constructor.
    */
@@ -545,6 +556,256 @@ public class Values {
     return false;
   }
 
+  /**
+   * Returns a hash code of the value which is consistent with {@link #areEqual(Value, Object)} when the two values
+   * to compare come from the database.
+   * <p>
+   * The numbers are normalized (an {@code Integer 1}, a {@code Long 1L} and a {@code BigDecimal 1.0} have the same hash
+   * code), the dates, times and timestamps are hashed with their {@link DateValue}, {@link TimeValue} and
+   * {@link DateTimeValue} representations and the arrays of bytes are hashed on their content.
+   * </p>
+   *
+   * @param value The value.
+   * @return The hash code.
+   * @since 1.3.0
+   */
+  public static int getHashCode(Value value) {
+    Object object = value.getValue();
+    if (object == null) {
+      return 0;
+    }
+
+    ValueType valueType = value.getValueType();
+    if (valueType == ValueType.NUMBER) {
+      return getHashCode((Number) object);
+    }
+    else if (valueType == ValueType.BYTES) {
+      return Arrays.hashCode((byte[]) object);
+    }
+    else if (valueType == ValueType.TEXT) {
+      return object.toString().hashCode();
+    }
+    else if (valueType == ValueType.DATE) {
+      return DateValue.from((Date) object).hashCode();
+    }
+    else if (valueType == ValueType.TIME) {
+      return TimeValue.from((Time) object).hashCode();
+    }
+    else if (valueType == ValueType.DATE_TIME) {
+      return DateTimeValue.from((Timestamp) object).hashCode();
+    }
+    return object.hashCode();
+  }
+
+  /**
+   * Returns a hash code of the {@code Number} which is the same for all the numbers with the same numeric value.
+   * <p>
+   * The integral numbers which fit in a {@code long} are hashed like a {@code Long}. The other numbers are hashed
+   * with their {@code BigDecimal} representation without the trailing zeros.
+   * </p>
+   *
+   * @param number The number.
+   * @return The hash code.
+   * @since 1.3.0
+   */
+  public static int getHashCode(Number number) {
+    return getNormalizedNumber(number).hashCode();
+  }
+
+  /**
+   * Returns the normalized representation of a {@code Number} : the same object for all the numbers with the same
+   * numeric value.
+   * <p>
+   * The integral numbers which fit in a {@code long} are represented by a {@code Long}, the not-a-number and infinite
+   * values by a {@code Double} and the others by their {@code BigDecimal} representation without the trailing zeros.
+   * </p>
+   *
+   * @param number The number.
+   * @return The normalized representation ({@code Long}, {@code Double} or {@code BigDecimal}).
+   */
+  private static Object getNormalizedNumber(Number number) {
+    BigDecimal bd;
+    if (number instanceof Byte || number instanceof Short || number instanceof Integer || number instanceof Long) {
+      return number.longValue();
+    } else if (number instanceof BigDecimal) {
+      bd = (BigDecimal) number;
+    } else if (number instanceof BigInteger) {
+      bd = new BigDecimal((BigInteger) number);
+    } else {
+      double doubleValue = number.doubleValue();
+      if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+        return doubleValue;
+      }
+      if (doubleValue == (long) doubleValue) {
+        return (long) doubleValue;
+      }
+      // The representation in String is the one used in the comparison (and a Float 0.1f is equal to a Double 0.1)
+      bd = new BigDecimal("" + number);
+    }
+
+    if (bd.signum() == 0) {
+      return 0L;
+    }
+    bd = bd.stripTrailingZeros();
+    if (bd.scale() <= 0 && bd.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) >= 0
+        && bd.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) <= 0) {
+
+      return bd.longValue();
+    }
+    return bd;
+  }
+
+  /**
+   * Returns a fingerprint of the value : a 64 bits hash which is consistent with {@link #areEqual(Value, Object)} when
+   * the two values to compare come from the database (like {@link #getHashCode(Value)}).
+   * <p>
+   * Unlike {@link #getHashCode(Value)}, the fingerprint is spread on 64 bits (so the collisions are rare enough to
+   * compare large sets of rows with their fingerprints before comparing their values) and it is stable : the same
+   * value has the same fingerprint in every execution. All the values of which the type is
+   * {@link ValueType#NOT_IDENTIFIED} have the same fingerprint : their {@code hashCode()} method can be the identity
+   * hash code, which is not stable.
+   * </p>
+   *
+   * @param value The value.
+   * @return The fingerprint.
+   * @since 1.3.0
+   */
+  public static long getFingerprint(Value value) {
+    Object object = value.getValue();
+    if (object == null) {
+      return 0L;
+    }
+
+    ValueType valueType = value.getValueType();
+    long fingerprint;
+    if (valueType == ValueType.NUMBER) {
+      fingerprint = getNumberFingerprint(getNormalizedNumber((Number) object));
+    }
+    else if (valueType == ValueType.BYTES) {
+      fingerprint = FINGERPRINT_OFFSET;
+      for (byte b : (byte[]) object) {
+        fingerprint = (fingerprint ^ (b & 0xff)) * FINGERPRINT_PRIME;
+      }
+    }
+    else if (valueType == ValueType.TEXT) {
+      fingerprint = getTextFingerprint(object.toString());
+    }
+    else if (valueType == ValueType.DATE) {
+      fingerprint = getDateFingerprint(DateValue.from((Date) object));
+    }
+    else if (valueType == ValueType.TIME) {
+      fingerprint = getTimeFingerprint(TimeValue.from((Time) object));
+    }
+    else if (valueType == ValueType.DATE_TIME) {
+      DateTimeValue dateTimeValue = DateTimeValue.from((Timestamp) object);
+      fingerprint = getDateFingerprint(dateTimeValue.getDate()) * FINGERPRINT_PRIME
+                    ^ getTimeFingerprint(dateTimeValue.getTime());
+    }
+    else if (valueType == ValueType.UUID) {
+      UUID uuid = (UUID) object;
+      fingerprint = uuid.getMostSignificantBits() * FINGERPRINT_PRIME ^ uuid.getLeastSignificantBits();
+    }
+    else if (valueType == ValueType.BOOLEAN) {
+      fingerprint = ((Boolean) object) ? 1L : 2L;
+    }
+    else {
+      fingerprint = FINGERPRINT_OFFSET;
+    }
+    return mix(fingerprint + valueType.ordinal());
+  }
+
+  /**
+   * Returns a fingerprint of a list of values (like the values of a row) : a 64 bits hash which depends on the
+   * fingerprints of the values ({@link #getFingerprint(Value)}) and on their order.
+   * <p>
+   * Two lists of values which are equal value by value with {@link #areEqual(Value, Object)} have the same fingerprint.
+   * </p>
+   *
+   * @param valuesList The list of values.
+   * @return The fingerprint.
+   * @since 1.3.0
+   */
+  public static long getFingerprint(List<Value> valuesList) {
+    long fingerprint = valuesList.size();
+    for (Value value : valuesList) {
+      fingerprint = mix(fingerprint * FINGERPRINT_PRIME + getFingerprint(value));
+    }
+    return fingerprint;
+  }
+
+  /**
+   * Returns the fingerprint of a normalized number (see {@link #getNormalizedNumber(Number)}).
+   *
+   * @param normalizedNumber The normalized number.
+   * @return The fingerprint.
+   */
+  private static long getNumberFingerprint(Object normalizedNumber) {
+    if (normalizedNumber instanceof Long) {
+      return (Long) normalizedNumber;
+    }
+    if (normalizedNumber instanceof Double) {
+      return Double.doubleToLongBits((Double) normalizedNumber);
+    }
+    BigDecimal bd = (BigDecimal) normalizedNumber;
+    long fingerprint = (FINGERPRINT_OFFSET ^ bd.scale()) * FINGERPRINT_PRIME;
+    for (byte b : bd.unscaledValue().toByteArray()) {
+      fingerprint = (fingerprint ^ (b & 0xff)) * FINGERPRINT_PRIME;
+    }
+    return fingerprint;
+  }
+
+  /**
+   * Returns the fingerprint of a {@code String} (FNV-1a hash of the characters).
+   *
+   * @param string The {@code String}.
+   * @return The fingerprint.
+   */
+  private static long getTextFingerprint(String string) {
+    long fingerprint = FINGERPRINT_OFFSET;
+    for (int index = 0; index < string.length(); index++) {
+      fingerprint = (fingerprint ^ string.charAt(index)) * FINGERPRINT_PRIME;
+    }
+    return fingerprint;
+  }
+
+  /**
+   * Returns the fingerprint of a date.
+   *
+   * @param date The date.
+   * @return The fingerprint.
+   */
+  private static long getDateFingerprint(DateValue date) {
+    return ((long) date.getYear() * 16 + date.getMonth()) * 32 + date.getDayOfTheMonth();
+  }
+
+  /**
+   * Returns the fingerprint of a time.
+   *
+   * @param time The time.
+   * @return The fingerprint.
+   */
+  private static long getTimeFingerprint(TimeValue time) {
+    return ((time.getHours() * 64L + time.getMinutes()) * 64L + time.getSeconds()) * 1000000000L
+           + time.getNanoSeconds();
+  }
+
+  /**
+   * Mixes the bits of a fingerprint (finalizer of the MurmurHash3 hash) : each bit of the result depends on all the
+   * bits of the parameter.
+   *
+   * @param fingerprint The fingerprint.
+   * @return The mixed fingerprint.
+   */
+  private static long mix(long fingerprint) {
+    long mixed = fingerprint;
+    mixed ^= mixed >>> 33;
+    mixed *= 0xff51afd7ed558ccdL;
+    mixed ^= mixed >>> 33;
+    mixed *= 0xc4ceb33fe1a85ec1L;
+    mixed ^= mixed >>> 33;
+    return mixed;
+  }
+
   /**
    * Returns the result of the comparison between the value and the {@code Number} in parameter.
    *
@@ -0,0 +1,108 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import org.assertj.db.type.Row;
+import org.assertj.db.type.Value;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Key made of values (like the values of the primary keys of a row) for the hash structures.
+ * <p>
+ * The equality is the one of {@link Values#areEqual(Value, Object)} and the hash code is computed with the fingerprint
+ * of the values ({@link Values#getFingerprint(java.util.List)}), so two keys with an {@code Integer 1} and a
+ * {@code Long 1L} are equal.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.3.0
+ */
+public final class ValuesKey {
+
+  /**
+   * The values of the key.
+   */
+  private final Value[] values;
+  /**
+   * The fingerprint of the values (computed once).
+   */
+  private final long fingerprint;
+
+  /**
+   * Constructor.
+   *
+   * @param values The values of the key.
+   */
+  public ValuesKey(Value... values) {
+    this(Values.getFingerprint(Arrays.asList(values)), values);
+  }
+
+  /**
+   * Constructor with the fingerprint of the values.
+   *
+   * @param fingerprint The fingerprint of the values.
+   * @param values      The values of the key.
+   */
+  private ValuesKey(long fingerprint, Value... values) {
+    this.values = values;
+    this.fingerprint = fingerprint;
+  }
+
+  /**
+   * Returns the key made of all the values of a row (the fingerprint of the row is reused).
+   *
+   * @param row The row.
+   * @return The key.
+   * @since 1.3.0
+   */
+  public static ValuesKey of(Row row) {
+    List<Value> valuesList = row.getValuesList();
+    return new ValuesKey(row.fingerprint(), valuesList.toArray(new Value[valuesList.size()]));
+  }
+
+  /**
+   * Returns the values of the key.
+   *
+   * @return The values of the key.
+   */
+  public Value[] getValues() {
+    return values;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj instanceof ValuesKey) {
+      ValuesKey key = (ValuesKey) obj;
+      if (fingerprint != key.fingerprint || values.length != key.values.length) {
+        return false;
+      }
+      for (int index = 0; index < values.length; index++) {
+        if (!Values.areEqual(values[index], key.values[index].getValue())) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return (int) (fingerprint ^ (fingerprint >>> 32));
+  }
+}
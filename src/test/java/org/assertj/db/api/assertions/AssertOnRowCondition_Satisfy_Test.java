@@ -0,0 +1,171 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.Condition;
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.type.Request;
+import org.assertj.db.type.Row;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link org.assertj.db.api.assertions.AssertOnRowCondition} class :
+ * {@link org.assertj.db.api.assertions.AssertOnRowCondition#allRowsSatisfy(Condition)},
+ * {@link org.assertj.db.api.assertions.AssertOnRowCondition#anyRowSatisfies(Condition)} and
+ * {@link org.assertj.db.api.assertions.AssertOnRowCondition#noRowSatisfies(Condition)} methods.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnRowCondition_Satisfy_Test extends AbstractTest {
+
+  /**
+   * Condition on the year of the movie which counts the evaluated rows.
+   */
+  private static class YearAfter extends Condition<Row> {
+
+    private final int year;
+    private int count;
+
+    private YearAfter(int year) {
+      super("year after " + year);
+      this.year = year;
+    }
+
+    @Override
+    public boolean matches(Row row) {
+      count++;
+      return ((Number) row.getColumnValue("year").getValue()).intValue() > year;
+    }
+  }
+
+  /**
+   * This method tests the assertion methods.
+   */
+  @Test
+  public void test_satisfy() {
+    Table table = new Table(source, "movie");
+    TableAssert tableAssert = assertThat(table);
+    YearAfter yearAfter1970 = new YearAfter(1970);
+    Assertions.assertThat(tableAssert.allRowsSatisfy(yearAfter1970)).isSameAs(tableAssert);
+    Assertions.assertThat(yearAfter1970.count).isEqualTo(3);
+    YearAfter yearAfter2000 = new YearAfter(2000);
+    Assertions.assertThat(tableAssert.anyRowSatisfies(yearAfter2000)).isSameAs(tableAssert);
+    Assertions.assertThat(yearAfter2000.count).isEqualTo(2);
+    YearAfter yearAfter2010 = new YearAfter(2010);
+    Assertions.assertThat(tableAssert.noRowSatisfies(yearAfter2010)).isSameAs(tableAssert);
+    Assertions.assertThat(yearAfter2010.count).isEqualTo(3);
+  }
+
+  /**
+   * This method should fail because a row does not satisfy the condition.
+   */
+  @Test
+  public void should_fail_because_a_row_does_not_satisfy() {
+    Table table = new Table(source, "movie", new String[] { "id", "title", "year" }, null);
+    YearAfter yearAfter2000 = new YearAfter(2000);
+    try {
+      assertThat(table).allRowsSatisfy(yearAfter2000);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[MOVIE table] %n"
+                                                                    + "Expecting that the row with primary keys [1]:%n"
+                                                                    + "  <[1, \"Alien\", 1979]>%n"
+                                                                    + "to satisfy: %n"
+                                                                    + "  <year after 2000>"));
+    }
+    Assertions.assertThat(yearAfter2000.count).isEqualTo(1);
+  }
+
+  /**
+   * This method should fail because no row satisfies the condition.
+   */
+  @Test
+  public void should_fail_because_no_row_satisfies() {
+    Request request = new Request(source, "select * from movie");
+    try {
+      assertThat(request).anyRowSatisfies(new YearAfter(2010));
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("['select * from movie' request] %n"
+                                                                    + "Expecting at least one row to satisfy: %n"
+                                                                    + "  <year after 2010>%n"
+                                                                    + "but none of the 3 rows satisfies it"));
+    }
+  }
+
+  /**
+   * This method should fail because a row satisfies the condition.
+   */
+  @Test
+  public void should_fail_because_a_row_satisfies() {
+    Request request = new Request(source, "select id, year from movie order by id");
+    YearAfter yearAfter2000 = new YearAfter(2000);
+    try {
+      assertThat(request).noRowSatisfies(yearAfter2000);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("['select id, year from movie order by id' request] %n"
+                                                                    + "Expecting that the row:%n"
+                                                                    + "  <[2, 2004]>%n"
+                                                                    + "not to satisfy: %n"
+                                                                    + "  <year after 2000>"));
+    }
+    Assertions.assertThat(yearAfter2000.count).isEqualTo(2);
+  }
+
+  /**
+   * This method should fail because a row of the loaded rows satisfies the condition : the rows are not read again and
+   * the row is reported with its index in the loaded rows.
+   */
+  @Test
+  @NeedReload
+  public void should_fail_because_a_loaded_row_satisfies() {
+    Table table = new Table(source, "movie", new String[] { "id", "title", "year" }, null);
+    Assertions.assertThat(table.getRowsList()).hasSize(3);
+    update("delete from movie where id = 2");
+    YearAfter yearAfter2000 = new YearAfter(2000);
+    try {
+      assertThat(table).noRowSatisfies(yearAfter2000);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[MOVIE table] %n"
+                                                                    + "Expecting that the row at index 1:%n"
+                                                                    + "  <[2, \"The Village\", 2004]>%n"
+                                                                    + "not to satisfy: %n"
+                                                                    + "  <year after 2000>"));
+    }
+    Assertions.assertThat(yearAfter2000.count).isEqualTo(2);
+  }
+
+  /**
+   * This method should fail because the condition is null.
+   */
+  @Test
+  public void should_fail_because_condition_is_null() {
+    Table table = new Table(source, "movie");
+    try {
+      assertThat(table).allRowsSatisfy(null);
+      fail("An exception must be raised");
+    } catch (NullPointerException e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo("The condition must be not null");
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.Value;
+import org.assertj.db.util.Values;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests on {@link ValuesMultiset} class.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class ValuesMultiset_Test extends AbstractTest {
+
+  /**
+   * Equality between the values and objects.
+   */
+  private static final ValuesMultiset.Equality<Object> EQUALITY = new ValuesMultiset.Equality<Object>() {
+    @Override
+    public boolean areEqual(Value value, Object expected) {
+      return Values.areEqual(value, expected);
+    }
+  };
+
+  /**
+   * This method tests that the values are removed once with the equality of the values.
+   */
+  @Test
+  public void test_remove() throws Exception {
+    List<Value> list = new ArrayList<>(Arrays.asList(getValue(null, new BigDecimal("1.0")), getValue(null, 2L),
+                                                     getValue(null, null), getValue(null, 2.5d),
+                                                     getValue(null, Date.valueOf("2007-12-23")),
+                                                     getValue(null, "text"), getValue(null, 1)));
+    ValuesMultiset multiset = new ValuesMultiset(list);
+    Assertions.assertThat(multiset.remove(1, EQUALITY)).isTrue();
+    Assertions.assertThat(multiset.remove(new BigDecimal("1.00"), EQUALITY)).isTrue();
+    Assertions.assertThat(multiset.remove(1, EQUALITY)).isFalse();
+    Assertions.assertThat(multiset.remove("2", EQUALITY)).isTrue();
+    Assertions.assertThat(multiset.remove(2.5f, EQUALITY)).isTrue();
+    Assertions.assertThat(multiset.remove(DateValue.of(2007, 12, 23), EQUALITY)).isTrue();
+    Assertions.assertThat(multiset.remove("2007-12-23", EQUALITY)).isFalse();
+    Assertions.assertThat(multiset.remove("text", EQUALITY)).isTrue();
+    Assertions.assertThat(multiset.remove(null, EQUALITY)).isTrue();
+    Assertions.assertThat(multiset.remove(null, EQUALITY)).isFalse();
+  }
+
+  /**
+   * This method tests the removing of many values.
+   */
+  @Test
+  public void test_remove_many_values() throws Exception {
+    List<Value> list = new ArrayList<>();
+    for (int i = 0; i < 50000; i++) {
+      list.add(getValue(null, new BigDecimal(i % 1000)));
+    }
+    ValuesMultiset multiset = new ValuesMultiset(list);
+    for (int i = 0; i < 50000; i++) {
+      Assertions.assertThat(multiset.remove((long) (i % 1000), EQUALITY)).isTrue();
+    }
+    Assertions.assertThat(multiset.remove(0, EQUALITY)).isFalse();
+  }
+}
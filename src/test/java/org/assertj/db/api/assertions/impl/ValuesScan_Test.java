@@ -0,0 +1,115 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Table;
+import org.assertj.db.type.Value;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link ValuesScan} class.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class ValuesScan_Test extends AbstractTest {
+
+  /**
+   * Sets the default threshold after each test.
+   */
+  @After
+  public void resetThreshold() {
+    ValuesScan.setParallelismThreshold(0);
+  }
+
+  /**
+   * Returns a list of values which are not null except at the indexes in parameter.
+   *
+   * @param size        The size of the list.
+   * @param nullIndexes The indexes of the null values.
+   * @return The list.
+   * @throws Exception Exception
+   */
+  private List<Value> getValuesList(int size, int... nullIndexes) throws Exception {
+    List<Value> list = new ArrayList<>(size);
+    for (int index = 0; index < size; index++) {
+      list.add(getValue(null, index));
+    }
+    for (int index : nullIndexes) {
+      list.set(index, getValue(null, null));
+    }
+    return list;
+  }
+
+  /**
+   * This method tests that the parallel scan finds the same first index as the sequential scan.
+   */
+  @Test
+  public void test_parallel_scan_finds_the_first_index() throws Exception {
+    List<Value> list = getValuesList(100000, 99999, 70001, 12345, 50000);
+    ValuesScan.ValueCheck check = new ValuesScan.ValueCheck() {
+      @Override
+      public boolean isValid(int index, Value value) {
+        return value.getValue() != null;
+      }
+    };
+    Assertions.assertThat(ValuesScan.indexOfFirstInvalid(list, check)).isEqualTo(12345);
+    ValuesScan.setParallelismThreshold(1);
+    Assertions.assertThat(ValuesScan.getParallelismThreshold()).isEqualTo(1);
+    Assertions.assertThat(ValuesScan.indexOfFirstInvalid(list, check)).isEqualTo(12345);
+    Assertions.assertThat(ValuesScan.indexOfFirstInvalid(getValuesList(100000), check)).isEqualTo(-1);
+  }
+
+  /**
+   * This method should fail with the first index in parallel.
+   */
+  @Test
+  public void should_fail_with_the_first_index() throws Exception {
+    ValuesScan.setParallelismThreshold(1000);
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    info.description("description");
+    TableAssert tableAssert = assertThat(new Table());
+    try {
+      AssertionsOnValuesNullity.hasOnlyNotNullValues(tableAssert, info, getValuesList(50000, 40000, 30000));
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[description] %n"
+                                                                    + "Expecting to contain only not null:%n"
+                                                                    + "but contains null at index: 30000"));
+    }
+  }
+
+  /**
+   * This method should fail because the threshold is negative.
+   */
+  @Test
+  public void should_fail_because_threshold_is_negative() {
+    try {
+      ValuesScan.setParallelismThreshold(-1);
+      fail("An exception must be raised");
+    } catch (IllegalArgumentException e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo("The parallelism threshold must be greater than or equal to 0");
+    }
+  }
+}
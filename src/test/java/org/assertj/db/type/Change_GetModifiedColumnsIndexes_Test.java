@@ -0,0 +1,102 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Tests on the {@code getModifiedColumnsIndexes} method and the other methods on the modified columns of
+ * {@code Change}.
+ *
+ * @author Régis Pouiller
+ */
+public class Change_GetModifiedColumnsIndexes_Test extends AbstractTest {
+
+  /**
+   * This method tests the indexes of the modified columns.
+   */
+  @Test
+  public void test_get_modified_columns_indexes() throws Exception {
+    Change creationChange = getTableCreationChange("test",
+                                                    getRow(Arrays.asList("var1"),
+                                                           Arrays.asList("var1", "var2", "var3"),
+                                                           Arrays.asList(getValue("var1", 1),
+                                                                         getValue("var2", "test"),
+                                                                         getValue("var3", null))));
+    Change modificationChange = getTableModificationChange("test",
+                                                            getRow(Arrays.asList("var1"),
+                                                                   Arrays.asList("var1", "var2", "var3", "var4"),
+                                                                   Arrays.asList(getValue("var1", 1),
+                                                                                 getValue("var2", null),
+                                                                                 getValue("var3", "text1"),
+                                                                                 getValue("var4", "text2"))),
+                                                            getRow(Arrays.asList("var1"),
+                                                                   Arrays.asList("var1", "var2", "var3", "var4"),
+                                                                   Arrays.asList(getValue("var1", 1),
+                                                                                 getValue("var2", "test"),
+                                                                                 getValue("var3", null),
+                                                                                 getValue("var4", "text2"))));
+    Change deletionChange = getTableDeletionChange("test",
+                                                    getRow(Arrays.asList("var1"),
+                                                           Arrays.asList("var1", "var2", "var3"),
+                                                           Arrays.asList(getValue("var1", null),
+                                                                         getValue("var2", "test1"),
+                                                                         getValue("var3", 2))));
+
+    BitSet expected = new BitSet();
+    expected.set(0, 2);
+    Assertions.assertThat(creationChange.getModifiedColumnsIndexes()).isEqualTo(expected);
+    Assertions.assertThat(creationChange.getModifiedColumnsCount()).isEqualTo(2);
+    expected = new BitSet();
+    expected.set(1, 3);
+    Assertions.assertThat(modificationChange.getModifiedColumnsIndexes()).isEqualTo(expected);
+    Assertions.assertThat(modificationChange.getModifiedColumnsCount()).isEqualTo(2);
+    expected = new BitSet();
+    expected.set(1, 3);
+    Assertions.assertThat(deletionChange.getModifiedColumnsIndexes()).isEqualTo(expected);
+    Assertions.assertThat(deletionChange.getModifiedColumnsCount()).isEqualTo(2);
+
+    Assertions.assertThat(modificationChange.isModifiedColumn(0)).isFalse();
+    Assertions.assertThat(modificationChange.isModifiedColumn(1)).isTrue();
+    Assertions.assertThat(modificationChange.isModifiedColumn(2)).isTrue();
+    Assertions.assertThat(modificationChange.isModifiedColumn(3)).isFalse();
+    Assertions.assertThat(modificationChange.isModifiedColumn(4)).isFalse();
+    Assertions.assertThat(modificationChange.getNextModifiedColumnIndex(0)).isEqualTo(1);
+    Assertions.assertThat(modificationChange.getNextModifiedColumnIndex(2)).isEqualTo(2);
+    Assertions.assertThat(modificationChange.getNextModifiedColumnIndex(3)).isEqualTo(-1);
+  }
+
+  /**
+   * This method tests that the indexes returned are a copy.
+   */
+  @Test
+  public void test_get_modified_columns_indexes_returns_a_copy() throws Exception {
+    Change creationChange = getTableCreationChange("test",
+                                                    getRow(Arrays.asList("var1"),
+                                                           Arrays.asList("var1", "var2"),
+                                                           Arrays.asList(getValue("var1", 1),
+                                                                         getValue("var2", null))));
+
+    creationChange.getModifiedColumnsIndexes().set(1);
+    creationChange.getModifiedColumnsIndexes().clear(0);
+
+    Assertions.assertThat(creationChange.isModifiedColumn(0)).isTrue();
+    Assertions.assertThat(creationChange.isModifiedColumn(1)).isFalse();
+    Assertions.assertThat(creationChange.getModifiedColumnsCount()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,310 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.After;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Tests on the modes of comparison of {@code Changes}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Changes_ComparisonMode_Test extends AbstractTest {
+
+  /**
+   * Drops the table created for the tests.
+   */
+  @After
+  public void tearDown() {
+    update("drop table if exists order_test");
+  }
+
+  /**
+   * This method tests the default mode and the setter.
+   */
+  @Test
+  public void test_comparison_mode() {
+    Changes changes = new Changes(source);
+    assertThat(changes.getComparisonMode()).isEqualTo(ComparisonMode.IN_MEMORY);
+    assertThat(changes.setComparisonMode(ComparisonMode.STREAMING)).isSameAs(changes);
+    assertThat(changes.getComparisonMode()).isEqualTo(ComparisonMode.STREAMING);
+  }
+
+  /**
+   * This method should fail because the comparison mode must be not null.
+   */
+  @Test
+  public void should_fail_because_comparison_mode_is_null() {
+    try {
+      new Changes(source).setComparisonMode(null);
+      fail("An exception must be raised");
+    } catch (NullPointerException e) {
+      assertThat(e.getMessage()).isEqualTo("The comparison mode must be not null");
+    }
+  }
+
+  /**
+   * This method tests that the streaming mode finds the same changes than the default mode.
+   *
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_streaming_mode_finds_the_same_changes() throws SQLException {
+    Changes changesInMemory = new Changes(source);
+    Changes changesStreaming = new Changes(source).setComparisonMode(ComparisonMode.STREAMING);
+    changesInMemory.setStartPointNow();
+    changesStreaming.setStartPointNow();
+    updateChangesForTests();
+    changesInMemory.setEndPointNow();
+    changesStreaming.setEndPointNow();
+
+    List<Change> changesListInMemory = changesInMemory.getChangesList();
+    List<Change> changesListStreaming = changesStreaming.getChangesList();
+    assertThat(changesListStreaming).hasSameSizeAs(changesListInMemory);
+    for (int index = 0; index < changesListInMemory.size(); index++) {
+      Change changeInMemory = changesListInMemory.get(index);
+      Change changeStreaming = changesListStreaming.get(index);
+      assertThat(changeStreaming.getDataName()).isEqualTo(changeInMemory.getDataName());
+      assertThat(changeStreaming.getChangeType()).isEqualTo(changeInMemory.getChangeType());
+      assertThat(changeStreaming.getPksValueList()).hasSameSizeAs(changeInMemory.getPksValueList());
+      for (int pkIndex = 0; pkIndex < changeInMemory.getPksValueList().size(); pkIndex++) {
+        assertThat(changeStreaming.getPksValueList().get(pkIndex).getValue())
+                .isEqualTo(changeInMemory.getPksValueList().get(pkIndex).getValue());
+      }
+    }
+  }
+
+  /**
+   * This method tests the streaming mode on a table.
+   *
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_streaming_mode_on_table() throws SQLException {
+    Changes changes = new Changes(new Table(source, "movie")).setComparisonMode(ComparisonMode.STREAMING);
+    changes.setStartPointNow();
+    update("insert into movie values(4, 'Ghostbusters', 1984, '16319617-AE95-4087-9264-D3D21BF611B6')");
+    update("update movie set title = 'The Village (2004)' where id = 2");
+    changes.setEndPointNow();
+
+    assertThat(changes.getTablesAtStartPointList().get(0).getName()).isEqualTo("MOVIE");
+    assertThat(changes.getChangesList()).hasSize(2);
+    Change change = changes.getChangesList().get(0);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(change.getRowAtStartPoint()).isNull();
+    assertThat(change.getRowAtEndPoint().getValuesList().get(0).getValue()).isEqualTo(new BigDecimal(4));
+    change = changes.getChangesList().get(1);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+    assertThat(change.getRowAtStartPoint().getValuesList().get(1).getValue()).isEqualTo("The Village");
+    assertThat(change.getRowAtEndPoint().getValuesList().get(1).getValue()).isEqualTo("The Village (2004)");
+
+    // A second end point with the same start point
+    update("delete from movie where id = 4");
+    changes.setEndPointNow();
+    assertThat(changes.getChangesList()).hasSize(1);
+    assertThat(changes.getChangesList().get(0).getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+  }
+
+  /**
+   * This method should fail because the rows of the tables at start point are not kept in streaming mode.
+   */
+  @Test
+  public void should_fail_because_the_rows_at_start_point_are_not_kept() {
+    Changes changes = new Changes(new Table(source, "movie")).setComparisonMode(ComparisonMode.STREAMING);
+    changes.setStartPointNow();
+    Table tableAtStartPoint = changes.getTablesAtStartPointList().get(0);
+    assertThat(tableAtStartPoint.isRowsListLoaded()).isFalse();
+    try {
+      tableAtStartPoint.getRowsList();
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("The rows at start point are not kept in streaming and server side modes : "
+                                           + "they can not be read from the database");
+    }
+    changes.close();
+  }
+
+  /**
+   * This method tests that the streaming mode compares in memory a table whose primary keys are not ordered by the
+   * database like the comparison (at start point and at end point).
+   */
+  @Test
+  public void test_streaming_mode_with_primary_keys_not_in_the_order_of_the_comparison() {
+    update("create table order_test(id varchar_ignorecase(10) primary key, amount int)");
+    update("insert into order_test values('a', 1)");
+    update("insert into order_test values('B', 2)");
+    Changes changes = new Changes(new Table(source, "order_test")).setComparisonMode(ComparisonMode.STREAMING);
+    changes.setStartPointNow();
+    assertThat(changes.getTablesAtStartPointList().get(0).isRowsListLoaded()).isTrue();
+    update("update order_test set amount = 3 where id = 'B'");
+    changes.setEndPointNow();
+    assertThat(changes.getChangesList()).hasSize(1);
+    assertThat(changes.getChangesList().get(0).getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+    changes.close();
+
+    update("delete from order_test where id = 'B'");
+    update("insert into order_test values('c', 4)");
+    changes = new Changes(new Table(source, "order_test")).setComparisonMode(ComparisonMode.STREAMING);
+    changes.setStartPointNow();
+    assertThat(changes.getTablesAtStartPointList().get(0).isRowsListLoaded()).isFalse();
+    update("insert into order_test values('B', 5)");
+    update("delete from order_test where id = 'c'");
+    changes.setEndPointNow();
+    assertThat(changes.getChangesList()).hasSize(2);
+    assertThat(changes.getChangesList().get(0).getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(changes.getChangesList().get(0).getRowAtEndPoint().getValuesList().get(0).getValue()).isEqualTo("B");
+    assertThat(changes.getChangesList().get(1).getChangeType()).isEqualTo(ChangeType.DELETION);
+    assertThat(changes.getChangesList().get(1).getRowAtStartPoint().getValuesList().get(0).getValue()).isEqualTo("c");
+    changes.close();
+  }
+
+  /**
+   * This method tests that the server side mode finds the same changes than the default mode.
+   *
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_server_side_mode_finds_the_same_changes() throws SQLException {
+    Changes changesInMemory = new Changes(source);
+    Changes changesServerSide = new Changes(source).setComparisonMode(ComparisonMode.SERVER_SIDE);
+    changesInMemory.setStartPointNow();
+    changesServerSide.setStartPointNow();
+    updateChangesForTests();
+    changesInMemory.setEndPointNow();
+    changesServerSide.setEndPointNow();
+
+    List<Change> changesListInMemory = changesInMemory.getChangesList();
+    List<Change> changesListServerSide = changesServerSide.getChangesList();
+    assertThat(changesListServerSide).hasSameSizeAs(changesListInMemory);
+    for (int index = 0; index < changesListInMemory.size(); index++) {
+      Change changeInMemory = changesListInMemory.get(index);
+      Change changeServerSide = changesListServerSide.get(index);
+      assertThat(changeServerSide.getDataName()).isEqualTo(changeInMemory.getDataName());
+      assertThat(changeServerSide.getChangeType()).isEqualTo(changeInMemory.getChangeType());
+      assertThat(changeServerSide.getPksValueList()).hasSameSizeAs(changeInMemory.getPksValueList());
+      for (int pkIndex = 0; pkIndex < changeInMemory.getPksValueList().size(); pkIndex++) {
+        assertThat(changeServerSide.getPksValueList().get(pkIndex).getValue())
+                .isEqualTo(changeInMemory.getPksValueList().get(pkIndex).getValue());
+      }
+    }
+    assertThat(getNumberOfCopies()).isEqualTo(0);
+  }
+
+  /**
+   * This method tests the server side mode on a table.
+   *
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_server_side_mode_on_table() throws SQLException {
+    Changes changes = new Changes(new Table(source, "movie")).setComparisonMode(ComparisonMode.SERVER_SIDE);
+    changes.setStartPointNow();
+    assertThat(getNumberOfCopies()).isEqualTo(1);
+    update("insert into movie values(4, 'Ghostbusters', 1984, '16319617-AE95-4087-9264-D3D21BF611B6')");
+    update("update movie set title = 'The Village (2004)' where id = 2");
+    changes.setEndPointNow();
+    assertThat(getNumberOfCopies()).isEqualTo(0);
+
+    assertThat(changes.getChangesList()).hasSize(2);
+    Change change = changes.getChangesList().get(0);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(change.getRowAtStartPoint()).isNull();
+    assertThat(change.getRowAtEndPoint().getValuesList().get(0).getValue()).isEqualTo(new BigDecimal(4));
+    change = changes.getChangesList().get(1);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+    assertThat(change.getRowAtStartPoint().getValuesList().get(1).getValue()).isEqualTo("The Village");
+    assertThat(change.getRowAtEndPoint().getValuesList().get(1).getValue()).isEqualTo("The Village (2004)");
+  }
+
+  /**
+   * This method should fail because the copies at start point are dropped after the end point.
+   */
+  @Test
+  public void should_fail_because_the_copy_at_start_point_is_dropped() {
+    Changes changes = new Changes(new Table(source, "movie")).setComparisonMode(ComparisonMode.SERVER_SIDE);
+    changes.setStartPointNow();
+    changes.setEndPointNow();
+    try {
+      changes.setEndPointNow();
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("Start point is released (after the end point in server side mode or by "
+                                           + "close) : it must be set again");
+    }
+  }
+
+  /**
+   * This method tests that the copies at start point are dropped by {@code close}.
+   *
+   * @throws SQLException
+   */
+  @Test
+  public void test_close_drops_the_copies() throws SQLException {
+    try (Changes changes = new Changes(source).setComparisonMode(ComparisonMode.SERVER_SIDE)) {
+      changes.setStartPointNow();
+      assertThat(getNumberOfCopies()).isEqualTo(4);
+    }
+    assertThat(getNumberOfCopies()).isEqualTo(0);
+
+    Changes changes = new Changes(new Table(source, "movie")).setComparisonMode(ComparisonMode.SERVER_SIDE);
+    changes.setStartPointNow();
+    changes.close();
+    try {
+      changes.setEndPointNow();
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("Start point is released (after the end point in server side mode or by "
+                                           + "close) : it must be set again");
+    }
+    changes.setStartPointNow();
+    changes.setEndPointNow();
+    assertThat(changes.getChangesList()).isEmpty();
+    assertThat(getNumberOfCopies()).isEqualTo(0);
+  }
+
+  /**
+   * Returns the number of copies of tables in the database.
+   *
+   * @return The number of copies.
+   * @throws SQLException
+   */
+  private int getNumberOfCopies() throws SQLException {
+    int count = 0;
+    try (Connection connection = dataSource.getConnection()) {
+      try (ResultSet resultSet = connection.getMetaData().getTables(null, null, "ASSERTJ_DB_COPY_%", null)) {
+        while (resultSet.next()) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+}
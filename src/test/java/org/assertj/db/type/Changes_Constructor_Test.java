@@ -15,6 +15,8 @@ package org.assertj.db.type;
 import org.assertj.db.common.AbstractTest;
 import org.junit.Test;
 
+import java.util.Arrays;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -301,4 +303,30 @@ public class Changes_Constructor_Test extends AbstractTest {
     assertThat(changes.getTablesAtStartPointList()).isNull();
     assertThat(changes.getTablesAtEndPointList()).isNull();
   }
+
+  /**
+   * This method tests that the settings of the reading of the table and of the request are kept at start point and at
+   * end point.
+   */
+  @Test
+  public void test_constructor_keeps_the_settings_of_the_reading() {
+    Changes changes = new Changes(new Table(source, "movie").setFetchSize(100).setSortParallelism(4)
+                                                            .setOrderedByPrimaryKey(true));
+    changes.setStartPointNow();
+    changes.setEndPointNow();
+    for (Table table : Arrays.asList(changes.getTablesAtStartPointList().get(0),
+                                     changes.getTablesAtEndPointList().get(0))) {
+      assertThat(table.getFetchSize()).isEqualTo(100);
+      assertThat(table.getSortParallelism()).isEqualTo(4);
+      assertThat(table.isOrderedByPrimaryKey()).isTrue();
+    }
+
+    changes = new Changes(new Request(source, "select * from movie").setFetchSize(100).setSortParallelism(4));
+    changes.setStartPointNow();
+    changes.setEndPointNow();
+    for (Request request : Arrays.asList(changes.getRequestAtStartPoint(), changes.getRequestAtEndPoint())) {
+      assertThat(request.getFetchSize()).isEqualTo(100);
+      assertThat(request.getSortParallelism()).isEqualTo(4);
+    }
+  }
 }
@@ -21,6 +21,7 @@ import java.sql.Date;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 
 /**
  * Tests on the {@code getChangesOfTable} method.
@@ -143,4 +144,29 @@ public class Changes_GetChangesOfTable_Test extends AbstractTest {
     assertThat(changesRequest.getChangesOfTable("movie").getChangesList()).hasSize(0);
   }
 
+  /**
+   * This method test that the changes of table are a view on the changes.
+   */
+  @Test
+  @NeedReload
+  public void test_getChangesOfTable_is_a_view() {
+    Changes changesSource = new Changes(source);
+    changesSource.setStartPointNow();
+    updateChangesForTests();
+    changesSource.setEndPointNow();
+
+    Changes changesOfMovie = changesSource.getChangesOfTable("movie");
+    assertThat(changesOfMovie.getTablesList()).isSameAs(changesSource.getTablesList());
+    assertThat(changesOfMovie.getChangesList()).hasSize(2);
+    assertThat(changesOfMovie.getChangesList().get(0)).isSameAs(changesSource.getChangesOfType(ChangeType.CREATION)
+                                                                             .getChangesOfTable("MOVIE")
+                                                                             .getChangesList().get(0));
+    assertThat(changesOfMovie.getChangesOfType(ChangeType.DELETION).getChangesList()).isEmpty();
+    try {
+      changesOfMovie.getChangesList().clear();
+      fail("An exception must be raised");
+    } catch (UnsupportedOperationException e) {
+      assertThat(changesOfMovie.getChangesList()).hasSize(2);
+    }
+  }
 }
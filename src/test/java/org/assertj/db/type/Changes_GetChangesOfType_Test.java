@@ -21,6 +21,7 @@ import java.sql.Date;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 
 /**
  * Tests on the {@code getChangesOfType} method.
@@ -183,4 +184,27 @@ public class Changes_GetChangesOfType_Test extends AbstractTest {
        assertThat(changesRequestDeletion.getChangesList().get(0).getRowAtEndPoint()).isNull();
     }
 
+  /**
+   * This method test that the changes are computed once and that the views share the changes.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_are_computed_once_and_shared_by_the_views() {
+    Changes changes = new Changes(source);
+    changes.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).isSameAs(changes.getChangesList());
+    assertThat(changes.getChangesOfType(ChangeType.CREATION).getChangesList())
+            .isSameAs(changes.getChangesOfType(ChangeType.CREATION).getChangesList());
+    assertThat(changes.getChangesOfType(ChangeType.CREATION).getChangesOfTable("actor").getChangesList())
+            .isSameAs(changes.getChangesOfType(ChangeType.CREATION).getChangesOfTable("ACTOR").getChangesList());
+    try {
+      changes.getChangesList().clear();
+      fail("An exception must be raised");
+    } catch (UnsupportedOperationException e) {
+      assertThat(changes.getChangesList()).hasSize(8);
+    }
+  }
 }
@@ -0,0 +1,74 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Tests on the {@code getIndexOfChangeOfTableWithPks} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Changes_GetIndexOfChangeOfTableWithPks_Test extends AbstractTest {
+
+  /**
+   * This method test when getting the index of a change with the primary keys.
+   */
+  @Test
+  @NeedReload
+  public void test_getIndexOfChangeOfTableWithPks() {
+    Changes changes = new Changes(source);
+    changes.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    assertThat(changes.getIndexOfChangeOfTableWithPks("movie", 4)).isEqualTo(0);
+    assertThat(changes.getIndexOfChangeOfTableWithPks("movie", 3)).isEqualTo(1);
+    assertThat(changes.getIndexOfChangeOfTableWithPks("MOVIE", 3L)).isEqualTo(1);
+    assertThat(changes.getIndexOfChangeOfTableWithPks("movie", "4")).isEqualTo(0);
+    assertThat(changes.getIndexOfChangeOfTableWithPks("movie", new BigDecimal("3.0"))).isEqualTo(1);
+    assertThat(changes.getIndexOfChangeOfTableWithPks("movie", 5)).isEqualTo(-1);
+    assertThat(changes.getIndexOfChangeOfTableWithPks("movie", 3, 1)).isEqualTo(-1);
+    assertThat(changes.getIndexOfChangeOfTableWithPks("unknown", 3)).isEqualTo(-1);
+
+    Changes changesMovie = changes.getChangesOfTable("movie");
+    assertThat(changesMovie.getChangesList().get(changes.getIndexOfChangeOfTableWithPks("movie", 3))
+                           .getPksValueList().get(0).getValue()).isEqualTo(new BigDecimal(3));
+  }
+
+  /**
+   * This method should fail because the table name is null.
+   */
+  @Test
+  @NeedReload
+  public void should_fail_because_table_name_is_null() {
+    Changes changes = new Changes(source);
+    changes.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+    try {
+      changes.getIndexOfChangeOfTableWithPks(null, 3);
+      fail("An exception must be raised");
+    } catch (NullPointerException e) {
+      assertThat(e.getMessage()).isEqualTo("tableName must be not null");
+    }
+  }
+}
@@ -0,0 +1,120 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Tests on the loading of the tables at the same time by {@code Changes}.
+ *
+ * @author Régis Pouiller
+ */
+public class Changes_Parallelism_Test extends AbstractTest {
+
+  /**
+   * This method tests the default values and the setters.
+   */
+  @Test
+  public void test_parallelism_and_executor_service() {
+    Changes changes = new Changes(source);
+    assertThat(changes.getParallelism()).isEqualTo(1);
+    assertThat(changes.getExecutorService()).isNull();
+
+    ExecutorService executorService = Executors.newFixedThreadPool(2);
+    try {
+      assertThat(changes.setParallelism(3).setExecutorService(executorService)).isSameAs(changes);
+      assertThat(changes.getParallelism()).isEqualTo(3);
+      assertThat(changes.getExecutorService()).isSameAs(executorService);
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  /**
+   * This method should fail because the parallelism is less than 1.
+   */
+  @Test
+  public void should_fail_because_parallelism_is_less_than_one() {
+    try {
+      new Changes(source).setParallelism(0);
+      fail("An exception must be raised");
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage()).isEqualTo("The parallelism must be greater than or equal to 1");
+    }
+  }
+
+  /**
+   * This method tests that the tables and the changes are the same with a parallel loading.
+   */
+  @Test
+  @NeedReload
+  public void test_parallel_loading_keeps_the_order() {
+    ExecutorService executorService = Executors.newFixedThreadPool(2);
+    try {
+      Changes changes = new Changes(source);
+      Changes changesWithDefaultExecutor = new Changes(source).setParallelism(3);
+      Changes changesWithExecutor = new Changes(source).setParallelism(2).setExecutorService(executorService);
+      Changes changesStreaming = new Changes(source).setParallelism(3).setComparisonMode(ComparisonMode.STREAMING);
+      changes.setStartPointNow();
+      changesWithDefaultExecutor.setStartPointNow();
+      changesWithExecutor.setStartPointNow();
+      changesStreaming.setStartPointNow();
+      updateChangesForTests();
+      changes.setEndPointNow();
+      changesWithDefaultExecutor.setEndPointNow();
+      changesWithExecutor.setEndPointNow();
+      changesStreaming.setEndPointNow();
+
+      for (Changes parallelChanges : new Changes[] { changesWithDefaultExecutor, changesWithExecutor,
+                                                     changesStreaming }) {
+        assertThat(getTablesName(parallelChanges.getTablesAtStartPointList()))
+                .containsExactly(getTablesName(changes.getTablesAtStartPointList()));
+        assertThat(getTablesName(parallelChanges.getTablesAtEndPointList()))
+                .containsExactly(getTablesName(changes.getTablesAtEndPointList()));
+        List<Change> changesList = changes.getChangesList();
+        List<Change> parallelChangesList = parallelChanges.getChangesList();
+        assertThat(parallelChangesList).hasSameSizeAs(changesList);
+        for (int index = 0; index < changesList.size(); index++) {
+          assertThat(parallelChangesList.get(index).getDataName()).isEqualTo(changesList.get(index).getDataName());
+          assertThat(parallelChangesList.get(index).getChangeType())
+                  .isEqualTo(changesList.get(index).getChangeType());
+        }
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  /**
+   * Returns the names of the tables.
+   *
+   * @param tablesList The list of tables.
+   * @return The names of the tables.
+   */
+  private static String[] getTablesName(List<Table> tablesList) {
+    String[] tablesName = new String[tablesList.size()];
+    for (int index = 0; index < tablesName.length; index++) {
+      tablesName[index] = tablesList.get(index).getName();
+    }
+    return tablesName;
+  }
+}
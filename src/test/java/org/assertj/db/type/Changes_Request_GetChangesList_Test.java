@@ -285,4 +285,28 @@ public class Changes_Request_GetChangesList_Test extends AbstractTest {
     assertThat(change.getRowAtEndPoint()).isNull();
   }
 
+  /**
+   * This method test when there are identical rows without primary key.
+   *
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_when_there_are_identical_rows_without_primary_key() throws SQLException {
+    Changes changes = new Changes(new Request(dataSource, "select var2 from test"));
+    changes.setStartPointNow();
+    update("update test set var2 = true where var1 = 10");
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(2);
+    Change change = changes.getChangesList().get(0);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(change.getColumnsNameList()).containsExactly("VAR2");
+    assertThat(change.getRowAtStartPoint()).isNull();
+    assertThat(change.getRowAtEndPoint().getValuesList().get(0).getValue()).isEqualTo(true);
+    change = changes.getChangesList().get(1);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.DELETION);
+    assertThat(change.getRowAtStartPoint().getValuesList().get(0).getValue()).isEqualTo(false);
+    assertThat(change.getRowAtEndPoint()).isNull();
+  }
 }
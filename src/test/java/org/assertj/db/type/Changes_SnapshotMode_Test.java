@@ -0,0 +1,93 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Tests on the modes of reading of the tables by {@code Changes}.
+ *
+ * @author Régis Pouiller
+ */
+public class Changes_SnapshotMode_Test extends AbstractTest {
+
+  /**
+   * This method tests the default values and the setters.
+   */
+  @Test
+  public void test_snapshot_mode_and_transaction_isolation() {
+    Changes changes = new Changes(source);
+    assertThat(changes.getSnapshotMode()).isEqualTo(SnapshotMode.CONNECTION_PER_TABLE);
+    assertThat(changes.getTransactionIsolation()).isEqualTo(Connection.TRANSACTION_REPEATABLE_READ);
+
+    assertThat(changes.setSnapshotMode(SnapshotMode.SINGLE_TRANSACTION)
+                      .setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE)).isSameAs(changes);
+    assertThat(changes.getSnapshotMode()).isEqualTo(SnapshotMode.SINGLE_TRANSACTION);
+    assertThat(changes.getTransactionIsolation()).isEqualTo(Connection.TRANSACTION_SERIALIZABLE);
+  }
+
+  /**
+   * This method should fail because the snapshot mode is {@code null}.
+   */
+  @Test
+  public void should_fail_because_snapshot_mode_is_null() {
+    try {
+      new Changes(source).setSnapshotMode(null);
+      fail("An exception must be raised");
+    } catch (NullPointerException e) {
+      assertThat(e.getMessage()).isEqualTo("The snapshot mode must be not null");
+    }
+  }
+
+  /**
+   * This method tests that the single transaction mode finds the same changes than the default mode.
+   */
+  @Test
+  @NeedReload
+  public void test_single_transaction_mode_finds_the_same_changes() {
+    Changes changes = new Changes(source);
+    Changes changesInTransaction = new Changes(source).setSnapshotMode(SnapshotMode.SINGLE_TRANSACTION);
+    Changes changesStreamingInTransaction = new Changes(dataSource).setSnapshotMode(SnapshotMode.SINGLE_TRANSACTION)
+                                                                   .setComparisonMode(ComparisonMode.STREAMING)
+                                                                   .setParallelism(4);
+    changes.setStartPointNow();
+    changesInTransaction.setStartPointNow();
+    changesStreamingInTransaction.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+    changesInTransaction.setEndPointNow();
+    changesStreamingInTransaction.setEndPointNow();
+
+    for (Changes changesToCompare : new Changes[] { changesInTransaction, changesStreamingInTransaction }) {
+      List<Change> changesList = changes.getChangesList();
+      List<Change> changesListToCompare = changesToCompare.getChangesList();
+      assertThat(changesListToCompare).hasSameSizeAs(changesList);
+      for (int index = 0; index < changesList.size(); index++) {
+        assertThat(changesListToCompare.get(index).getDataName()).isEqualTo(changesList.get(index).getDataName());
+        assertThat(changesListToCompare.get(index).getChangeType()).isEqualTo(changesList.get(index).getChangeType());
+      }
+    }
+
+    // The tables no longer use the connection of the transaction
+    Table table = changesInTransaction.getTablesAtEndPointList().get(0);
+    assertThat(new Table(source, table.getName()).getRowsList()).hasSameSizeAs(table.getRowsList());
+  }
+}
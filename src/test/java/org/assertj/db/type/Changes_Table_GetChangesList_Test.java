@@ -25,6 +25,7 @@ import java.sql.Timestamp;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 
 /**
  * Tests on the list of changes on tables.
@@ -290,4 +291,25 @@ public class Changes_Table_GetChangesList_Test extends AbstractTest {
     assertThat(change.getRowAtStartPoint().getValuesList().get(3).getValue()).isEqualTo("Dr Grace Augustine");
     assertThat(change.getRowAtEndPoint()).isNull();
   }
+
+  /**
+   * This method should fail because the list of the changes is not modifiable.
+   *
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void should_fail_because_the_list_of_changes_is_not_modifiable() throws SQLException {
+    Changes changes = new Changes(new Table(source, "interpretation"));
+    changes.setStartPointNow();
+    update("delete interpretation where id = 3");
+    changes.setEndPointNow();
+
+    try {
+      changes.getChangesList().clear();
+      fail("An exception must be raised");
+    } catch (UnsupportedOperationException e) {
+      assertThat(changes.getChangesList()).hasSize(1);
+    }
+  }
 }
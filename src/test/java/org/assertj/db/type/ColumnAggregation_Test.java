@@ -0,0 +1,116 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on the {@code ColumnAggregation} class.
+ *
+ * @author Régis Pouiller
+ */
+public class ColumnAggregation_Test extends AbstractTest {
+
+  /**
+   * This method tests that the aggregations are done without loading the rows.
+   */
+  @Test
+  public void test_aggregation_without_loading() {
+    Table table = new Table(source, "movie");
+    Column column = table.getColumn(2);
+    Assertions.assertThat(column.getName()).isEqualTo("YEAR");
+    Assertions.assertThat(table.isRowsListLoaded()).isFalse();
+
+    ColumnAggregation aggregation = ColumnAggregation.of(column);
+    Assertions.assertThat(aggregation).isNotNull();
+    Assertions.assertThat(aggregation.getRowsCount()).isEqualTo(3);
+    Assertions.assertThat(aggregation.hasOnlyNotNullValues()).isTrue();
+    Assertions.assertThat(aggregation.hasOnlyNullValues()).isFalse();
+    Assertions.assertThat(aggregation.containsValues(new Object[] { 2009, 1979, 2004 })).isTrue();
+    Assertions.assertThat(aggregation.containsValues(new Object[] { 2009, 1979, 2004 }, ValueType.NUMBER)).isTrue();
+    Assertions.assertThat(aggregation.containsValues(new Object[] { 2009, 1979, 2004 }, ValueType.TEXT)).isFalse();
+    Assertions.assertThat(aggregation.containsValues(new Object[] { 2009, 1979, 1979 })).isFalse();
+    Assertions.assertThat(aggregation.containsValues(new Object[] { 2009, 1979 })).isFalse();
+    Assertions.assertThat(column.getRowsCount()).isEqualTo(3);
+    Assertions.assertThat(column.isProvedWithOnlyNotNullValues()).isTrue();
+    Assertions.assertThat(column.isProvedWithOnlyNullValues()).isFalse();
+    Assertions.assertThat(column.isProvedToContainValues(new Object[] { 2009, 1979, 2004 })).isTrue();
+    Assertions.assertThat(table.isRowsListLoaded()).isFalse();
+    Assertions.assertThat(column.isValuesListLoaded()).isFalse();
+
+    Assertions.assertThat(column.getValuesList()).hasSize(3);
+    Assertions.assertThat(table.isRowsListLoaded()).isTrue();
+    Assertions.assertThat(ColumnAggregation.of(column)).isNull();
+    Assertions.assertThat(column.getRowsCount()).isEqualTo(3);
+    Assertions.assertThat(column.isProvedWithOnlyNotNullValues()).isFalse();
+  }
+
+  /**
+   * This method tests that the texts are not proved by the database.
+   */
+  @Test
+  public void test_texts_are_not_proved() {
+    Table table = new Table(source, "movie");
+    ColumnAggregation aggregation = ColumnAggregation.of(table.getColumn(1));
+    Assertions.assertThat(aggregation.hasOnlyNotNullValues()).isTrue();
+    Assertions.assertThat(aggregation.containsValues(new Object[] { "Alien", "The Village", "Avatar" })).isFalse();
+  }
+
+  /**
+   * This method tests that there is no aggregation on a request.
+   */
+  @Test
+  public void test_no_aggregation_on_request() {
+    Request request = new Request(source, "select * from movie");
+    Assertions.assertThat(ColumnAggregation.of(request.getColumn(2))).isNull();
+  }
+
+  /**
+   * This method tests that the assertions on a column of a table pass without loading the rows.
+   */
+  @Test
+  @NeedReload
+  public void test_assertions_without_loading() {
+    update("update movie set movie_imdb = null");
+    Table table = new Table(source, "movie");
+    assertThat(table).column("year").hasNumberOfRows(3).hasOnlyNotNullValues().containsValues(1979, 2004, 2009)
+                     .column("movie_imdb").hasOnlyNullValues().containsValues((Object) null, null, null);
+    Assertions.assertThat(table.isRowsListLoaded()).isFalse();
+  }
+
+  /**
+   * This method tests that a failing assertion is done on the rows loaded in memory.
+   */
+  @Test
+  public void should_fail_with_the_values_loaded() {
+    Table table = new Table(source, "movie");
+    try {
+      assertThat(table).column("year").containsValues(1979, 2004, 2004);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Column at index 2 (column name : YEAR) of MOVIE table] %n"
+                                                                    + "Expecting:%n"
+                                                                    + "  <[1979, 2004, 2009]>%n"
+                                                                    + "to contain: %n"
+                                                                    + "  <[1979, 2004, 2004]>%n"
+                                                                    + " (parameter <2004> at index 2 is not found)"));
+    }
+    Assertions.assertThat(table.isRowsListLoaded()).isTrue();
+  }
+}
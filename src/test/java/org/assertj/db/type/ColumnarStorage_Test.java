@@ -0,0 +1,80 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.type.lettercase.LetterCase;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the {@code ColumnarStorage} class.
+ *
+ * @author Régis Pouiller
+ */
+public class ColumnarStorage_Test {
+
+  /**
+   * This method tests that the objects are kept in the stores.
+   */
+  @Test
+  public void test_objects_are_kept() {
+    List<String> columnsNameList = Arrays.asList("ID", "NAME", "VALUE", "RATE", "NUMBER", "MIXED");
+    ColumnarStorage storage = new ColumnarStorage(columnsNameList, LetterCase.COLUMN_DEFAULT);
+    Object[][] rows = {
+            { 1L, null, null, 1.5, 1, 1L },
+            { 2L, "text", new BigDecimal("1.10"), null, null, 2 },
+            { null, "text", null, Double.NaN, 3, "3" },
+            { 4L, "other", new BigDecimal("2"), -0.0, Integer.MAX_VALUE, null },
+    };
+    for (int i = 0; i < 100; i++) {
+      for (Object[] row : rows) {
+        storage.addRow(row);
+      }
+    }
+    storage.trimToSize();
+
+    assertThat(storage.getRowsCount()).isEqualTo(400);
+    for (int rowIndex = 0; rowIndex < 400; rowIndex++) {
+      Object[] row = rows[rowIndex % rows.length];
+      List<Value> valuesList = storage.getRowValues(rowIndex);
+      assertThat(valuesList).hasSize(columnsNameList.size());
+      for (int columnIndex = 0; columnIndex < row.length; columnIndex++) {
+        Value value = valuesList.get(columnIndex);
+        assertThat(value.getColumnName()).isEqualTo(columnsNameList.get(columnIndex));
+        assertThat(value.getValue()).isEqualTo(row[columnIndex]);
+        if (row[columnIndex] != null) {
+          assertThat(value.getValue()).isInstanceOf(row[columnIndex].getClass());
+        }
+      }
+    }
+  }
+
+  /**
+   * This method tests a column with only {@code null} values.
+   */
+  @Test
+  public void test_column_with_only_null_values() {
+    ColumnarStorage storage = new ColumnarStorage(Arrays.asList("ID"), LetterCase.COLUMN_DEFAULT);
+    storage.addRow(new Object[] { null });
+    storage.addRow(new Object[] { null });
+    storage.trimToSize();
+
+    assertThat(storage.getRowValues(1).get(0).getValue()).isNull();
+    assertThat(storage.getRowValues(1).get(0).getValueType()).isEqualTo(ValueType.NOT_IDENTIFIED);
+  }
+}
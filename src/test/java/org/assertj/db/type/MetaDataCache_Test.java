@@ -0,0 +1,149 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.lettercase.CaseComparisons;
+import org.assertj.db.type.lettercase.CaseConversions;
+import org.assertj.db.type.lettercase.LetterCase;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Tests on the cache of the metadata.
+ *
+ * @author Régis Pouiller
+ */
+public class MetaDataCache_Test extends AbstractTest {
+
+  /**
+   * Drops the table created for the tests and disables the cache.
+   */
+  @After
+  public void tearDown() {
+    update("drop table if exists cache_test");
+    MetaDataCache.disable();
+  }
+
+  /**
+   * This method tests that the cache is disabled by default and that the metadata are read each time.
+   *
+   * @throws SQLException
+   */
+  @Test
+  public void test_without_cache() throws SQLException {
+    assertThat(MetaDataCache.isEnabled()).isFalse();
+    Table table = new Table(source, "movie");
+    assertThat(MetaDataCache.getTablesNameList(table, null)).doesNotContain("CACHE_TEST");
+
+    update("create table cache_test(id int primary key, name varchar(10))");
+    assertThat(MetaDataCache.getTablesNameList(table, null)).contains("CACHE_TEST");
+    assertThat(new Table(source, "cache_test").getColumnsNameList()).containsExactly("ID", "NAME");
+  }
+
+  /**
+   * This method tests the prefetch and the invalidation of the cache.
+   *
+   * @throws SQLException
+   */
+  @Test
+  public void test_prefetch_and_invalidate() throws SQLException {
+    MetaDataCache.enable();
+    MetaDataCache.prefetch(source);
+    Table table = new Table(source, "movie");
+    assertThat(MetaDataCache.getTablesNameList(table, null)).contains("MOVIE", "ACTOR", "INTERPRETATION")
+                                                            .doesNotContain("CACHE_TEST");
+    assertThat(MetaDataCache.getColumnsNameList(table, null, "MOVIE")).containsExactly("ID", "TITLE", "YEAR",
+                                                                                       "MOVIE_IMDB");
+    assertThat(MetaDataCache.getPksNameList(table, null, "MOVIE")).containsExactly("ID");
+
+    update("create table cache_test(id int primary key, name varchar(10))");
+    assertThat(MetaDataCache.getTablesNameList(table, null)).doesNotContain("CACHE_TEST");
+
+    MetaDataCache.invalidate(source);
+    assertThat(MetaDataCache.getTablesNameList(table, null)).contains("CACHE_TEST");
+    Table tableCacheTest = new Table(source, "cache_test");
+    assertThat(tableCacheTest.getColumnsNameList()).containsExactly("ID", "NAME");
+    assertThat(tableCacheTest.getPksNameList()).containsExactly("ID");
+  }
+
+  /**
+   * This method tests that the prefetched names of the columns are found with the name of the table converted with the
+   * letter case.
+   *
+   * @throws SQLException
+   */
+  @Test
+  public void test_prefetch_with_letter_case() throws SQLException {
+    update("create table cache_test(id int primary key, name varchar(10))");
+    LetterCase letterCase = LetterCase.getLetterCase(CaseConversions.LOWER, CaseComparisons.IGNORE);
+    Source sourceWithLetterCase = new SourceWithLetterCase("jdbc:h2:mem:test", "sa", "", letterCase, letterCase,
+                                                           letterCase);
+    MetaDataCache.enable();
+    MetaDataCache.prefetch(sourceWithLetterCase);
+
+    update("alter table cache_test add column other int");
+    Table table = new Table(sourceWithLetterCase, "CACHE_TEST");
+    assertThat(table.getName()).isEqualTo("cache_test");
+    assertThat(table.getColumnsNameListFromMetaData()).containsExactly("id", "name");
+  }
+
+  /**
+   * This method tests that nothing is kept in the cache by the prefetch when the cache is disabled.
+   *
+   * @throws SQLException
+   */
+  @Test
+  public void test_prefetch_when_disabled() throws SQLException {
+    MetaDataCache.prefetch(source);
+    MetaDataCache.enable();
+
+    update("create table cache_test(id int primary key, name varchar(10))");
+    assertThat(MetaDataCache.getTablesNameList(new Table(source, "movie"), null)).contains("CACHE_TEST");
+  }
+
+  /**
+   * This method tests that the cache is used for a {@code DataSource}.
+   *
+   * @throws SQLException
+   */
+  @Test
+  public void test_cache_with_data_source() throws SQLException {
+    MetaDataCache.enable();
+    Table table = new Table(dataSource, "movie");
+    assertThat(table.getPksNameList()).containsExactly("ID");
+
+    update("create table cache_test(id int primary key, name varchar(10))");
+    assertThat(MetaDataCache.getTablesNameList(table, null)).doesNotContain("CACHE_TEST");
+    MetaDataCache.invalidate();
+    assertThat(MetaDataCache.getTablesNameList(table, null)).contains("CACHE_TEST");
+  }
+
+  /**
+   * This method should fail because the source is {@code null}.
+   */
+  @Test
+  public void should_fail_because_source_is_null() {
+    try {
+      MetaDataCache.invalidate((Source) null);
+      fail("An exception must be raised");
+    } catch (NullPointerException e) {
+      assertThat(e.getMessage()).isEqualTo("source must be not null");
+    }
+  }
+}
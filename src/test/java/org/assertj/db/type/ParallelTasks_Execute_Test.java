@@ -0,0 +1,152 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Tests on the {@code execute} method of {@code ParallelTasks}.
+ *
+ * @author Régis Pouiller
+ */
+public class ParallelTasks_Execute_Test extends AbstractTest {
+
+  /**
+   * This method tests that the results are in the order of the indexes.
+   */
+  @Test
+  public void test_execute() {
+    List<Integer> resultsList = ParallelTasks.execute(5, new ParallelTasks.Task<Integer>() {
+      @Override
+      public Integer execute(int index) {
+        return index * 2;
+      }
+    }, 3, null);
+    assertThat(resultsList).containsExactly(0, 2, 4, 6, 8);
+  }
+
+  /**
+   * This method tests that a failure is thrown after the end of a slow task and that no other task is started.
+   */
+  @Test
+  public void should_fail_after_the_end_of_the_slow_task() {
+    should_fail_after_the_end_of_the_slow_task(null);
+
+    ExecutorService executorService = Executors.newFixedThreadPool(2);
+    try {
+      should_fail_after_the_end_of_the_slow_task(executorService);
+      assertThat(executorService.isShutdown()).isFalse();
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  /**
+   * This method tests that the failures of the other tasks are added as suppressed.
+   */
+  @Test
+  public void should_fail_with_the_other_failures_as_suppressed() {
+    final CountDownLatch slowTaskStarted = new CountDownLatch(1);
+    try {
+      ParallelTasks.execute(2, new ParallelTasks.Task<Void>() {
+        @Override
+        public Void execute(int index) {
+          if (index == 0) {
+            await(slowTaskStarted);
+          } else {
+            slowTaskStarted.countDown();
+            sleep(200);
+          }
+          throw new AssertJDBException("Failure of the table at index %s", index);
+        }
+      }, 2, null);
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getSuppressed()).hasSize(1);
+      assertThat(new String[] { e.getMessage(), e.getSuppressed()[0].getMessage() })
+              .containsOnly("Failure of the table at index 0", "Failure of the table at index 1");
+    }
+  }
+
+  /**
+   * Executes four tasks with two workers : the first task fails while the second task is slow.
+   *
+   * @param executorService The executor (can be {@code null}).
+   */
+  private static void should_fail_after_the_end_of_the_slow_task(ExecutorService executorService) {
+    final CountDownLatch slowTaskStarted = new CountDownLatch(1);
+    final AtomicBoolean slowTaskEnded = new AtomicBoolean();
+    final AtomicInteger startedTasksCount = new AtomicInteger();
+    try {
+      ParallelTasks.execute(4, new ParallelTasks.Task<Void>() {
+        @Override
+        public Void execute(int index) {
+          startedTasksCount.incrementAndGet();
+          if (index == 0) {
+            await(slowTaskStarted);
+            throw new AssertJDBException("Failure of the table at index %s", index);
+          }
+          if (index == 1) {
+            slowTaskStarted.countDown();
+            sleep(500);
+            slowTaskEnded.set(true);
+          }
+          return null;
+        }
+      }, 2, executorService);
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("Failure of the table at index 0");
+    }
+    assertThat(slowTaskEnded.get()).isTrue();
+    assertThat(startedTasksCount.get()).isEqualTo(2);
+  }
+
+  /**
+   * Waits for a latch.
+   *
+   * @param latch The latch.
+   */
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Sleeps.
+   *
+   * @param millis The duration in milliseconds.
+   */
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+}
@@ -0,0 +1,152 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Tests on the {@code PooledSource}.
+ *
+ * @author Régis Pouiller
+ */
+public class PooledSource_Test extends AbstractTest {
+
+  /**
+   * This method tests that the connections are reused.
+   *
+   * @throws SQLException
+   */
+  @Test
+  public void test_connections_are_reused() throws SQLException {
+    try (PooledSource pooledSource = new PooledSource("jdbc:h2:mem:test", "sa", "", 2)) {
+      assertThat(pooledSource.getMaxIdleConnections()).isEqualTo(2);
+      assertThat(pooledSource.getIdleConnectionsCount()).isEqualTo(0);
+
+      Table table = new Table(pooledSource, "movie");
+      assertThat(table.getRowsList()).hasSize(3);
+      assertThat(pooledSource.getIdleConnectionsCount()).isEqualTo(1);
+      assertThat(new Table(pooledSource, "actor").getRowsList()).hasSize(3);
+      assertThat(pooledSource.getIdleConnectionsCount()).isEqualTo(1);
+
+      Connection connection1 = pooledSource.getConnection();
+      Connection connection2 = pooledSource.getConnection();
+      Connection connection3 = pooledSource.getConnection();
+      assertThat(pooledSource.getIdleConnectionsCount()).isEqualTo(0);
+      connection1.close();
+      connection2.close();
+      connection3.close();
+      assertThat(pooledSource.getIdleConnectionsCount()).isEqualTo(2);
+
+      pooledSource.close();
+      assertThat(pooledSource.getIdleConnectionsCount()).isEqualTo(0);
+    }
+  }
+
+  /**
+   * This method tests that a released connection can not be used.
+   *
+   * @throws SQLException
+   */
+  @Test
+  public void test_released_connection_can_not_be_used() throws SQLException {
+    try (PooledSource pooledSource = new PooledSource("jdbc:h2:mem:test", "sa", "", 1)) {
+      Connection connection = pooledSource.getConnection();
+      connection.setAutoCommit(false);
+      connection.close();
+      connection.close();
+      assertThat(connection.isClosed()).isTrue();
+      try {
+        connection.createStatement();
+        fail("An exception must be raised");
+      } catch (SQLException e) {
+        assertThat(e.getMessage()).isEqualTo("The connection is closed");
+      }
+
+      try (Connection reusedConnection = pooledSource.getConnection()) {
+        assertThat(reusedConnection.getAutoCommit()).isTrue();
+      }
+    }
+  }
+
+  /**
+   * This method tests that the settings of a connection at its creation are restored when it is released.
+   *
+   * @throws SQLException
+   */
+  @Test
+  public void test_settings_are_restored_when_the_connection_is_released() throws SQLException {
+    update("create schema if not exists pooled_test");
+    try (PooledSource pooledSource = new PooledSource("jdbc:h2:mem:test", "sa", "", 1)) {
+      String schema;
+      int transactionIsolation;
+      try (Connection connection = pooledSource.getConnection()) {
+        schema = connection.getSchema();
+        transactionIsolation = connection.getTransactionIsolation();
+        connection.setSchema("POOLED_TEST");
+        connection.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+        assertThat(connection.getSchema()).isEqualTo("POOLED_TEST");
+        assertThat(connection.getTransactionIsolation()).isEqualTo(Connection.TRANSACTION_SERIALIZABLE);
+      }
+
+      try (Connection reusedConnection = pooledSource.getConnection()) {
+        assertThat(pooledSource.getIdleConnectionsCount()).isEqualTo(0);
+        assertThat(reusedConnection.getSchema()).isEqualTo(schema);
+        assertThat(reusedConnection.getTransactionIsolation()).isEqualTo(transactionIsolation);
+      }
+    } finally {
+      update("drop schema if exists pooled_test");
+    }
+  }
+
+  /**
+   * This method tests that a connection released after the closing of the source is closed and that the source can
+   * not be used after its closing.
+   *
+   * @throws SQLException
+   */
+  @Test
+  public void test_source_can_not_be_used_after_closing() throws SQLException {
+    PooledSource pooledSource = new PooledSource("jdbc:h2:mem:test", "sa", "", 1);
+    Connection connection = pooledSource.getConnection();
+    pooledSource.close();
+    connection.close();
+    assertThat(pooledSource.getIdleConnectionsCount()).isEqualTo(0);
+
+    try {
+      pooledSource.getConnection();
+      fail("An exception must be raised");
+    } catch (SQLException e) {
+      assertThat(e.getMessage()).isEqualTo("The source is closed");
+    }
+  }
+
+  /**
+   * This method should fail because the maximum number of idle connections is less than 1.
+   */
+  @Test
+  public void should_fail_because_max_idle_connections_is_less_than_one() {
+    try {
+      new PooledSource("jdbc:h2:mem:test", "sa", "", 0);
+      fail("An exception must be raised");
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage()).isEqualTo("The maximum number of idle connections must be greater than or equal to 1");
+    }
+  }
+}
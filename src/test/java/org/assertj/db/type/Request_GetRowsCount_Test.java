@@ -0,0 +1,55 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the {@code getRowsCount} method of {@code Request}.
+ *
+ * @author Régis Pouiller
+ */
+public class Request_GetRowsCount_Test extends AbstractTest {
+
+  /**
+   * This method tests that the rows are counted without being loaded.
+   */
+  @Test
+  @NeedReload
+  public void test_rows_count_without_loading() {
+    Request request = new Request(source, "select * from movie where year > ?", 2000);
+    assertThat(request.getRowsCount()).isEqualTo(2);
+
+    update("insert into movie values(4, 'Ghostbusters', 2016, '30B443AE-C0C9-4790-9BEC-CE1380808435')");
+    // The rows were not loaded by the counting
+    assertThat(request.getRowsList()).hasSize(3);
+    assertThat(request.getRowsCount()).isEqualTo(3);
+
+    update("delete from movie where id = 4");
+    // The rows are loaded so they are counted in memory
+    assertThat(request.getRowsCount()).isEqualTo(3);
+  }
+
+  /**
+   * This method tests that the rows are loaded when the request can not be counted by the database.
+   */
+  @Test
+  public void test_rows_count_with_loading() {
+    Request request = new Request(source, "call 1 + 1");
+    assertThat(request.getRowsCount()).isEqualTo(1);
+  }
+}
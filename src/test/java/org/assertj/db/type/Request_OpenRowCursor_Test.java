@@ -0,0 +1,49 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the {@code openRowCursor} method of {@code Request}.
+ *
+ * @author Régis Pouiller
+ */
+public class Request_OpenRowCursor_Test extends AbstractTest {
+
+  /**
+   * This method tests the cursor on the rows of a request with parameters.
+   */
+  @Test
+  public void test_row_cursor() {
+    Request request = new Request(source, "select title from movie where year > ? order by year", 2000)
+            .setFetchSize(1);
+
+    List<Object> titlesList = new ArrayList<>();
+    try (RowCursor cursor = request.openRowCursor()) {
+      while (cursor.hasNext()) {
+        Row row = cursor.next();
+        assertThat(row.getColumnsNameList()).containsExactly("TITLE");
+        titlesList.add(row.getColumnValue(0).getValue());
+      }
+    }
+    assertThat(titlesList).containsExactly("The Village", "Avatar");
+    assertThat(request.isRowsListLoaded()).isFalse();
+  }
+}
@@ -0,0 +1,91 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.lettercase.LetterCase;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the reading of the values with {@code ResultSetReader}.
+ *
+ * @author Régis Pouiller
+ */
+public class ResultSetReader_Test extends AbstractTest {
+
+  /**
+   * This method tests the extractor corresponding to the JDBC types.
+   */
+  @Test
+  public void test_extractor_of_type() {
+    assertThat(ResultSetReader.Extractor.of(Types.DATE, true)).isEqualTo(ResultSetReader.Extractor.DATE);
+    assertThat(ResultSetReader.Extractor.of(Types.TIME, true)).isEqualTo(ResultSetReader.Extractor.TIME);
+    assertThat(ResultSetReader.Extractor.of(Types.TIMESTAMP, true)).isEqualTo(ResultSetReader.Extractor.TIMESTAMP);
+    assertThat(ResultSetReader.Extractor.of(Types.BLOB, true)).isEqualTo(ResultSetReader.Extractor.BYTES);
+    assertThat(ResultSetReader.Extractor.of(Types.CLOB, true)).isEqualTo(ResultSetReader.Extractor.STRING);
+    assertThat(ResultSetReader.Extractor.of(Types.BIGINT, true)).isEqualTo(ResultSetReader.Extractor.LONG);
+    assertThat(ResultSetReader.Extractor.of(Types.BIGINT, false)).isEqualTo(ResultSetReader.Extractor.OBJECT);
+    assertThat(ResultSetReader.Extractor.of(Types.DOUBLE, true)).isEqualTo(ResultSetReader.Extractor.DOUBLE);
+    assertThat(ResultSetReader.Extractor.of(Types.FLOAT, true)).isEqualTo(ResultSetReader.Extractor.DOUBLE);
+    assertThat(ResultSetReader.Extractor.of(Types.BOOLEAN, true)).isEqualTo(ResultSetReader.Extractor.BOOLEAN);
+    assertThat(ResultSetReader.Extractor.of(Types.INTEGER, true)).isEqualTo(ResultSetReader.Extractor.OBJECT);
+    assertThat(ResultSetReader.Extractor.of(Types.VARCHAR, true)).isEqualTo(ResultSetReader.Extractor.OBJECT);
+  }
+
+  /**
+   * This method tests the reading of the values (including the {@code null} values).
+   */
+  @Test
+  public void test_read_values() throws SQLException {
+    List<String> columnsNameList = Arrays.asList("VAR12", "VAR2", "VAR5", "VAR7");
+    try (Connection connection = dataSource.getConnection()) {
+      try (Statement statement = connection.createStatement()) {
+        try (ResultSet resultSet = statement.executeQuery("select var2, var5, var7, var12 from test2 order by var1 nulls last")) {
+          ResultSetReader reader = new ResultSetReader(resultSet, columnsNameList, LetterCase.COLUMN_DEFAULT);
+
+          assertThat(resultSet.next()).isTrue();
+          List<Value> valuesList = reader.readValues();
+          assertThat(valuesList).hasSize(4);
+          assertThat(valuesList.get(0).getColumnName()).isEqualTo("VAR12");
+          assertThat(valuesList.get(0).getValue()).isEqualTo("text");
+          assertThat(valuesList.get(1).getColumnName()).isEqualTo("VAR2");
+          assertThat(valuesList.get(1).getValue()).isEqualTo(true);
+          assertThat(valuesList.get(2).getColumnName()).isEqualTo("VAR5");
+          assertThat(valuesList.get(2).getValue()).isEqualTo(4L);
+          assertThat(valuesList.get(3).getColumnName()).isEqualTo("VAR7");
+          assertThat(valuesList.get(3).getValue()).isEqualTo(7.8f);
+
+          assertThat(resultSet.next()).isTrue();
+          valuesList = reader.readValues();
+          assertThat(valuesList).hasSize(4);
+          assertThat(valuesList.get(0).getValue()).isNull();
+          assertThat(valuesList.get(1).getValue()).isNull();
+          assertThat(valuesList.get(2).getValue()).isNull();
+          assertThat(valuesList.get(3).getValue()).isNull();
+
+          assertThat(resultSet.next()).isFalse();
+        }
+      }
+    }
+  }
+}
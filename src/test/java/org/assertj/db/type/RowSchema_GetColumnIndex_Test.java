@@ -0,0 +1,81 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.lettercase.CaseComparisons;
+import org.assertj.db.type.lettercase.CaseConversions;
+import org.assertj.db.type.lettercase.LetterCase;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the index of a column found by name in {@code RowSchema}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class RowSchema_GetColumnIndex_Test extends AbstractTest {
+
+  /**
+   * This method tests that the names are kept converted with the letter case and only when a column is found.
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_get_column_index_with_ignored_case() throws Exception {
+    LetterCase letterCase = LetterCase.getLetterCase(CaseConversions.UPPER, CaseComparisons.IGNORE);
+    RowSchema schema = new RowSchema(null, Arrays.asList("COL1", "COL2"), letterCase, letterCase);
+
+    assertThat(schema.getColumnIndex("col2")).isEqualTo(1);
+    assertThat(schema.getColumnIndex("Col2")).isEqualTo(1);
+    assertThat(schema.getColumnIndex("COL2")).isEqualTo(1);
+    assertThat(schema.getColumnIndex("unknown1")).isEqualTo(-1);
+    assertThat(schema.getColumnIndex("unknown2")).isEqualTo(-1);
+    assertThat(getColumnsIndexesMap(schema)).containsOnlyKeys("COL2");
+  }
+
+  /**
+   * This method tests that a name which is converted like the name of a column is not found if the comparison is
+   * strict.
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_get_column_index_with_strict_case() throws Exception {
+    LetterCase letterCase = LetterCase.getLetterCase(CaseConversions.UPPER, CaseComparisons.STRICT);
+    RowSchema schema = new RowSchema(null, Arrays.asList("COL1", "COL2"), letterCase, letterCase);
+
+    assertThat(schema.getColumnIndex("COL1")).isEqualTo(0);
+    assertThat(schema.getColumnIndex("col1")).isEqualTo(-1);
+    assertThat(getColumnsIndexesMap(schema)).containsOnlyKeys("COL1");
+  }
+
+  /**
+   * Returns the indexes of the columns kept by the schema.
+   *
+   * @param schema The schema.
+   * @return The indexes of the columns by name.
+   * @throws Exception Exception
+   */
+  private static Map<?, ?> getColumnsIndexesMap(RowSchema schema) throws Exception {
+    Field field = RowSchema.class.getDeclaredField("columnsIndexesMap");
+    field.setAccessible(true);
+    return (Map<?, ?>) field.get(schema);
+  }
+}
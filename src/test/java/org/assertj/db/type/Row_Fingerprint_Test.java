@@ -0,0 +1,90 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the fingerprint of {@code Row}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Row_Fingerprint_Test extends AbstractTest {
+
+  /**
+   * This method tests that the rows with equal values have the same fingerprint.
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_fingerprint_of_rows_with_equal_values() throws Exception {
+    Row row = getRow(Arrays.asList("col1"), Arrays.asList("col1", "col2", "col3"),
+                     Arrays.asList(getValue(null, 1), getValue(null, "val"), getValue(null, null)));
+    Row equalRow = getRow(Arrays.asList("col2"), Arrays.asList("col1", "col2", "col3"),
+                          Arrays.asList(getValue(null, new BigDecimal("1.0")), getValue(null, "val"),
+                                        getValue(null, null)));
+    Row otherRow = getRow(Arrays.asList("col1"), Arrays.asList("col1", "col2", "col3"),
+                          Arrays.asList(getValue(null, 1), getValue(null, "val2"), getValue(null, null)));
+
+    assertThat(row.hasValues(equalRow)).isTrue();
+    assertThat(row.fingerprint()).isEqualTo(equalRow.fingerprint());
+    assertThat(row.fingerprint()).isEqualTo(row.fingerprint());
+    assertThat(row.hasValues(otherRow)).isFalse();
+    assertThat(row.fingerprint()).isNotEqualTo(otherRow.fingerprint());
+  }
+
+  /**
+   * This method tests that a fingerprint equal to {@code 0} is computed only once (the fingerprint of a row without
+   * value is {@code 0} : the value added to the list after the first call is not used).
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_fingerprint_equal_to_zero_is_computed_once() throws Exception {
+    List<Value> valuesList = new ArrayList<>();
+    Row row = getRow(new ArrayList<String>(), new ArrayList<String>(), valuesList);
+
+    assertThat(row.fingerprint()).isEqualTo(0L);
+    valuesList.add(getValue(null, 1));
+    assertThat(row.fingerprint()).isEqualTo(0L);
+  }
+
+  /**
+   * This method tests the fingerprints of the rows of two loadings of a table.
+   */
+  @Test
+  @NeedReload
+  public void test_fingerprint_of_the_rows_of_two_loadings() {
+    Table table = new Table(source, "movie");
+    Request request = new Request(source, "select * from movie order by id");
+    for (int index = 0; index < table.getRowsCount(); index++) {
+      assertThat(table.getRow(index).fingerprint()).isEqualTo(request.getRow(index).fingerprint());
+    }
+    assertThat(table.getRow(0).fingerprint()).isNotEqualTo(table.getRow(1).fingerprint());
+
+    update("update movie set year = 2000 where id = 1");
+    Table tableAfterUpdate = new Table(source, "movie");
+    assertThat(tableAfterUpdate.getRow(0).fingerprint()).isNotEqualTo(table.getRow(0).fingerprint());
+    assertThat(tableAfterUpdate.getRow(1).fingerprint()).isEqualTo(table.getRow(1).fingerprint());
+  }
+}
@@ -0,0 +1,77 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on the value of a primary key of {@code Row}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Row_GetPkValue_Test extends AbstractTest {
+
+  /**
+   * This method test the result when getting the value of the primary keys by index.
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_when_getpkvalue_with_two_pks() throws Exception {
+    Row row = getRow(Arrays.asList("col3", "COL1"), Arrays.asList("col1", "col2", "col3"),
+                     Arrays.asList(getValue(null, "val1"), getValue(null, 1), getValue(null, 2)));
+    assertThat(row.getPksCount()).isEqualTo(2);
+    assertThat(row.getPkValue(0).getValue()).isEqualTo(2);
+    assertThat(row.getPkValue(1).getValue()).isEqualTo("val1");
+  }
+
+  /**
+   * This method test the result when getting the value of the primary keys without primary key.
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_when_getpkvalue_without_pk() throws Exception {
+    Row row = getRow(null, Arrays.asList("col1", "col2"), Arrays.asList(getValue(null, "val1"), getValue(null, 1)));
+    assertThat(row.getPksCount()).isEqualTo(0);
+    assertThat(row.getPksValues()).isEmpty();
+    try {
+      row.getPkValue(0);
+      fail("An exception must be raised");
+    } catch (IndexOutOfBoundsException e) {
+      assertThat(e.getMessage()).isEqualTo("Index: 0, Size: 0");
+    }
+  }
+
+  /**
+   * This method test that the rows of a table share the same schema.
+   */
+  @Test
+  public void test_rows_of_table_share_the_schema() {
+    Table table = new Table(source, "movie");
+    Row row1 = table.getRow(0);
+    Row row2 = table.getRow(1);
+    assertThat(row1.getSchema()).isSameAs(row2.getSchema());
+    assertThat(row1.getPksCount()).isEqualTo(1);
+    assertThat(row1.getPkValue(0).getValue()).isEqualTo(row1.getColumnValue("id").getValue());
+    assertThat(row1.getColumnValue("ID")).isNotNull();
+    assertThat(row1.getColumnValue("unknown")).isNull();
+  }
+}
@@ -0,0 +1,189 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the {@code TableSnapshotCopy} class.
+ *
+ * @author Régis Pouiller
+ */
+public class TableSnapshotCopy_Test extends AbstractTest {
+
+  /**
+   * Drops the table created for the tests.
+   */
+  @After
+  public void tearDown() {
+    update("drop table if exists copy_test");
+  }
+
+  /**
+   * This method tests that the rows of a table without text column are compared with {@code EXCEPT}.
+   */
+  @Test
+  public void test_compared_with_except() {
+    update("create table copy_test(id int primary key, amount decimal(10,2), day date)");
+    update("insert into copy_test values(1, 10.5, '2016-05-01')");
+    update("insert into copy_test values(2, 20, '2016-05-02')");
+    update("insert into copy_test values(3, 30, '2016-05-03')");
+    Table table = new Table(source, "copy_test");
+    TableSnapshotCopy tableSnapshotCopy = new TableSnapshotCopy(table, Arrays.asList("ID"));
+    try {
+      assertThat(tableSnapshotCopy.isComparedWithExcept()).isTrue();
+      update("update copy_test set amount = 21 where id = 2");
+      update("delete from copy_test where id = 3");
+      update("insert into copy_test values(4, 40, '2016-05-04')");
+
+      List<Change> changesList = tableSnapshotCopy.getChangesList(new Table(source, "copy_test"),
+                                                                  table.getTableLetterCase(),
+                                                                  table.getColumnLetterCase(),
+                                                                  table.getPrimaryKeyLetterCase());
+      assertThat(changesList).hasSize(3);
+      assertThat(changesList.get(0).getChangeType()).isEqualTo(ChangeType.DELETION);
+      assertThat(changesList.get(0).getRowAtStartPoint().getValuesList().get(0).getValue()).isEqualTo(3);
+      assertThat(changesList.get(1).getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+      assertThat(changesList.get(1).getRowAtStartPoint().getValuesList().get(1).getValue())
+              .isEqualTo(new BigDecimal("20.00"));
+      assertThat(changesList.get(1).getRowAtEndPoint().getValuesList().get(1).getValue())
+              .isEqualTo(new BigDecimal("21.00"));
+      assertThat(changesList.get(2).getChangeType()).isEqualTo(ChangeType.CREATION);
+      assertThat(changesList.get(2).getRowAtEndPoint().getValuesList().get(0).getValue()).isEqualTo(4);
+    } finally {
+      tableSnapshotCopy.drop();
+    }
+  }
+
+  /**
+   * This method tests that the rows of a table with a text column are compared in memory : a modification of the case
+   * of a text is found even if the database compares the texts without case.
+   */
+  @Test
+  public void test_compared_in_memory_with_a_text_column() {
+    update("create table copy_test(id int primary key, name varchar_ignorecase(10))");
+    update("insert into copy_test values(1, 'abc')");
+    update("insert into copy_test values(2, 'def')");
+    Table table = new Table(source, "copy_test");
+    TableSnapshotCopy tableSnapshotCopy = new TableSnapshotCopy(table, Arrays.asList("ID"));
+    try {
+      assertThat(tableSnapshotCopy.isComparedWithExcept()).isFalse();
+      update("update copy_test set name = 'ABC' where id = 1");
+
+      List<Change> changesList = tableSnapshotCopy.getChangesList(new Table(source, "copy_test"),
+                                                                  table.getTableLetterCase(),
+                                                                  table.getColumnLetterCase(),
+                                                                  table.getPrimaryKeyLetterCase());
+      assertThat(changesList).hasSize(1);
+      assertThat(changesList.get(0).getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+      assertThat(changesList.get(0).getRowAtStartPoint().getValuesList().get(1).getValue()).isEqualTo("abc");
+      assertThat(changesList.get(0).getRowAtEndPoint().getValuesList().get(1).getValue()).isEqualTo("ABC");
+    } finally {
+      tableSnapshotCopy.drop();
+    }
+  }
+
+  /**
+   * This method tests that the transaction of the connection given by a transaction-aware data source is neither
+   * committed nor rolled back by the comparison.
+   *
+   * @throws SQLException SQL Exception
+   */
+  @Test
+  public void test_transaction_of_the_user_is_not_ended() throws SQLException {
+    update("create table copy_test(id int primary key, amount decimal(10,2))");
+    update("insert into copy_test values(1, 10.5)");
+    try (Connection connection = dataSource.getConnection()) {
+      DataSource transactionAwareDataSource = getTransactionAwareDataSource(connection);
+      Table table = new Table(transactionAwareDataSource, "copy_test");
+      TableSnapshotCopy tableSnapshotCopy = new TableSnapshotCopy(table, Arrays.asList("ID"));
+      try {
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+          statement.executeUpdate("insert into copy_test values(2, 20)");
+        }
+
+        List<Change> changesList = tableSnapshotCopy.getChangesList(new Table(transactionAwareDataSource, "copy_test"),
+                                                                    table.getTableLetterCase(),
+                                                                    table.getColumnLetterCase(),
+                                                                    table.getPrimaryKeyLetterCase());
+        assertThat(changesList).hasSize(1);
+        assertThat(changesList.get(0).getChangeType()).isEqualTo(ChangeType.CREATION);
+        assertThat(connection.getAutoCommit()).isFalse();
+
+        // The insertion is still in the transaction of the user
+        connection.rollback();
+        connection.setAutoCommit(true);
+        assertThat(new Table(source, "copy_test").getRowsList()).hasSize(1);
+      } finally {
+        tableSnapshotCopy.drop();
+      }
+    }
+  }
+
+  /**
+   * Returns a data source which always gives the same connection (like a transaction-aware data source), whose the
+   * closing does nothing.
+   *
+   * @param connection The connection.
+   * @return The data source.
+   */
+  private static DataSource getTransactionAwareDataSource(final Connection connection) {
+    final Connection unclosableConnection = (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(), new Class<?>[] { Connection.class }, new InvocationHandler() {
+              @Override
+              public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if ("close".equals(method.getName())) {
+                  return null;
+                }
+                try {
+                  return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                  throw e.getCause();
+                }
+              }
+            });
+    return (DataSource) Proxy.newProxyInstance(
+            DataSource.class.getClassLoader(), new Class<?>[] { DataSource.class }, new InvocationHandler() {
+              @Override
+              public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if ("getConnection".equals(method.getName())) {
+                  return unclosableConnection;
+                }
+                if ("equals".equals(method.getName())) {
+                  return proxy == args[0];
+                }
+                if ("hashCode".equals(method.getName())) {
+                  return System.identityHashCode(proxy);
+                }
+                throw new UnsupportedOperationException(method.getName());
+              }
+            });
+  }
+}
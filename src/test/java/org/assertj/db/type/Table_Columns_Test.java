@@ -17,6 +17,7 @@ import org.assertj.db.type.Table.Order;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 
 /**
  * Tests on the {@code Column} of {@code Table}.
@@ -105,4 +106,34 @@ public class Table_Columns_Test extends AbstractTest {
     assertThat(table.getColumnsToOrder()).hasSize(1);
     assertThat(table.getColumnsToOrder()).contains(Order.asc("TITLE"));
   }
+
+  /**
+   * This method test that the values of the columns are the values of the rows (they are not copied).
+   */
+  @Test
+  public void test_columns_are_views_on_rows() {
+    Table table = new Table(source, "movie");
+
+    Column column = table.getColumn(1);
+    assertThat(column.getValuesList()).hasSize(3);
+    for (int index = 0; index < 3; index++) {
+      assertThat(column.getRowValue(index)).isSameAs(table.getRow(index).getColumnValue(1));
+    }
+  }
+
+  /**
+   * This method should fail because the values of a column are a read-only view on the values of the rows.
+   */
+  @Test
+  public void should_fail_because_the_values_of_a_column_can_not_be_modified() {
+    Table table = new Table(source, "movie");
+
+    Column column = table.getColumn(1);
+    try {
+      column.getValuesList().remove(0);
+      fail("An exception must be raised");
+    } catch (UnsupportedOperationException e) {
+      assertThat(column.getValuesList()).hasSize(3);
+    }
+  }
 }
@@ -0,0 +1,120 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Tests on the deferred projection of {@code Table}.
+ *
+ * @author Régis Pouiller
+ */
+public class Table_DeferredProjection_Test extends AbstractTest {
+
+  /**
+   * This method tests the default value of the deferred projection.
+   */
+  @Test
+  public void test_default_deferred_projection() {
+    Table table = new Table(source, "movie");
+    assertThat(table.isDeferredProjection()).isFalse();
+    assertThat(table.setDeferredProjection(true)).isSameAs(table);
+    assertThat(table.isDeferredProjection()).isTrue();
+  }
+
+  /**
+   * This method tests that the columns which are not requested are read at the first access.
+   */
+  @Test
+  @NeedReload
+  public void test_columns_are_read_at_first_access() throws Exception {
+    Table table = new Table(source, "movie").setDeferredProjection(true);
+    Column column = table.getColumn(1);
+    assertThat(column.getRowValue(0).getValue()).isEqualTo("Alien");
+    assertThat(column.getRowValue(1).getValue()).isEqualTo("The Village");
+    assertThat(column.getRowValue(2).getValue()).isEqualTo("Avatar");
+    assertThat(table.getPksNameList()).containsExactly("ID");
+    assertThat(getLoadedColumns(table)).isEqualTo(BitSet.valueOf(new long[] { 0b11 }));
+
+    // The column YEAR is not read yet
+    update("update movie set year = 2000 where id = 1");
+    assertThat(table.getRow(0).getColumnValue("year").getValue()).isEqualTo(new BigDecimal(2000));
+    assertThat(table.getRow(1).getColumnValue("year").getValue()).isEqualTo(new BigDecimal(2004));
+    assertThat(table.getColumn(2).getRowValue(0).getValue()).isEqualTo(new BigDecimal(2000));
+  }
+
+  /**
+   * This method should fail because a row is deleted before the reading of a column.
+   */
+  @Test
+  @NeedReload
+  public void should_fail_because_a_row_is_deleted_before_the_reading_of_a_column() throws Exception {
+    Table table = new Table(source, "movie").setDeferredProjection(true);
+    assertThat(table.getColumn(1).getRowValue(2).getValue()).isEqualTo("Avatar");
+    assertThat(getLoadedColumns(table)).isEqualTo(BitSet.valueOf(new long[] { 0b11 }));
+
+    // The column YEAR is not read yet
+    update("delete from movie where id = 3");
+    try {
+      table.getRow(0).getColumnValue("year");
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("The row with primary keys [3] of MOVIE is deleted since the loading of the "
+                                           + "rows : the values of the column YEAR can not be read");
+    }
+    assertThat(table.getRow(2).getColumnValue("title").getValue()).isEqualTo("Avatar");
+  }
+
+  /**
+   * This method tests that the values are the same with and without deferred projection.
+   */
+  @Test
+  public void test_values_are_the_same() {
+    for (String name : new String[] { "actor", "interpretation", "test", "test2" }) {
+      Table table = new Table(source, name);
+      Table deferredTable = new Table(source, name).setDeferredProjection(true);
+
+      assertThat(deferredTable.getRowsList()).hasSameSizeAs(table.getRowsList());
+      assertThat(deferredTable.getPksNameList()).isEqualTo(table.getPksNameList());
+      for (int index = 0; index < table.getRowsList().size(); index++) {
+        Row row = table.getRow(index);
+        Row deferredRow = deferredTable.getRow(index);
+        assertThat(deferredRow.hasValues(row)).isTrue();
+        assertThat(row.hasValues(deferredRow)).isTrue();
+      }
+    }
+  }
+
+  /**
+   * Returns the columns which are loaded in the rows of a table loaded with a deferred projection.
+   *
+   * @param table The table.
+   * @return The indexes of the loaded columns.
+   * @throws Exception Exception
+   */
+  private static BitSet getLoadedColumns(Table table) throws Exception {
+    Field field = Table.class.getDeclaredField("loadedColumns");
+    field.setAccessible(true);
+    return (BitSet) field.get(table);
+  }
+}
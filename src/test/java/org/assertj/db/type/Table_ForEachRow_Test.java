@@ -0,0 +1,124 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on the browsing of the rows of a {@code Table} ({@code forEachRow} and {@code openRowCursor} methods).
+ *
+ * @author Régis Pouiller
+ */
+public class Table_ForEachRow_Test extends AbstractTest {
+
+  /**
+   * This method tests that the rows are visited without being loaded.
+   */
+  @Test
+  public void test_for_each_row() {
+    Table table = new Table(source, "movie").setFetchSize(2);
+    assertThat(table.getFetchSize()).isEqualTo(2);
+
+    final List<Object> titlesList = new ArrayList<>();
+    table.forEachRow(new AbstractDbData.RowVisitor() {
+      @Override
+      public boolean visit(Row row) {
+        titlesList.add(row.getColumnValue("title").getValue());
+        assertThat(row.getPksNameList()).containsExactly("ID");
+        return true;
+      }
+    });
+    assertThat(titlesList).containsOnly("Alien", "The Village", "Avatar");
+    assertThat(table.isRowsListLoaded()).isFalse();
+  }
+
+  /**
+   * This method tests that the browsing stops when the visitor returns {@code false}.
+   */
+  @Test
+  public void test_for_each_row_stops() {
+    Table table = new Table(source, "movie");
+
+    final List<Row> rowsList = new ArrayList<>();
+    table.forEachRow(new AbstractDbData.RowVisitor() {
+      @Override
+      public boolean visit(Row row) {
+        rowsList.add(row);
+        return false;
+      }
+    });
+    assertThat(rowsList).hasSize(1);
+  }
+
+  /**
+   * This method tests the cursor on the rows.
+   */
+  @Test
+  public void test_row_cursor() {
+    Table table = new Table(source, "movie");
+
+    List<Object> titlesList = new ArrayList<>();
+    try (RowCursor cursor = table.openRowCursor()) {
+      while (cursor.hasNext()) {
+        titlesList.add(cursor.next().getColumnValue("title").getValue());
+      }
+      assertThat(cursor.hasNext()).isFalse();
+      try {
+        cursor.next();
+        fail("An exception must be raised");
+      } catch (NoSuchElementException e) {
+        // Expected
+      }
+    }
+    assertThat(titlesList).containsOnly("Alien", "The Village", "Avatar");
+    assertThat(table.isRowsListLoaded()).isFalse();
+
+    try (RowCursor cursor = table.openRowCursor()) {
+      assertThat(cursor.next().getValuesList()).hasSize(4);
+    }
+  }
+
+  /**
+   * This method should fail because the visitor is {@code null}.
+   */
+  @Test
+  public void should_fail_because_visitor_is_null() {
+    try {
+      new Table(source, "movie").forEachRow(null);
+      fail("An exception must be raised");
+    } catch (NullPointerException e) {
+      assertThat(e.getMessage()).isEqualTo("The visitor must be not null");
+    }
+  }
+
+  /**
+   * This method should fail because the fetch size is negative.
+   */
+  @Test
+  public void should_fail_because_fetch_size_is_negative() {
+    try {
+      new Table(source, "movie").setFetchSize(-1);
+      fail("An exception must be raised");
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage()).isEqualTo("The fetch size must be greater than or equal to 0");
+    }
+  }
+}
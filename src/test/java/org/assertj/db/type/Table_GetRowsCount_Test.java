@@ -0,0 +1,66 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Tests on the {@code getRowsCount} method of {@code Table}.
+ *
+ * @author Régis Pouiller
+ */
+public class Table_GetRowsCount_Test extends AbstractTest {
+
+  /**
+   * This method tests that the rows are counted without being loaded.
+   */
+  @Test
+  @NeedReload
+  public void test_rows_count_without_loading() {
+    Table table = new Table(source, "movie");
+    assertThat(table.getRowsCount()).isEqualTo(3);
+
+    update("insert into movie values(4, 'Ghostbusters', 2016, '30B443AE-C0C9-4790-9BEC-CE1380808435')");
+    // The number counted is kept until the loading
+    assertThat(table.getRowsCount()).isEqualTo(3);
+    // The rows were not loaded by the counting
+    assertThat(table.getRowsList()).hasSize(4);
+    assertThat(table.getRowsCount()).isEqualTo(4);
+
+    update("delete from movie where id = 4");
+    // The rows are loaded so they are counted in memory
+    assertThat(table.getRowsCount()).isEqualTo(4);
+  }
+
+  /**
+   * This method should fail because the connection to the database fails (the rows are not loaded instead).
+   */
+  @Test
+  public void should_fail_because_the_connection_fails() {
+    Table table = new Table(new Source("jdbc:h2:mem:test", "wrong", "wrong"), "movie");
+    try {
+      table.getRowsCount();
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getCause()).isInstanceOf(SQLException.class);
+    }
+  }
+}
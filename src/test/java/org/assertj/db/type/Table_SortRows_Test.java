@@ -0,0 +1,139 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.lettercase.LetterCase;
+import org.assertj.db.util.RowComparator;
+import org.junit.Test;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on the sort of the rows of a {@code Table}.
+ *
+ * @author Régis Pouiller
+ */
+public class Table_SortRows_Test extends AbstractTest {
+
+  /**
+   * This method tests the default parallelism of the sort and the order by primary key.
+   */
+  @Test
+  public void test_default_values() {
+    Table table = new Table(source, "movie");
+    assertThat(table.getSortParallelism()).isEqualTo(1);
+    assertThat(table.setSortParallelism(4)).isSameAs(table);
+    assertThat(table.getSortParallelism()).isEqualTo(4);
+    assertThat(table.isOrderedByPrimaryKey()).isFalse();
+    assertThat(table.setOrderedByPrimaryKey(true)).isSameAs(table);
+    assertThat(table.isOrderedByPrimaryKey()).isTrue();
+    assertThat(table.getRequest()).isEqualTo("SELECT * FROM MOVIE");
+  }
+
+  /**
+   * This method should fail because the parallelism of the sort is less than 1.
+   */
+  @Test
+  public void should_fail_because_sort_parallelism_is_less_than_1() {
+    try {
+      new Table(source, "movie").setSortParallelism(0);
+      fail("An exception must be raised");
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage()).isEqualTo("The sort parallelism must be greater than or equal to 1");
+    }
+  }
+
+  /**
+   * This method tests that the rows read in the order of the primary keys are the same.
+   */
+  @Test
+  public void test_rows_ordered_by_primary_key_are_the_same() {
+    for (String name : new String[] { "movie", "actor", "interpretation", "test", "test2" }) {
+      Table table = new Table(source, name);
+      Table orderedTable = new Table(source, name).setOrderedByPrimaryKey(true).setSortParallelism(2);
+
+      List<Row> rowsList = table.getRowsList();
+      List<Row> orderedRowsList = orderedTable.getRowsList();
+      assertThat(orderedRowsList).hasSameSizeAs(rowsList);
+      for (int index = 0; index < rowsList.size(); index++) {
+        assertThat(orderedRowsList.get(index).hasValues(rowsList.get(index))).isTrue();
+      }
+    }
+  }
+
+  /**
+   * This method tests that the order of a parallel sort is the one of {@code RowComparator}.
+   */
+  @Test
+  public void test_parallel_sort_has_the_order_of_the_comparator() {
+    Random random = new Random(0);
+    RowSchema schema = new RowSchema(Arrays.asList("COL2"), Arrays.asList("COL1", "COL2", "COL3"),
+                                     LetterCase.COLUMN_DEFAULT, LetterCase.PRIMARY_KEY_DEFAULT);
+    List<Row> rowsList = new ArrayList<>();
+    for (int index = 0; index < RowSorter.MIN_CHUNK_SIZE * 5 + 3; index++) {
+      rowsList.add(new Row(schema, Arrays.asList(
+              new Value("COL1", random.nextInt(5) == 0 ? null : random.nextInt(50), LetterCase.COLUMN_DEFAULT),
+              new Value("COL2", random.nextInt(4) == 0 ? null : "text" + random.nextInt(30), LetterCase.COLUMN_DEFAULT),
+              new Value("COL3", new byte[] { (byte) index }, LetterCase.COLUMN_DEFAULT))));
+    }
+    List<Row> expectedRowsList = new ArrayList<>(rowsList);
+    Collections.sort(expectedRowsList, RowComparator.INSTANCE);
+
+    for (int parallelism : new int[] { 1, 2, 3, 4 }) {
+      List<Row> sortedRowsList = new ArrayList<>(rowsList);
+      RowSorter.sort(sortedRowsList, parallelism);
+      assertThat(sortedRowsList).containsExactlyElementsOf(expectedRowsList);
+    }
+  }
+
+  /**
+   * This method tests that the sort of rows with different primary keys only reads the values of the primary keys.
+   */
+  @Test
+  public void test_sort_only_reads_the_primary_keys() {
+    RowSchema schema = new RowSchema(Arrays.asList("COL2"), Arrays.asList("COL1", "COL2"),
+                                     LetterCase.COLUMN_DEFAULT, LetterCase.PRIMARY_KEY_DEFAULT);
+    final List<Integer> readIndexesList = new ArrayList<>();
+    List<Row> rowsList = new ArrayList<>();
+    for (int index = 0; index < 10; index++) {
+      final List<Value> valuesList = Arrays.asList(new Value("COL1", index, LetterCase.COLUMN_DEFAULT),
+                                                   new Value("COL2", 10 - index, LetterCase.COLUMN_DEFAULT));
+      rowsList.add(new Row(schema, new AbstractList<Value>() {
+        @Override
+        public Value get(int valueIndex) {
+          readIndexesList.add(valueIndex);
+          return valuesList.get(valueIndex);
+        }
+
+        @Override
+        public int size() {
+          return valuesList.size();
+        }
+      }));
+    }
+
+    RowSorter.sort(rowsList, 1);
+    assertThat(rowsList.get(0).getPkValue(0).getValue()).isEqualTo(1);
+    assertThat(rowsList.get(9).getPkValue(0).getValue()).isEqualTo(10);
+    assertThat(readIndexesList).containsOnly(1);
+  }
+}
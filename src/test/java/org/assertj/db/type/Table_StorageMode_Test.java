@@ -0,0 +1,84 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on the mode of storage of the rows of a {@code Table}.
+ *
+ * @author Régis Pouiller
+ */
+public class Table_StorageMode_Test extends AbstractTest {
+
+  /**
+   * This method tests the default mode of storage.
+   */
+  @Test
+  public void test_default_storage_mode() {
+    Table table = new Table(source, "movie");
+    assertThat(table.getStorageMode()).isEqualTo(StorageMode.ROWS);
+    assertThat(table.setStorageMode(StorageMode.COLUMNAR)).isSameAs(table);
+    assertThat(table.getStorageMode()).isEqualTo(StorageMode.COLUMNAR);
+  }
+
+  /**
+   * This method should fail because the mode of storage is {@code null}.
+   */
+  @Test
+  public void should_fail_because_storage_mode_is_null() {
+    try {
+      new Table(source, "movie").setStorageMode(null);
+      fail("An exception must be raised");
+    } catch (NullPointerException e) {
+      assertThat(e.getMessage()).isEqualTo("The storage mode must be not null");
+    }
+  }
+
+  /**
+   * This method tests that the values in columnar mode are the same than in the default mode.
+   */
+  @Test
+  public void test_columnar_values_are_the_same() {
+    for (String name : new String[] { "movie", "actor", "interpretation", "test", "test2" }) {
+      Table table = new Table(source, name);
+      Table columnarTable = new Table(source, name).setStorageMode(StorageMode.COLUMNAR);
+
+      assertThat(columnarTable.getColumnsNameList()).isEqualTo(table.getColumnsNameList());
+      assertThat(columnarTable.getPksNameList()).isEqualTo(table.getPksNameList());
+      List<Row> rowsList = table.getRowsList();
+      List<Row> columnarRowsList = columnarTable.getRowsList();
+      assertThat(columnarRowsList).hasSameSizeAs(rowsList);
+      for (int rowIndex = 0; rowIndex < rowsList.size(); rowIndex++) {
+        Row row = rowsList.get(rowIndex);
+        Row columnarRow = columnarRowsList.get(rowIndex);
+        assertThat(columnarRow.getPksNameList()).isEqualTo(row.getPksNameList());
+        assertThat(columnarRow.getValuesList()).hasSameSizeAs(row.getValuesList());
+        for (int columnIndex = 0; columnIndex < row.getValuesList().size(); columnIndex++) {
+          Value value = row.getColumnValue(columnIndex);
+          Value columnarValue = columnarRow.getColumnValue(columnIndex);
+          assertThat(columnarValue.getColumnName()).isEqualTo(value.getColumnName());
+          assertThat(columnarValue.getValueType()).isEqualTo(value.getValueType());
+          assertThat(columnarValue.getValue()).isEqualTo(value.getValue());
+        }
+        assertThat(columnarRow.hasValues(row)).isTrue();
+      }
+    }
+  }
+}
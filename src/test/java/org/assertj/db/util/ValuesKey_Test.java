@@ -0,0 +1,59 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on {@code ValuesKey} class.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class ValuesKey_Test extends AbstractTest {
+
+  /**
+   * This method tests the equality of the keys.
+   */
+  @Test
+  public void test_equals() throws Exception {
+    ValuesKey key = new ValuesKey(getValue(null, 1), getValue(null, "text"));
+
+    assertThat(key).isEqualTo(key);
+    assertThat(key).isEqualTo(new ValuesKey(getValue(null, 1L), getValue(null, "text")));
+    assertThat(key).isEqualTo(new ValuesKey(getValue(null, new BigDecimal("1.0")), getValue(null, "text")));
+    assertThat(key).isNotEqualTo(new ValuesKey(getValue(null, 2), getValue(null, "text")));
+    assertThat(key).isNotEqualTo(new ValuesKey(getValue(null, 1)));
+    assertThat(key).isNotEqualTo("text");
+    assertThat(new ValuesKey(getValue(null, null))).isEqualTo(new ValuesKey(getValue(null, null)));
+  }
+
+  /**
+   * This method tests the use of the keys in a {@code Map}.
+   */
+  @Test
+  public void test_in_map() throws Exception {
+    Map<ValuesKey, String> map = new HashMap<>();
+    map.put(new ValuesKey(getValue(null, 1), getValue(null, "text")), "value");
+
+    assertThat(map.get(new ValuesKey(getValue(null, new BigDecimal(1)), getValue(null, "text")))).isEqualTo("value");
+    assertThat(map.get(new ValuesKey(getValue(null, 1), getValue(null, "other")))).isNull();
+  }
+}
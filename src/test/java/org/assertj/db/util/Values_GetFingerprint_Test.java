@@ -0,0 +1,109 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on {@code getFingerprint} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Values_GetFingerprint_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code getFingerprint} method for numbers.
+   */
+  @Test
+  public void test_get_fingerprint_for_numbers() throws Exception {
+    long fingerprint = Values.getFingerprint(getValue(null, 1));
+    assertThat(Values.getFingerprint(getValue(null, (byte) 1))).isEqualTo(fingerprint);
+    assertThat(Values.getFingerprint(getValue(null, (short) 1))).isEqualTo(fingerprint);
+    assertThat(Values.getFingerprint(getValue(null, 1L))).isEqualTo(fingerprint);
+    assertThat(Values.getFingerprint(getValue(null, 1f))).isEqualTo(fingerprint);
+    assertThat(Values.getFingerprint(getValue(null, 1d))).isEqualTo(fingerprint);
+    assertThat(Values.getFingerprint(getValue(null, new BigInteger("1")))).isEqualTo(fingerprint);
+    assertThat(Values.getFingerprint(getValue(null, new BigDecimal("1")))).isEqualTo(fingerprint);
+    assertThat(Values.getFingerprint(getValue(null, new BigDecimal("1.00")))).isEqualTo(fingerprint);
+
+    assertThat(Values.getFingerprint(getValue(null, new BigDecimal("0.00"))))
+            .isEqualTo(Values.getFingerprint(getValue(null, 0)));
+    assertThat(Values.getFingerprint(getValue(null, new BigDecimal("0.10"))))
+            .isEqualTo(Values.getFingerprint(getValue(null, 0.1d)))
+            .isEqualTo(Values.getFingerprint(getValue(null, 0.1f)));
+    assertThat(Values.getFingerprint(getValue(null, new BigInteger("100000000000000000000"))))
+            .isEqualTo(Values.getFingerprint(getValue(null, new BigDecimal("1E+20"))))
+            .isEqualTo(Values.getFingerprint(getValue(null, 1e20d)));
+
+    assertThat(Values.getFingerprint(getValue(null, 2))).isNotEqualTo(fingerprint);
+    assertThat(Values.getFingerprint(getValue(null, -1))).isNotEqualTo(fingerprint);
+    assertThat(Values.getFingerprint(getValue(null, new BigDecimal("0.4"))))
+            .isNotEqualTo(Values.getFingerprint(getValue(null, new BigDecimal("0.07"))));
+  }
+
+  /**
+   * This method tests the {@code getFingerprint} method for the other types.
+   */
+  @Test
+  public void test_get_fingerprint_for_other_types() throws Exception {
+    assertThat(Values.getFingerprint(getValue(null, null))).isEqualTo(0L);
+    assertThat(Values.getFingerprint(getValue(null, "T"))).isEqualTo(Values.getFingerprint(getValue(null, 'T')));
+    assertThat(Values.getFingerprint(getValue(null, "T"))).isNotEqualTo(Values.getFingerprint(getValue(null, "t")));
+    assertThat(Values.getFingerprint(getValue(null, new byte[] { 1, 2 })))
+            .isEqualTo(Values.getFingerprint(getValue(null, new byte[] { 1, 2 })))
+            .isNotEqualTo(Values.getFingerprint(getValue(null, new byte[] { 2, 1 })));
+    assertThat(Values.getFingerprint(getValue(null, Date.valueOf("2007-12-23"))))
+            .isEqualTo(Values.getFingerprint(getValue(null, Date.valueOf("2007-12-23"))))
+            .isNotEqualTo(Values.getFingerprint(getValue(null, Date.valueOf("2007-12-24"))));
+    assertThat(Values.getFingerprint(getValue(null, Time.valueOf("09:01:00"))))
+            .isEqualTo(Values.getFingerprint(getValue(null, Time.valueOf("09:01:00"))))
+            .isNotEqualTo(Values.getFingerprint(getValue(null, Time.valueOf("09:01:01"))));
+    assertThat(Values.getFingerprint(getValue(null, Timestamp.valueOf("2007-12-23 09:01:00"))))
+            .isEqualTo(Values.getFingerprint(getValue(null, Timestamp.valueOf("2007-12-23 09:01:00"))))
+            .isNotEqualTo(Values.getFingerprint(getValue(null, Timestamp.valueOf("2007-12-23 09:01:01"))));
+    assertThat(Values.getFingerprint(getValue(null, UUID.fromString("30B443AE-C0C9-4790-9BEC-CE1380808435"))))
+            .isEqualTo(Values.getFingerprint(getValue(null, UUID.fromString("30B443AE-C0C9-4790-9BEC-CE1380808435"))));
+    assertThat(Values.getFingerprint(getValue(null, true)))
+            .isEqualTo(Values.getFingerprint(getValue(null, true)))
+            .isNotEqualTo(Values.getFingerprint(getValue(null, false)));
+    assertThat(Values.getFingerprint(getValue(null, new Object())))
+            .isEqualTo(Values.getFingerprint(getValue(null, new Object())));
+  }
+
+  /**
+   * This method tests the {@code getFingerprint} method for a list of values.
+   */
+  @Test
+  public void test_get_fingerprint_for_a_list_of_values() throws Exception {
+    long fingerprint = Values.getFingerprint(Arrays.asList(getValue(null, 1), getValue(null, "text")));
+    assertThat(Values.getFingerprint(Arrays.asList(getValue(null, 1L), getValue(null, "text")))).isEqualTo(fingerprint);
+    assertThat(Values.getFingerprint(Arrays.asList(getValue(null, new BigDecimal("1.0")), getValue(null, "text"))))
+            .isEqualTo(fingerprint);
+    assertThat(Values.getFingerprint(Arrays.asList(getValue(null, "text"), getValue(null, 1)))).isNotEqualTo(fingerprint);
+    assertThat(Values.getFingerprint(Arrays.asList(getValue(null, 1)))).isNotEqualTo(fingerprint);
+    assertThat(Values.getFingerprint(Arrays.asList(getValue(null, 1), getValue(null, "text"), getValue(null, null))))
+            .isNotEqualTo(fingerprint);
+  }
+}
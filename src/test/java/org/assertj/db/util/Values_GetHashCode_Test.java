@@ -0,0 +1,79 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on {@code getHashCode} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Values_GetHashCode_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code getHashCode} method for numbers.
+   */
+  @Test
+  public void test_get_hash_code_for_numbers() throws Exception {
+    int hashCode = Values.getHashCode(getValue(null, 1));
+    assertThat(Values.getHashCode(getValue(null, (byte) 1))).isEqualTo(hashCode);
+    assertThat(Values.getHashCode(getValue(null, (short) 1))).isEqualTo(hashCode);
+    assertThat(Values.getHashCode(getValue(null, 1L))).isEqualTo(hashCode);
+    assertThat(Values.getHashCode(getValue(null, 1f))).isEqualTo(hashCode);
+    assertThat(Values.getHashCode(getValue(null, 1d))).isEqualTo(hashCode);
+    assertThat(Values.getHashCode(getValue(null, new BigInteger("1")))).isEqualTo(hashCode);
+    assertThat(Values.getHashCode(getValue(null, new BigDecimal("1")))).isEqualTo(hashCode);
+    assertThat(Values.getHashCode(getValue(null, new BigDecimal("1.00")))).isEqualTo(hashCode);
+
+    assertThat(Values.getHashCode(getValue(null, new BigDecimal("0.00"))))
+            .isEqualTo(Values.getHashCode(getValue(null, 0)));
+    assertThat(Values.getHashCode(getValue(null, new BigDecimal("0.10"))))
+            .isEqualTo(Values.getHashCode(getValue(null, 0.1d)))
+            .isEqualTo(Values.getHashCode(getValue(null, 0.1f)));
+    assertThat(Values.getHashCode(getValue(null, new BigInteger("100000000000000000000"))))
+            .isEqualTo(Values.getHashCode(getValue(null, new BigDecimal("1E+20"))))
+            .isEqualTo(Values.getHashCode(getValue(null, 1e20d)));
+  }
+
+  /**
+   * This method tests the {@code getHashCode} method for the other types.
+   */
+  @Test
+  public void test_get_hash_code_for_other_types() throws Exception {
+    assertThat(Values.getHashCode(getValue(null, null))).isEqualTo(0);
+    assertThat(Values.getHashCode(getValue(null, "T"))).isEqualTo(Values.getHashCode(getValue(null, 'T')));
+    assertThat(Values.getHashCode(getValue(null, new byte[] { 1, 2 })))
+            .isEqualTo(Values.getHashCode(getValue(null, new byte[] { 1, 2 })));
+    assertThat(Values.getHashCode(getValue(null, Date.valueOf("2007-12-23"))))
+            .isEqualTo(Values.getHashCode(getValue(null, Date.valueOf("2007-12-23"))));
+    assertThat(Values.getHashCode(getValue(null, Time.valueOf("09:01:00"))))
+            .isEqualTo(Values.getHashCode(getValue(null, Time.valueOf("09:01:00"))));
+    assertThat(Values.getHashCode(getValue(null, Timestamp.valueOf("2007-12-23 09:01:00"))))
+            .isEqualTo(Values.getHashCode(getValue(null, Timestamp.valueOf("2007-12-23 09:01:00"))));
+    assertThat(Values.getHashCode(getValue(null, UUID.fromString("30B443AE-C0C9-4790-9BEC-CE1380808435"))))
+            .isEqualTo(UUID.fromString("30B443AE-C0C9-4790-9BEC-CE1380808435").hashCode());
+    assertThat(Values.getHashCode(getValue(null, true))).isEqualTo(Boolean.TRUE.hashCode());
+  }
+}